@@ -2,7 +2,14 @@ package team.creative.neolittletiles;
 
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.common.NeoForge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.client.gui.NeoLittleTilesGuiRegistry;
+import team.creative.neolittletiles.client.render.NeoTilesModelRegistry;
+import team.creative.neolittletiles.common.block.NeoTilesUpdateScheduler;
+import team.creative.neolittletiles.common.network.NeoNetwork;
 
 /**
  * NeoLittleTiles - High-Performance Tile Construction System
@@ -19,31 +26,43 @@ import team.creative.neolittletiles.client.gui.NeoLittleTilesGuiRegistry;
 @Mod(NeoLittleTiles.MODID)
 public class NeoLittleTiles {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoLittleTiles.class);
+    
     public static final String MODID = "neolittletiles";
     public static final String NAME = "NeoLittleTiles";
     public static final String VERSION = "1.0.0-pre1";
     
     public NeoLittleTiles(IEventBus modEventBus) {
-        System.out.println("NeoLittleTiles initialized - High-Performance Tile Construction System");
-        System.out.println("Version: " + VERSION);
+        LOGGER.info("{} {} initialized - High-Performance Tile Construction System", NAME, VERSION);
         
         // Register mod content with proper event bus
         NeoLittleTilesRegistry.register(modEventBus);
         
+        // Register network payloads
+        modEventBus.addListener(NeoNetwork::register);
+        
+        // Bake static tile blocks into chunk section meshes
+        if (FMLEnvironment.dist.isClient()) {
+            modEventBus.addListener(NeoTilesModelRegistry::onModifyBakingResult);
+        }
+        
+        // Batch block entity updates to the end of each tick
+        NeoForge.EVENT_BUS.register(NeoTilesUpdateScheduler.class);
+        
         // Register GUI system
         NeoLittleTilesGuiRegistry.register();
         
-        System.out.println("Core classes loaded successfully:");
-        System.out.println("  - NeoGrid: Optimized grid system with bit operations");
-        System.out.println("  - NeoBox: Efficient 3D coordinate system");
-        System.out.println("  - NeoTile: Flattened tile structure");
-        System.out.println("  - NeoAction: Reduced allocation action system");
-        System.out.println("  - NeoBlueprint: NBT-based LittleTiles compatibility");
-        System.out.println("MVP Tools implemented:");
-        System.out.println("  - NeoChisel: Precision tile placement tool");
-        System.out.println("  - NeoHammer: Efficient tile destruction tool");
-        System.out.println("  - NeoBlueprint: Structure save/load system");
-        System.out.println("  - NeoTilesBlock: Container block for tiles");
-        System.out.println("Ready for high-performance tile construction!");
+        LOGGER.debug("Core classes loaded successfully:");
+        LOGGER.debug("  - NeoGrid: Optimized grid system with bit operations");
+        LOGGER.debug("  - NeoBox: Efficient 3D coordinate system");
+        LOGGER.debug("  - NeoTile: Flattened tile structure");
+        LOGGER.debug("  - NeoAction: Reduced allocation action system");
+        LOGGER.debug("  - NeoBlueprint: NBT-based LittleTiles compatibility");
+        LOGGER.debug("MVP Tools implemented:");
+        LOGGER.debug("  - NeoChisel: Precision tile placement tool");
+        LOGGER.debug("  - NeoHammer: Efficient tile destruction tool");
+        LOGGER.debug("  - NeoBlueprint: Structure save/load system");
+        LOGGER.debug("  - NeoTilesBlock: Container block for tiles");
+        LOGGER.debug("Ready for high-performance tile construction!");
     }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.neoforge.registries.DeferredRegister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.block.NeoTilesBlock;
 import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
 import team.creative.neolittletiles.common.item.NeoBlueprintItem;
@@ -29,6 +31,8 @@ import java.util.function.Supplier;
  */
 public class NeoLittleTilesRegistry {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoLittleTilesRegistry.class);
+    
     // Registry names
     public static final String NEOTILES_BLOCK_ID = "neotiles";
     public static final String NEOTILES_BLOCK_ENTITY_ID = "neotiles";
@@ -72,27 +76,27 @@ public class NeoLittleTilesRegistry {
      * Called during mod construction
      */
     public static void register(IEventBus modEventBus) {
-        System.out.println("Registering NeoLittleTiles deferred registers...");
+        LOGGER.debug("Registering NeoLittleTiles deferred registers...");
         
         BLOCKS.register(modEventBus);
         ITEMS.register(modEventBus);
         BLOCK_ENTITIES.register(modEventBus);
         CREATIVE_TABS.register(modEventBus);
         
-        System.out.println("NeoLittleTiles registration completed:");
-        System.out.println("  - " + NEOTILES_BLOCK_ID + " block");
-        System.out.println("  - " + NEOTILES_BLOCK_ENTITY_ID + " block entity");
-        System.out.println("  - " + NEOCHISEL_ITEM_ID + " item");
-        System.out.println("  - " + NEOHAMMER_ITEM_ID + " item");
-        System.out.println("  - " + NEOBLUEPRINT_ITEM_ID + " item");
-        System.out.println("  - neolittletiles creative tab");
+        LOGGER.debug("NeoLittleTiles registration completed:");
+        LOGGER.debug("  - {} block", NEOTILES_BLOCK_ID);
+        LOGGER.debug("  - {} block entity", NEOTILES_BLOCK_ENTITY_ID);
+        LOGGER.debug("  - {} item", NEOCHISEL_ITEM_ID);
+        LOGGER.debug("  - {} item", NEOHAMMER_ITEM_ID);
+        LOGGER.debug("  - {} item", NEOBLUEPRINT_ITEM_ID);
+        LOGGER.debug("  - neolittletiles creative tab");
     }
     
     /**
      * Legacy register method for compatibility
      */
     public static void register() {
-        System.out.println("Warning: Using legacy register() method. Use register(IEventBus) instead.");
+        LOGGER.warn("Using legacy register() method. Use register(IEventBus) instead.");
     }
     
     /**
@@ -1,5 +1,8 @@
 package team.creative.neolittletiles.client.gui;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * NeoLittleTilesGuiRegistry - CreativeCore GUI integration for mod interfaces
  * 
@@ -13,6 +16,8 @@ package team.creative.neolittletiles.client.gui;
  */
 public class NeoLittleTilesGuiRegistry {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoLittleTilesGuiRegistry.class);
+    
     // GUI identifiers
     public static final String BLUEPRINT_GUI_ID = "blueprint";
     public static final String TOOL_CONFIG_GUI_ID = "tool_config";
@@ -23,21 +28,21 @@ public class NeoLittleTilesGuiRegistry {
      * Register all NeoLittleTiles GUIs with CreativeCore
      */
     public static void register() {
-        System.out.println("Registering NeoLittleTiles GUIs with CreativeCore...");
+        LOGGER.debug("Registering NeoLittleTiles GUIs with CreativeCore...");
         
         registerBlueprintGUI();
         registerToolConfigGUI();
         registerStructurePreviewGUI();
         registerGridSelectorGUI();
         
-        System.out.println("NeoLittleTiles GUI registration completed");
+        LOGGER.debug("NeoLittleTiles GUI registration completed");
     }
     
     /**
      * Register blueprint import/export GUI
      */
     private static void registerBlueprintGUI() {
-        System.out.println("Registering Blueprint GUI");
+        LOGGER.debug("Registering Blueprint GUI");
         
         // TODO: Implement when CreativeCore GUI classes are available
         // GuiRegistry.register(BLUEPRINT_GUI_ID, BlueprintGui.class);
@@ -47,7 +52,7 @@ public class NeoLittleTilesGuiRegistry {
      * Register tool configuration GUI
      */
     private static void registerToolConfigGUI() {
-        System.out.println("Registering Tool Config GUI");
+        LOGGER.debug("Registering Tool Config GUI");
         
         // TODO: Implement when CreativeCore GUI classes are available
         // GuiRegistry.register(TOOL_CONFIG_GUI_ID, ToolConfigGui.class);
@@ -57,7 +62,7 @@ public class NeoLittleTilesGuiRegistry {
      * Register structure preview GUI
      */
     private static void registerStructurePreviewGUI() {
-        System.out.println("Registering Structure Preview GUI");
+        LOGGER.debug("Registering Structure Preview GUI");
         
         // TODO: Implement when CreativeCore GUI classes are available
         // GuiRegistry.register(STRUCTURE_PREVIEW_GUI_ID, StructurePreviewGui.class);
@@ -67,7 +72,7 @@ public class NeoLittleTilesGuiRegistry {
      * Register grid selector GUI
      */
     private static void registerGridSelectorGUI() {
-        System.out.println("Registering Grid Selector GUI");
+        LOGGER.debug("Registering Grid Selector GUI");
         
         // TODO: Implement when CreativeCore GUI classes are available
         // GuiRegistry.register(GRID_SELECTOR_GUI_ID, GridSelectorGui.class);
@@ -79,7 +84,7 @@ public class NeoLittleTilesGuiRegistry {
      * @param blueprintItem Blueprint item stack
      */
     public static void openBlueprintGUI(Object player, Object blueprintItem) {
-        System.out.println("Opening Blueprint GUI for player");
+        LOGGER.debug("Opening Blueprint GUI for player");
         
         // TODO: Implement when CreativeCore GUI opening is available
         // GuiApi.open(BLUEPRINT_GUI_ID, player, blueprintItem);
@@ -91,7 +96,7 @@ public class NeoLittleTilesGuiRegistry {
      * @param toolItem Tool item stack
      */
     public static void openToolConfigGUI(Object player, Object toolItem) {
-        System.out.println("Opening Tool Config GUI for player");
+        LOGGER.debug("Opening Tool Config GUI for player");
         
         // TODO: Implement when CreativeCore GUI opening is available
         // GuiApi.open(TOOL_CONFIG_GUI_ID, player, toolItem);
@@ -103,7 +108,7 @@ public class NeoLittleTilesGuiRegistry {
      * @param previewData Structure preview data
      */
     public static void openStructurePreviewGUI(Object player, Object previewData) {
-        System.out.println("Opening Structure Preview GUI for player");
+        LOGGER.debug("Opening Structure Preview GUI for player");
         
         // TODO: Implement when CreativeCore GUI opening is available
         // GuiApi.open(STRUCTURE_PREVIEW_GUI_ID, player, previewData);
@@ -115,7 +120,7 @@ public class NeoLittleTilesGuiRegistry {
      * @param currentGrid Current grid setting
      */
     public static void openGridSelectorGUI(Object player, Object currentGrid) {
-        System.out.println("Opening Grid Selector GUI for player");
+        LOGGER.debug("Opening Grid Selector GUI for player");
         
         // TODO: Implement when CreativeCore GUI opening is available
         // GuiApi.open(GRID_SELECTOR_GUI_ID, player, currentGrid);
@@ -0,0 +1,95 @@
+package team.creative.neolittletiles.client.render;
+
+/**
+ * NeoFrustum - View frustum for culling whole tile blocks
+ * 
+ * The six planes are extracted from a combined projection * view matrix
+ * (column-major, as produced by JOML's Matrix4f.get(float[])). Boxes are
+ * given in world coordinates and tested relative to the camera position,
+ * which keeps the floats small far away from the world origin.
+ * 
+ * The test is conservative: boxes crossing a plane count as visible.
+ */
+public class NeoFrustum {
+    
+    private final float[] planes = new float[24]; // (a, b, c, d) per plane
+    private final double cameraX;
+    private final double cameraY;
+    private final double cameraZ;
+    
+    /**
+     * Create a frustum from a camera relative projection * view matrix
+     * @param matrix Column-major 4x4 matrix
+     * @param cameraX Camera x in world coordinates
+     * @param cameraY Camera y in world coordinates
+     * @param cameraZ Camera z in world coordinates
+     */
+    public NeoFrustum(float[] matrix, double cameraX, double cameraY, double cameraZ) {
+        if (matrix.length != 16) {
+            throw new IllegalArgumentException("Expected a 4x4 matrix but got " + matrix.length + " values");
+        }
+        this.cameraX = cameraX;
+        this.cameraY = cameraY;
+        this.cameraZ = cameraZ;
+        
+        // left, right, bottom, top, near, far: row 3 +/- row 0, 1, 2
+        for (int i = 0; i < 6; i++) {
+            int row = i >> 1;
+            float sign = (i & 1) == 0 ? 1 : -1;
+            float a = matrix[3] + sign * matrix[row];
+            float b = matrix[7] + sign * matrix[4 + row];
+            float c = matrix[11] + sign * matrix[8 + row];
+            float d = matrix[15] + sign * matrix[12 + row];
+            float length = (float) Math.sqrt(a * a + b * b + c * c);
+            if (length > 0) {
+                a /= length;
+                b /= length;
+                c /= length;
+                d /= length;
+            }
+            planes[i * 4] = a;
+            planes[i * 4 + 1] = b;
+            planes[i * 4 + 2] = c;
+            planes[i * 4 + 3] = d;
+        }
+    }
+    
+    /**
+     * Check if a box is at least partially inside the frustum
+     * @return false if the box is completely outside of one plane
+     */
+    public boolean isVisible(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        float x0 = (float) (minX - cameraX), y0 = (float) (minY - cameraY), z0 = (float) (minZ - cameraZ);
+        float x1 = (float) (maxX - cameraX), y1 = (float) (maxY - cameraY), z1 = (float) (maxZ - cameraZ);
+        
+        for (int i = 0; i < 24; i += 4) {
+            float a = planes[i], b = planes[i + 1], c = planes[i + 2];
+            
+            // Corner furthest along the plane normal
+            float x = a >= 0 ? x1 : x0;
+            float y = b >= 0 ? y1 : y0;
+            float z = c >= 0 ? z1 : z0;
+            if (a * x + b * y + c * z + planes[i + 3] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public double getCameraX() {
+        return cameraX;
+    }
+    
+    public double getCameraY() {
+        return cameraY;
+    }
+    
+    public double getCameraZ() {
+        return cameraZ;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoFrustum[camera=(%.1f, %.1f, %.1f)]", cameraX, cameraY, cameraZ);
+    }
+}
@@ -0,0 +1,152 @@
+package team.creative.neolittletiles.client.render;
+
+/**
+ * NeoMeshBuffer - Double-buffered mesh slot of one block entity
+ * 
+ * The front mesh is the one being drawn and is only touched on the render
+ * thread. Workers hand finished meshes to the back slot; the render thread
+ * swaps them in at a safe point (the "upload"). Every rebuild request gets a
+ * new generation number, results of older generations are dropped as stale.
+ * The latest request stays in flight until its mesh is swapped in, callers
+ * check needsBuild() so a slow build is not superseded every frame.
+ */
+public class NeoMeshBuffer {
+    
+    private NeoTileMesh front = NeoTileMesh.EMPTY;
+    private NeoTileMesh back;
+    private long requested;
+    private long backGeneration;
+    private long pending; // Generation of the build in flight, 0 if none
+    private boolean hasFront;
+    private NeoTileLod.Level level = NeoTileLod.Level.FULL;
+    private NeoTranslucentSorter sorter;
+    
+    /**
+     * Start a new rebuild, making all older pending builds stale
+     * @return Generation of the new build
+     */
+    public synchronized long request() {
+        pending = ++requested;
+        return pending;
+    }
+    
+    /**
+     * Check if a new build has to be requested (render thread)
+     * 
+     * Without changes, a block that has no mesh yet only needs a build if none
+     * is in flight; requesting again would make the running build stale.
+     * 
+     * @param tilesChanged Whether the tiles changed since the last request
+     * @param level Level of detail wanted now
+     * @return true if the caller should build or submit a new mesh
+     */
+    public synchronized boolean needsBuild(boolean tilesChanged, NeoTileLod.Level level) {
+        return tilesChanged || level != this.level || (!hasFront && pending == 0);
+    }
+    
+    /**
+     * Check if a requested build has not been swapped in yet
+     * @return true while a build is in flight
+     */
+    public synchronized boolean isPending() {
+        return pending != 0;
+    }
+    
+    /**
+     * Check if a build was superseded by a newer request
+     * @param generation Generation of the build
+     * @return true if the result would be discarded
+     */
+    public synchronized boolean isStale(long generation) {
+        return generation != requested;
+    }
+    
+    /**
+     * Hand over a finished mesh (any thread)
+     * @param generation Generation of the build
+     * @param mesh Finished mesh
+     * @return false if the build was stale and the mesh was dropped
+     */
+    public synchronized boolean offer(long generation, NeoTileMesh mesh) {
+        if (generation != requested || generation < backGeneration) {
+            return false;
+        }
+        back = mesh;
+        backGeneration = generation;
+        return true;
+    }
+    
+    /**
+     * Make a pending mesh the front mesh (render thread)
+     * @return true if a new mesh was swapped in
+     */
+    public synchronized boolean swap() {
+        if (back == null) {
+            return false;
+        }
+        front = back;
+        back = null;
+        sorter = null;
+        hasFront = true;
+        if (backGeneration == pending) {
+            pending = 0;
+        }
+        return true;
+    }
+    
+    /**
+     * Set the front mesh directly, e.g. for small blocks built inline (render thread)
+     * @param mesh Finished mesh
+     */
+    public synchronized void setFront(NeoTileMesh mesh) {
+        request();
+        pending = 0;
+        front = mesh;
+        back = null;
+        sorter = null;
+        hasFront = true;
+    }
+    
+    /**
+     * Get the mesh to draw (render thread)
+     * @return Front mesh, EMPTY until the first build finished
+     */
+    public synchronized NeoTileMesh getFront() {
+        return front;
+    }
+    
+    /**
+     * Get the translucent sorter of the front mesh, created on first use (render thread)
+     * @return Sorter, reset whenever the front mesh changes
+     */
+    public synchronized NeoTranslucentSorter getSorter() {
+        if (sorter == null) {
+            sorter = new NeoTranslucentSorter(front);
+        }
+        return sorter;
+    }
+    
+    /**
+     * Check if any mesh was swapped in yet
+     * @return true after the first finished build
+     */
+    public synchronized boolean hasMesh() {
+        return hasFront;
+    }
+    
+    /**
+     * Get the level of detail of the latest requested build (render thread)
+     * @return Level of detail
+     */
+    public synchronized NeoTileLod.Level getLevel() {
+        return level;
+    }
+    
+    /**
+     * Remember the level of detail of a new build (render thread)
+     * @param level Level of detail
+     */
+    public synchronized void setLevel(NeoTileLod.Level level) {
+        this.level = level;
+    }
+}
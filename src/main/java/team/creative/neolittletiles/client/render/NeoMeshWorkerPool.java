@@ -0,0 +1,212 @@
+package team.creative.neolittletiles.client.render;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NeoMeshWorkerPool - Background threads baking tile meshes
+ * 
+ * Moves mesh building off the render thread:
+ * - Jobs carry a snapshot of the tiles and the neighbor face masks, workers
+ *   never touch the live block entity
+ * - Pending jobs are ordered by camera distance, nearest blocks first
+ * - Jobs superseded by a newer request of the same buffer are skipped
+ * - Finished meshes wait in the back slot of their NeoMeshBuffer until the
+ *   render thread calls uploadReady()
+ * 
+ * A pool created with zero threads only runs jobs through runNext(), which
+ * keeps the scheduling deterministic for tests.
+ */
+public class NeoMeshWorkerPool {
+    
+    private final PriorityBlockingQueue<Job> queue = new PriorityBlockingQueue<>();
+    private final Queue<NeoMeshBuffer> ready = new ConcurrentLinkedQueue<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private volatile boolean running = true;
+    
+    /**
+     * Create a pool sized for the current machine (half the cores, 1 to 4 threads)
+     */
+    public NeoMeshWorkerPool() {
+        this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+    
+    /**
+     * Create a pool with a fixed number of daemon threads
+     * @param threadCount Number of worker threads, 0 to only run jobs through runNext()
+     */
+    public NeoMeshWorkerPool(int threadCount) {
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(this::work, "NeoTiles Mesh Builder #" + (i + 1));
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+    
+    /**
+     * Queue a mesh build, superseding earlier builds of the same buffer
+     * @param buffer Mesh buffer receiving the result
+     * @param grid Grid of the tiles
+     * @param snapshot Copy of the tiles owned by the job
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @param distanceSq Squared camera distance used as priority
+     */
+    public void submit(NeoMeshBuffer buffer, NeoGrid grid, NeoTileStore snapshot, NeoFaceMask[] neighborMasks, double distanceSq) {
+        submit(buffer, grid, snapshot, neighborMasks, distanceSq, NeoTileLod.Level.FULL);
+    }
+    
+    /**
+     * Queue a mesh build, superseding earlier builds of the same buffer
+     * @param buffer Mesh buffer receiving the result
+     * @param grid Grid of the tiles
+     * @param snapshot Copy of the tiles owned by the job
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @param distanceSq Squared camera distance used as priority
+     * @param level Level of detail to build
+     */
+    public void submit(NeoMeshBuffer buffer, NeoGrid grid, NeoTileStore snapshot, NeoFaceMask[] neighborMasks, double distanceSq, NeoTileLod.Level level) {
+        long generation = buffer.request();
+        buffer.setLevel(level);
+        submitted.incrementAndGet();
+        queue.add(new Job(buffer, generation, grid, snapshot, neighborMasks, level, distanceSq, sequence.getAndIncrement()));
+    }
+    
+    /**
+     * Run the most urgent pending job on the calling thread
+     * @return false if the queue was empty
+     */
+    public boolean runNext() {
+        Job job = queue.poll();
+        if (job == null) {
+            return false;
+        }
+        run(job);
+        return true;
+    }
+    
+    /**
+     * Swap finished meshes into their buffers (render thread)
+     * @return Number of buffers that received a new mesh
+     */
+    public int uploadReady() {
+        int uploaded = 0;
+        NeoMeshBuffer buffer;
+        while ((buffer = ready.poll()) != null) {
+            if (buffer.swap()) {
+                uploaded++;
+            }
+        }
+        return uploaded;
+    }
+    
+    private void work() {
+        while (running) {
+            try {
+                Job job = queue.poll(1, TimeUnit.SECONDS);
+                if (job != null) {
+                    run(job);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+    
+    private void run(Job job) {
+        if (job.buffer.isStale(job.generation)) {
+            cancelled.incrementAndGet();
+            return;
+        }
+        
+        NeoTileMesh mesh = NeoTileLod.buildMesh(new NeoTileCollection(job.grid, job.snapshot), job.neighborMasks, job.level);
+        if (job.buffer.offer(job.generation, mesh)) {
+            completed.incrementAndGet();
+            ready.add(job.buffer);
+        } else {
+            cancelled.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Stop all worker threads, pending jobs are dropped
+     */
+    public void shutdown() {
+        running = false;
+        queue.clear();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+    }
+    
+    public int getPendingCount() {
+        return queue.size();
+    }
+    
+    public int getThreadCount() {
+        return threads.size();
+    }
+    
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+    
+    public long getCompletedCount() {
+        return completed.get();
+    }
+    
+    public long getCancelledCount() {
+        return cancelled.get();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoMeshWorkerPool[threads=%d, pending=%d, submitted=%d, completed=%d, cancelled=%d]",
+                           threads.size(), queue.size(), submitted.get(), completed.get(), cancelled.get());
+    }
+    
+    private static final class Job implements Comparable<Job> {
+        
+        final NeoMeshBuffer buffer;
+        final long generation;
+        final NeoGrid grid;
+        final NeoTileStore snapshot;
+        final NeoFaceMask[] neighborMasks;
+        final NeoTileLod.Level level;
+        final double distanceSq;
+        final long sequence;
+        
+        Job(NeoMeshBuffer buffer, long generation, NeoGrid grid, NeoTileStore snapshot, NeoFaceMask[] neighborMasks, NeoTileLod.Level level,
+            double distanceSq, long sequence) {
+            this.buffer = buffer;
+            this.generation = generation;
+            this.grid = grid;
+            this.snapshot = snapshot;
+            this.neighborMasks = neighborMasks;
+            this.level = level;
+            this.distanceSq = distanceSq;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public int compareTo(Job other) {
+            int result = Double.compare(distanceSq, other.distanceSq);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
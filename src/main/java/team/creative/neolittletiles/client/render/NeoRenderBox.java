@@ -2,6 +2,7 @@ package team.creative.neolittletiles.client.render;
 
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
 
 /**
  * NeoRenderBox - Rendering representation of NeoBox with BlockState
@@ -10,6 +11,7 @@ import team.creative.neolittletiles.common.math.NeoBox;
  * - Converts grid coordinates to world coordinates
  * - Stores block state and color information
  * - Provides bounds for rendering pipeline
+ * - Carries the mask of faces left visible after culling
  * 
  * Based on analysis of LittleRenderBox.java requirements
  */
@@ -19,6 +21,7 @@ public class NeoRenderBox {
     private final NeoGrid grid;
     private final Object blockState; // Placeholder for BlockState
     private final int color;
+    private int visibleFaces = NeoFace.ALL;
     
     // Cached world coordinates for performance
     private double minX, minY, minZ;
@@ -76,6 +79,31 @@ public class NeoRenderBox {
         return color != 0xFFFFFFFF;
     }
     
+    /**
+     * Get the faces that survived culling
+     * @return Mask of NeoFace flags
+     */
+    public int getVisibleFaces() {
+        return visibleFaces;
+    }
+    
+    /**
+     * Set the faces that should be rendered
+     * @param visibleFaces Mask of NeoFace flags
+     */
+    public void setVisibleFaces(int visibleFaces) {
+        this.visibleFaces = visibleFaces & NeoFace.ALL;
+    }
+    
+    /**
+     * Check if a face should be rendered
+     * @param face Face to check
+     * @return true if the face is not culled
+     */
+    public boolean isFaceVisible(NeoFace face) {
+        return (visibleFaces & face.flag) != 0;
+    }
+    
     /**
      * Calculate world coordinates from grid coordinates
      */
@@ -0,0 +1,178 @@
+package team.creative.neolittletiles.client.render;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
+
+import java.util.Arrays;
+
+/**
+ * NeoRenderBoxBuffer - Reusable, allocation free list of render boxes
+ * 
+ * Structure of arrays replacement for List&lt;NeoRenderBox&gt; on the meshing path:
+ * - Grid boxes as six ints per box, world boxes as six floats per box
+ * - Global palette ids instead of state objects, colors and visible face masks
+ * - clear() keeps the arrays, so a buffer reused per thread stops allocating
+ *   once it has grown to the largest block
+ * 
+ * World coordinates are filled by computeWorldCoords() in one flat pass over
+ * all boxes (grid value times NeoGrid.getPixelSizeF), a loop the JIT can
+ * vectorize.
+ */
+public class NeoRenderBoxBuffer {
+    
+    /** Values per box in the grid and world arrays: minX, minY, minZ, maxX, maxY, maxZ */
+    public static final int STRIDE = 6;
+    
+    private NeoGrid grid = NeoGrid.GRID_16;
+    private int[] boxes;
+    private float[] world;
+    private int[] stateIds;
+    private int[] colors;
+    private int[] visibleFaces;
+    private int size;
+    
+    public NeoRenderBoxBuffer() {
+        this(16);
+    }
+    
+    public NeoRenderBoxBuffer(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.boxes = new int[capacity * STRIDE];
+        this.world = new float[capacity * STRIDE];
+        this.stateIds = new int[capacity];
+        this.colors = new int[capacity];
+        this.visibleFaces = new int[capacity];
+    }
+    
+    /**
+     * Remove all boxes, keeping the allocated arrays
+     * @param grid Grid of the boxes that will be added
+     */
+    public void clear(NeoGrid grid) {
+        this.grid = grid;
+        this.size = 0;
+    }
+    
+    /**
+     * Add a box
+     * @param box Box in grid coordinates (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @param faces Mask of visible NeoFace flags
+     * @return Index of the new box
+     */
+    public int add(NeoBox box, int stateId, int color, int faces) {
+        if (size == colors.length) {
+            int capacity = size << 1;
+            boxes = Arrays.copyOf(boxes, capacity * STRIDE);
+            world = Arrays.copyOf(world, capacity * STRIDE);
+            stateIds = Arrays.copyOf(stateIds, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            visibleFaces = Arrays.copyOf(visibleFaces, capacity);
+        }
+        
+        int offset = size * STRIDE;
+        boxes[offset] = box.minX;
+        boxes[offset + 1] = box.minY;
+        boxes[offset + 2] = box.minZ;
+        boxes[offset + 3] = box.maxX;
+        boxes[offset + 4] = box.maxY;
+        boxes[offset + 5] = box.maxZ;
+        stateIds[size] = stateId;
+        colors[size] = color;
+        visibleFaces[size] = faces;
+        return size++;
+    }
+    
+    /**
+     * Convert all grid boxes to block local world coordinates in one pass
+     */
+    public void computeWorldCoords() {
+        float pixel = grid.getPixelSizeF();
+        int length = size * STRIDE;
+        for (int i = 0; i < length; i++) {
+            world[i] = boxes[i] * pixel;
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public NeoGrid getGrid() {
+        return grid;
+    }
+    
+    /**
+     * Copy a box into a reusable instance
+     * @param index Box index
+     * @param out Box to write to
+     * @return The given box
+     */
+    public NeoBox getBox(int index, NeoBox out) {
+        int offset = index * STRIDE;
+        out.minX = boxes[offset];
+        out.minY = boxes[offset + 1];
+        out.minZ = boxes[offset + 2];
+        out.maxX = boxes[offset + 3];
+        out.maxY = boxes[offset + 4];
+        out.maxZ = boxes[offset + 5];
+        return out;
+    }
+    
+    /**
+     * Get a grid coordinate
+     * @param index Box index
+     * @param axis Axis (0 = x, 1 = y, 2 = z)
+     * @param max true for the max corner
+     * @return Grid coordinate
+     */
+    public int getGridCoord(int index, int axis, boolean max) {
+        return boxes[index * STRIDE + axis + (max ? 3 : 0)];
+    }
+    
+    /**
+     * Get a world coordinate (valid after computeWorldCoords)
+     * @param index Box index
+     * @param axis Axis (0 = x, 1 = y, 2 = z)
+     * @param max true for the max corner
+     * @return Block local world coordinate
+     */
+    public float getWorldCoord(int index, int axis, boolean max) {
+        return world[index * STRIDE + axis + (max ? 3 : 0)];
+    }
+    
+    /**
+     * Get the world coordinate array (do not modify)
+     * @return STRIDE floats per box
+     */
+    public float[] getWorldCoords() {
+        return world;
+    }
+    
+    public int getStateId(int index) {
+        return stateIds[index];
+    }
+    
+    public Object getState(int index) {
+        return NeoTilePalette.GLOBAL.get(stateIds[index]);
+    }
+    
+    public int getColor(int index) {
+        return colors[index];
+    }
+    
+    public int getVisibleFaces(int index) {
+        return visibleFaces[index];
+    }
+    
+    @Override
+    public String toString() {
+        return "NeoRenderBoxBuffer[size=" + size + ", capacity=" + colors.length + ", " + grid + "]";
+    }
+}
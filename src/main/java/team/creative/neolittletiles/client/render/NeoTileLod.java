@@ -0,0 +1,317 @@
+package team.creative.neolittletiles.client.render;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NeoTileLod - Distance based level of detail for tile blocks
+ * 
+ * Far away blocks are drawn with coarser meshes:
+ * - FULL: every tile, culled and greedy meshed
+ * - REDUCED: tiles down-sampled to a REDUCED_GRID grid, each cell takes the
+ *   state and color covering most of its volume
+ * - CUBE: one full cube in the dominant state and color of the block
+ * - IMPOSTOR: a single top quad over the tile footprint
+ * 
+ * Band distances are in blocks and can be changed at runtime; switching back
+ * to a finer level needs the camera to come HYSTERESIS closer than the band
+ * edge, so blocks on a border do not rebuild every frame.
+ */
+public class NeoTileLod {
+    
+    public enum Level {
+        FULL,
+        REDUCED,
+        CUBE,
+        IMPOSTOR
+    }
+    
+    private static final Level[] LEVELS = Level.values();
+    
+    /** Grid size of REDUCED meshes */
+    public static final int REDUCED_GRID = 4;
+    
+    /** Fraction of a band distance the camera must come back before refining */
+    public static final double HYSTERESIS = 0.1;
+    
+    private static volatile double reducedDistance = 32;
+    private static volatile double cubeDistance = 64;
+    private static volatile double impostorDistance = 128;
+    
+    /**
+     * Configure the band distances
+     * @param reduced Distance in blocks from which REDUCED is used
+     * @param cube Distance in blocks from which CUBE is used
+     * @param impostor Distance in blocks from which IMPOSTOR is used
+     * @throws IllegalArgumentException if the distances are negative or not ascending
+     */
+    public static void setBands(double reduced, double cube, double impostor) {
+        if (reduced < 0 || cube < reduced || impostor < cube) {
+            throw new IllegalArgumentException("LOD bands must be ascending: " + reduced + ", " + cube + ", " + impostor);
+        }
+        reducedDistance = reduced;
+        cubeDistance = cube;
+        impostorDistance = impostor;
+    }
+    
+    public static double getReducedDistance() {
+        return reducedDistance;
+    }
+    
+    public static double getCubeDistance() {
+        return cubeDistance;
+    }
+    
+    public static double getImpostorDistance() {
+        return impostorDistance;
+    }
+    
+    /**
+     * Pick the level for a camera distance
+     * @param distanceSq Squared distance to the camera
+     * @return Level of detail
+     */
+    public static Level getLevel(double distanceSq) {
+        return getLevel(distanceSq, Level.FULL);
+    }
+    
+    /**
+     * Pick the level for a camera distance, keeping a coarser current level inside the hysteresis margin
+     * @param distanceSq Squared distance to the camera
+     * @param current Level currently in use
+     * @return Level of detail
+     */
+    public static Level getLevel(double distanceSq, Level current) {
+        double distance = Math.sqrt(distanceSq);
+        Level level = distance >= impostorDistance ? Level.IMPOSTOR
+                    : distance >= cubeDistance ? Level.CUBE
+                    : distance >= reducedDistance ? Level.REDUCED
+                    : Level.FULL;
+        
+        // Only refine once the camera is clearly inside the finer band
+        while (level.ordinal() < current.ordinal() && distance >= getBand(level.ordinal() + 1) * (1 - HYSTERESIS)) {
+            level = LEVELS[level.ordinal() + 1];
+        }
+        return level;
+    }
+    
+    private static double getBand(int ordinal) {
+        return switch (ordinal) {
+            case 1 -> reducedDistance;
+            case 2 -> cubeDistance;
+            default -> impostorDistance;
+        };
+    }
+    
+    /**
+     * Build the mesh for a level of detail
+     * @param tiles Tiles of the block
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @param level Level of detail
+     * @return Baked mesh
+     */
+    public static NeoTileMesh buildMesh(NeoTileCollection tiles, NeoFaceMask[] neighborMasks, Level level) {
+        return switch (level) {
+            case FULL -> NeoTileMesher.buildMesh(tiles, neighborMasks);
+            case REDUCED -> buildReduced(tiles, neighborMasks);
+            case CUBE -> buildCube(tiles, neighborMasks);
+            case IMPOSTOR -> buildImpostor(tiles);
+        };
+    }
+    
+    /**
+     * Down-sample the tiles to REDUCED_GRID cells, a cell is kept if at least half of it is filled
+     */
+    private static NeoTileMesh buildReduced(NeoTileCollection tiles, NeoFaceMask[] neighborMasks) {
+        NeoGrid grid = tiles.getGrid();
+        NeoGrid coarse = NeoGrid.getBySize(Math.min(grid.getSize(), REDUCED_GRID));
+        int size = coarse.getSize();
+        int cellEdge = grid.getSize() / size;
+        long cellVolume = (long) cellEdge * cellEdge * cellEdge;
+        
+        // Per cell: volume by (state id, color), null for empty cells
+        int cellCount = size * size * size;
+        List<Map<Long, long[]>> cells = new ArrayList<>(Collections.nCopies(cellCount, null));
+        NeoTileStore store = tiles.getStore();
+        for (int slot = 0; slot < store.size(); slot++) {
+            long key = ((long) store.getStateId(slot) << 32) | (store.getColor(slot) & 0xFFFFFFFFL);
+            
+            // Floor the min corner and ceil the max corner (negate around the shift)
+            int x0 = grid.convertGrid(store.getMinX(slot), coarse), x1 = -grid.convertGrid(-store.getMaxX(slot), coarse);
+            int y0 = grid.convertGrid(store.getMinY(slot), coarse), y1 = -grid.convertGrid(-store.getMaxY(slot), coarse);
+            int z0 = grid.convertGrid(store.getMinZ(slot), coarse), z1 = -grid.convertGrid(-store.getMaxZ(slot), coarse);
+            
+            for (int x = Math.max(0, x0); x < Math.min(size, x1); x++) {
+                long dx = overlap(store.getMinX(slot), store.getMaxX(slot), x * cellEdge, cellEdge);
+                for (int y = Math.max(0, y0); y < Math.min(size, y1); y++) {
+                    long dy = overlap(store.getMinY(slot), store.getMaxY(slot), y * cellEdge, cellEdge);
+                    for (int z = Math.max(0, z0); z < Math.min(size, z1); z++) {
+                        long dz = overlap(store.getMinZ(slot), store.getMaxZ(slot), z * cellEdge, cellEdge);
+                        int index = (x * size + y) * size + z;
+                        Map<Long, long[]> cell = cells.get(index);
+                        if (cell == null) {
+                            cell = new HashMap<>();
+                            cells.set(index, cell);
+                        }
+                        cell.computeIfAbsent(key, k -> new long[1])[0] += dx * dy * dz;
+                    }
+                }
+            }
+        }
+        
+        long[] dominant = new long[cellCount];
+        boolean[] filled = new boolean[cellCount];
+        boolean[] opaque = new boolean[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            Map<Long, long[]> cell = cells.get(i);
+            if (cell == null) {
+                continue;
+            }
+            long total = 0;
+            long best = -1;
+            for (Map.Entry<Long, long[]> entry : cell.entrySet()) {
+                total += entry.getValue()[0];
+                if (entry.getValue()[0] > best) {
+                    best = entry.getValue()[0];
+                    dominant[i] = entry.getKey();
+                }
+            }
+            filled[i] = total * 2 >= cellVolume;
+            opaque[i] = filled[i] && ((int) dominant[i] >>> 24) == 0xFF;
+        }
+        
+        NeoRenderBoxBuffer buffer = new NeoRenderBoxBuffer(cellCount);
+        buffer.clear(coarse);
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        int[] position = new int[3];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                for (int z = 0; z < size; z++) {
+                    int index = (x * size + y) * size + z;
+                    if (!filled[index]) {
+                        continue;
+                    }
+                    
+                    position[0] = x;
+                    position[1] = y;
+                    position[2] = z;
+                    int visibleFaces = 0;
+                    for (NeoFace face : NeoFace.values()) {
+                        int next = position[face.axis] + (face.positive ? 1 : -1);
+                        boolean hidden;
+                        if (next < 0 || next >= size) {
+                            NeoFaceMask neighbor = neighborMasks[face.ordinal()];
+                            hidden = neighbor != null && neighbor.isFull(face.getOpposite());
+                        } else {
+                            position[face.axis] = next;
+                            hidden = opaque[(position[0] * size + position[1]) * size + position[2]];
+                            position[face.axis] = next - (face.positive ? 1 : -1);
+                        }
+                        if (!hidden) {
+                            visibleFaces |= face.flag;
+                        }
+                    }
+                    if (visibleFaces == 0) {
+                        continue;
+                    }
+                    
+                    box.minX = x;
+                    box.minY = y;
+                    box.minZ = z;
+                    box.maxX = x + 1;
+                    box.maxY = y + 1;
+                    box.maxZ = z + 1;
+                    buffer.add(box, (int) (dominant[index] >>> 32), (int) dominant[index], visibleFaces);
+                }
+            }
+        }
+        buffer.computeWorldCoords();
+        return NeoTileMesher.buildGreedyMesh(buffer);
+    }
+    
+    private static long overlap(int min, int max, int cellMin, int cellEdge) {
+        return Math.max(0, Math.min(max, cellMin + cellEdge) - Math.max(min, cellMin));
+    }
+    
+    /**
+     * One full cube in the state and color with the most volume
+     */
+    private static NeoTileMesh buildCube(NeoTileCollection tiles, NeoFaceMask[] neighborMasks) {
+        NeoTileStore store = tiles.getStore();
+        int slot = getDominantSlot(store);
+        if (slot < 0) {
+            return NeoTileMesh.EMPTY;
+        }
+        
+        int visibleFaces = NeoFace.ALL;
+        for (NeoFace face : NeoFace.values()) {
+            NeoFaceMask neighbor = neighborMasks[face.ordinal()];
+            if (neighbor != null && neighbor.isFull(face.getOpposite())) {
+                visibleFaces &= ~face.flag;
+            }
+        }
+        NeoRenderBoxBuffer buffer = new NeoRenderBoxBuffer(1);
+        buffer.clear(NeoGrid.GRID_1);
+        buffer.add(new NeoBox(0, 0, 0, 1, 1, 1), store.getStateId(slot), store.getColor(slot), visibleFaces);
+        buffer.computeWorldCoords();
+        return NeoTileMesh.build(buffer);
+    }
+    
+    /**
+     * A single up facing quad over the horizontal bounds of all tiles, at their top
+     */
+    private static NeoTileMesh buildImpostor(NeoTileCollection tiles) {
+        NeoTileStore store = tiles.getStore();
+        int slot = getDominantSlot(store);
+        if (slot < 0) {
+            return NeoTileMesh.EMPTY;
+        }
+        
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (int i = 0; i < store.size(); i++) {
+            minX = Math.min(minX, store.getMinX(i));
+            minZ = Math.min(minZ, store.getMinZ(i));
+            maxX = Math.max(maxX, store.getMaxX(i));
+            maxY = Math.max(maxY, store.getMaxY(i));
+            maxZ = Math.max(maxZ, store.getMaxZ(i));
+        }
+        
+        float scale = tiles.getGrid().getPixelSizeF();
+        float[] min = { minX * scale, maxY * scale, minZ * scale };
+        float[] max = { maxX * scale, maxY * scale, maxZ * scale };
+        NeoTileMesh.Builder builder = new NeoTileMesh.Builder(1);
+        builder.addFace(NeoFace.UP, min, max, store.getColor(slot), store.getState(slot));
+        return builder.build();
+    }
+    
+    /**
+     * Find a slot of the state and color combination with the most volume
+     * @return Slot, -1 if the store is empty
+     */
+    private static int getDominantSlot(NeoTileStore store) {
+        Map<Long, long[]> volumes = new HashMap<>();
+        int bestSlot = -1;
+        long best = -1;
+        for (int slot = 0; slot < store.size(); slot++) {
+            long key = ((long) store.getStateId(slot) << 32) | (store.getColor(slot) & 0xFFFFFFFFL);
+            long[] volume = volumes.computeIfAbsent(key, k -> new long[1]);
+            volume[0] += store.getVolume(slot);
+            if (volume[0] > best) {
+                best = volume[0];
+                bestSlot = slot;
+            }
+        }
+        return bestSlot;
+    }
+}
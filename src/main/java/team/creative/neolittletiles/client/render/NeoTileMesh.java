@@ -0,0 +1,273 @@
+package team.creative.neolittletiles.client.render;
+
+import team.creative.neolittletiles.common.math.NeoFace;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NeoTileMesh - Baked vertex data of a tile block
+ * 
+ * Built once from the culled render boxes and replayed every frame until the
+ * tiles change:
+ * - One quad per visible face, four vertices per quad
+ * - Vertices packed into a single int array (position as float bits, color, face)
+ * - Block state per quad for texture lookup
+ * 
+ * Positions are block local (0 to 1), vertices are counter-clockwise seen
+ * from outside the box. Opaque quads come first, quads with alpha below 0xFF
+ * after them, so opaque geometry can be drawn in one run and only the
+ * translucent tail needs sorting (see NeoTranslucentSorter).
+ */
+public class NeoTileMesh {
+    
+    /** Ints per vertex: x, y, z (float bits), ARGB color, face ordinal */
+    public static final int VERTEX_STRIDE = 5;
+    public static final int QUAD_STRIDE = VERTEX_STRIDE * 4;
+    
+    public static final NeoTileMesh EMPTY = new NeoTileMesh(new int[0], new Object[0], 0, 0);
+    
+    private final int[] vertices;
+    private final Object[] quadStates;
+    private final int quadCount;
+    private final int opaqueCount;
+    
+    private NeoTileMesh(int[] vertices, Object[] quadStates, int quadCount, int opaqueCount) {
+        this.vertices = vertices;
+        this.quadStates = quadStates;
+        this.quadCount = quadCount;
+        this.opaqueCount = opaqueCount;
+    }
+    
+    /**
+     * Bake the visible faces of render boxes
+     * @param renderBoxes Culled render boxes
+     * @return New mesh
+     */
+    public static NeoTileMesh build(List<NeoRenderBox> renderBoxes) {
+        int quads = 0;
+        for (NeoRenderBox renderBox : renderBoxes) {
+            quads += Integer.bitCount(renderBox.getVisibleFaces());
+        }
+        if (quads == 0) {
+            return EMPTY;
+        }
+        
+        Builder builder = new Builder(quads);
+        for (NeoRenderBox renderBox : renderBoxes) {
+            float[] min = { (float) renderBox.getMinX(), (float) renderBox.getMinY(), (float) renderBox.getMinZ() };
+            float[] max = { (float) renderBox.getMaxX(), (float) renderBox.getMaxY(), (float) renderBox.getMaxZ() };
+            for (int i = 0; i < 6; i++) {
+                NeoFace face = NeoFace.byOrdinal(i);
+                if (renderBox.isFaceVisible(face)) {
+                    builder.addFace(face, min, max, renderBox.getColor(), renderBox.getBlockState());
+                }
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Bake the visible faces of buffered render boxes, reading the precomputed world coordinates
+     * @param buffer Culled render boxes
+     * @return New mesh
+     */
+    public static NeoTileMesh build(NeoRenderBoxBuffer buffer) {
+        int quads = 0;
+        for (int i = 0; i < buffer.size(); i++) {
+            quads += Integer.bitCount(buffer.getVisibleFaces(i));
+        }
+        if (quads == 0) {
+            return EMPTY;
+        }
+        
+        Builder builder = new Builder(quads);
+        float[] world = buffer.getWorldCoords();
+        float[] min = new float[3];
+        float[] max = new float[3];
+        for (int box = 0; box < buffer.size(); box++) {
+            int offset = box * NeoRenderBoxBuffer.STRIDE;
+            System.arraycopy(world, offset, min, 0, 3);
+            System.arraycopy(world, offset + 3, max, 0, 3);
+            int visibleFaces = buffer.getVisibleFaces(box);
+            for (int i = 0; i < 6; i++) {
+                NeoFace face = NeoFace.byOrdinal(i);
+                if ((visibleFaces & face.flag) != 0) {
+                    builder.addFace(face, min, max, buffer.getColor(box), buffer.getState(box));
+                }
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Get the number of quads
+     * @return Quad count
+     */
+    public int getQuadCount() {
+        return quadCount;
+    }
+    
+    /**
+     * Get the number of opaque quads, they occupy indices 0 to getOpaqueQuadCount() - 1
+     * @return Opaque quad count
+     */
+    public int getOpaqueQuadCount() {
+        return opaqueCount;
+    }
+    
+    /**
+     * Get the number of translucent quads, they follow the opaque ones
+     * @return Translucent quad count
+     */
+    public int getTranslucentQuadCount() {
+        return quadCount - opaqueCount;
+    }
+    
+    /**
+     * Check if a quad needs sorting
+     * @param quad Quad index
+     * @return true if its alpha is below 0xFF
+     */
+    public boolean isTranslucent(int quad) {
+        return quad >= opaqueCount;
+    }
+    
+    /**
+     * Get the packed vertex data (do not modify)
+     * @return Vertex array, QUAD_STRIDE ints per quad
+     */
+    public int[] getVertices() {
+        return vertices;
+    }
+    
+    public float getX(int vertex) {
+        return Float.intBitsToFloat(vertices[vertex * VERTEX_STRIDE]);
+    }
+    
+    public float getY(int vertex) {
+        return Float.intBitsToFloat(vertices[vertex * VERTEX_STRIDE + 1]);
+    }
+    
+    public float getZ(int vertex) {
+        return Float.intBitsToFloat(vertices[vertex * VERTEX_STRIDE + 2]);
+    }
+    
+    public int getColor(int vertex) {
+        return vertices[vertex * VERTEX_STRIDE + 3];
+    }
+    
+    public NeoFace getFace(int quad) {
+        return NeoFace.byOrdinal(vertices[quad * QUAD_STRIDE + 4]);
+    }
+    
+    public Object getState(int quad) {
+        return quadStates[quad];
+    }
+    
+    /**
+     * Check if the mesh has no quads
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return quadCount == 0;
+    }
+    
+    @Override
+    public String toString() {
+        return "NeoTileMesh[quads=" + quadCount + ", translucent=" + (quadCount - opaqueCount) + "]";
+    }
+    
+    /**
+     * Incremental mesh builder, shared by the different meshing strategies
+     */
+    public static class Builder {
+        
+        private int[] vertices;
+        private Object[] quadStates;
+        private int quadCount;
+        
+        public Builder(int expectedQuads) {
+            int capacity = Math.max(1, expectedQuads);
+            this.vertices = new int[capacity * QUAD_STRIDE];
+            this.quadStates = new Object[capacity];
+        }
+        
+        /**
+         * Add one face of a box
+         * @param face Face to add
+         * @param min Box min corner (x, y, z)
+         * @param max Box max corner (x, y, z)
+         * @param color ARGB color
+         * @param state Block state of the quad
+         */
+        public void addFace(NeoFace face, float[] min, float[] max, int color, Object state) {
+            if (quadCount == quadStates.length) {
+                vertices = Arrays.copyOf(vertices, vertices.length << 1);
+                quadStates = Arrays.copyOf(quadStates, quadStates.length << 1);
+            }
+            
+            float plane = face.positive ? max[face.axis] : min[face.axis];
+            float u0 = min[face.uAxis], u1 = max[face.uAxis];
+            float v0 = min[face.vAxis], v1 = max[face.vAxis];
+            
+            // u x v points along +axis for X and Z but along -axis for Y
+            boolean counterClockwise = face.positive == (face.axis != 1);
+            int offset = quadCount * QUAD_STRIDE;
+            if (counterClockwise) {
+                offset = putVertex(offset, face, plane, u0, v0, color);
+                offset = putVertex(offset, face, plane, u1, v0, color);
+                offset = putVertex(offset, face, plane, u1, v1, color);
+                putVertex(offset, face, plane, u0, v1, color);
+            } else {
+                offset = putVertex(offset, face, plane, u0, v0, color);
+                offset = putVertex(offset, face, plane, u0, v1, color);
+                offset = putVertex(offset, face, plane, u1, v1, color);
+                putVertex(offset, face, plane, u1, v0, color);
+            }
+            quadStates[quadCount++] = state;
+        }
+        
+        private int putVertex(int offset, NeoFace face, float plane, float u, float v, int color) {
+            vertices[offset] = Float.floatToRawIntBits(component(face, 0, plane, u, v));
+            vertices[offset + 1] = Float.floatToRawIntBits(component(face, 1, plane, u, v));
+            vertices[offset + 2] = Float.floatToRawIntBits(component(face, 2, plane, u, v));
+            vertices[offset + 3] = color;
+            vertices[offset + 4] = face.ordinal();
+            return offset + VERTEX_STRIDE;
+        }
+        
+        private static float component(NeoFace face, int axis, float plane, float u, float v) {
+            return axis == face.axis ? plane : axis == face.uAxis ? u : v;
+        }
+        
+        /**
+         * Finish the mesh
+         * @return Mesh holding exactly the added quads
+         */
+        public NeoTileMesh build() {
+            if (quadCount == 0) {
+                return EMPTY;
+            }
+            
+            // Stable partition: opaque quads first, translucent after
+            int[] sortedVertices = new int[quadCount * QUAD_STRIDE];
+            Object[] sortedStates = new Object[quadCount];
+            int next = 0;
+            int opaqueCount = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (int quad = 0; quad < quadCount; quad++) {
+                    boolean opaque = (vertices[quad * QUAD_STRIDE + 3] >>> 24) == 0xFF;
+                    if (opaque == (pass == 0)) {
+                        System.arraycopy(vertices, quad * QUAD_STRIDE, sortedVertices, next * QUAD_STRIDE, QUAD_STRIDE);
+                        sortedStates[next++] = quadStates[quad];
+                    }
+                }
+                if (pass == 0) {
+                    opaqueCount = next;
+                }
+            }
+            return new NeoTileMesh(sortedVertices, sortedStates, quadCount, opaqueCount);
+        }
+    }
+}
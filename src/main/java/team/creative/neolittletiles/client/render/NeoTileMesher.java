@@ -0,0 +1,261 @@
+package team.creative.neolittletiles.client.render;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
+import team.creative.neolittletiles.common.tile.NeoTileSnapshot;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NeoTileMesher - Turns tiles into culled render boxes and meshes
+ * 
+ * Works only on the data it is given (tiles plus the neighbor face masks),
+ * so it can run on a worker thread against a snapshot of a block entity.
+ * 
+ * Meshes are built greedily: visible faces on the same plane with the same
+ * direction, state and color are rasterized into a grid-resolution bitmap and
+ * re-emitted as the fewest rectangles the sweep finds, so a flat wall of
+ * chiseled tiles becomes a handful of quads instead of one per tile face.
+ */
+public class NeoTileMesher {
+    
+    // Per thread scratch buffer, reused by every build on the render thread and the mesh workers
+    private static final ThreadLocal<NeoRenderBoxBuffer> BUFFER = ThreadLocal.withInitial(NeoRenderBoxBuffer::new);
+    
+    /**
+     * Convert tiles to culled render boxes
+     * Faces hidden by neighboring tiles are culled, fully hidden tiles are skipped
+     * @param tiles Tiles of the block
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @return List of render boxes
+     */
+    public static List<NeoRenderBox> toRenderBoxes(NeoTileCollection tiles, NeoFaceMask[] neighborMasks) {
+        NeoRenderBoxBuffer buffer = BUFFER.get();
+        toRenderBoxes(tiles, neighborMasks, buffer);
+        
+        List<NeoRenderBox> renderBoxes = new ArrayList<>(buffer.size());
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        for (int i = 0; i < buffer.size(); i++) {
+            NeoRenderBox renderBox = new NeoRenderBox(buffer.getBox(i, box), tiles.getGrid(), buffer.getState(i), buffer.getColor(i));
+            renderBox.setVisibleFaces(buffer.getVisibleFaces(i));
+            renderBoxes.add(renderBox);
+        }
+        return renderBoxes;
+    }
+    
+    /**
+     * Convert tiles to culled render boxes without allocating
+     * Faces hidden by neighboring tiles are culled, fully hidden tiles and tiles without state are skipped
+     * @param tiles Tiles of the block
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @param out Buffer receiving the boxes (cleared first), world coordinates included
+     */
+    public static void toRenderBoxes(NeoTileCollection tiles, NeoFaceMask[] neighborMasks, NeoRenderBoxBuffer out) {
+        NeoTileStore store = tiles.getStore();
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        int gridSize = tiles.getGrid().getSize();
+        out.clear(tiles.getGrid());
+        
+        for (int slot = 0; slot < store.size(); slot++) {
+            store.getBox(slot, box);
+            if (store.getStateId(slot) == NeoTilePalette.NO_STATE || !box.isValid()) {
+                continue;
+            }
+            int visibleFaces = tiles.getVisibleFaces(slot);
+            
+            // Boundary faces: ask the neighboring tile block
+            for (int i = 0; i < 6; i++) {
+                NeoFace face = NeoFace.byOrdinal(i);
+                if ((visibleFaces & face.flag) == 0 || face.getPlane(box) != (face.positive ? gridSize : 0)) {
+                    continue;
+                }
+                NeoFaceMask neighbor = neighborMasks[i];
+                if (neighbor != null && neighbor.isCovered(face.getOpposite(),
+                        box.getMin(face.uAxis), box.getMin(face.vAxis), box.getMax(face.uAxis), box.getMax(face.vAxis), gridSize)) {
+                    visibleFaces &= ~face.flag;
+                }
+            }
+            
+            if (visibleFaces != 0) {
+                out.add(box, store.getStateId(slot), store.getColor(slot), visibleFaces);
+            }
+        }
+        out.computeWorldCoords();
+    }
+    
+    /**
+     * Cull and bake a section model snapshot into a greedy mesh
+     * @param snapshot Snapshot of a static tile block
+     * @return Baked mesh
+     */
+    public static NeoTileMesh buildMesh(NeoTileSnapshot snapshot) {
+        return buildMesh(snapshot.getTiles(), snapshot.getNeighborMasks());
+    }
+    
+    /**
+     * Cull and bake tiles into a greedy mesh
+     * @param tiles Tiles of the block
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     * @return Baked mesh
+     */
+    public static NeoTileMesh buildMesh(NeoTileCollection tiles, NeoFaceMask[] neighborMasks) {
+        NeoRenderBoxBuffer buffer = BUFFER.get();
+        toRenderBoxes(tiles, neighborMasks, buffer);
+        return buildGreedyMesh(buffer);
+    }
+    
+    /**
+     * Bake render boxes, merging coplanar faces of equal state and color
+     * @param renderBoxes Culled render boxes
+     * @param gridSize Grid size of the boxes
+     * @return Baked mesh
+     */
+    public static NeoTileMesh buildGreedyMesh(List<NeoRenderBox> renderBoxes, int gridSize) {
+        NeoRenderBoxBuffer buffer = new NeoRenderBoxBuffer(renderBoxes.size());
+        buffer.clear(NeoGrid.getBySize(gridSize));
+        for (NeoRenderBox renderBox : renderBoxes) {
+            buffer.add(renderBox.getBox(), NeoTilePalette.GLOBAL.intern(renderBox.getBlockState()), renderBox.getColor(), renderBox.getVisibleFaces());
+        }
+        return buildGreedyMesh(buffer);
+    }
+    
+    /**
+     * Bake buffered render boxes, merging coplanar faces of equal state and color
+     * @param buffer Culled render boxes
+     * @return Baked mesh
+     */
+    public static NeoTileMesh buildGreedyMesh(NeoRenderBoxBuffer buffer) {
+        Map<FaceKey, FaceGroup> groups = new LinkedHashMap<>();
+        for (int index = 0; index < buffer.size(); index++) {
+            int visibleFaces = buffer.getVisibleFaces(index);
+            for (int i = 0; i < 6; i++) {
+                NeoFace face = NeoFace.byOrdinal(i);
+                if ((visibleFaces & face.flag) == 0) {
+                    continue;
+                }
+                FaceKey key = new FaceKey(face, buffer.getGridCoord(index, face.axis, face.positive), buffer.getStateId(index), buffer.getColor(index));
+                groups.computeIfAbsent(key, k -> new FaceGroup()).add(
+                    buffer.getGridCoord(index, face.uAxis, false), buffer.getGridCoord(index, face.vAxis, false),
+                    buffer.getGridCoord(index, face.uAxis, true), buffer.getGridCoord(index, face.vAxis, true));
+            }
+        }
+        if (groups.isEmpty()) {
+            return NeoTileMesh.EMPTY;
+        }
+        
+        NeoTileMesh.Builder builder = new NeoTileMesh.Builder(groups.size());
+        float[] min = new float[3];
+        float[] max = new float[3];
+        float scale = buffer.getGrid().getPixelSizeF();
+        
+        for (Map.Entry<FaceKey, FaceGroup> entry : groups.entrySet()) {
+            FaceKey key = entry.getKey();
+            FaceGroup group = entry.getValue();
+            NeoFace face = key.face;
+            min[face.axis] = max[face.axis] = key.plane * scale;
+            
+            if (group.count == 1) {
+                emit(builder, key, min, max, scale, group.rects[0], group.rects[1], group.rects[2], group.rects[3]);
+                continue;
+            }
+            
+            // Rasterize the group's bounding rectangle, then sweep it row by row
+            int width = group.maxU - group.minU;
+            int height = group.maxV - group.minV;
+            boolean[] cells = new boolean[width * height];
+            for (int i = 0; i < group.count * 4; i += 4) {
+                for (int v = group.rects[i + 1]; v < group.rects[i + 3]; v++) {
+                    int row = (v - group.minV) * width - group.minU;
+                    for (int u = group.rects[i]; u < group.rects[i + 2]; u++) {
+                        cells[row + u] = true;
+                    }
+                }
+            }
+            
+            for (int v = 0; v < height; v++) {
+                for (int u = 0; u < width; u++) {
+                    if (!cells[v * width + u]) {
+                        continue;
+                    }
+                    
+                    int u1 = u + 1;
+                    while (u1 < width && cells[v * width + u1]) {
+                        u1++;
+                    }
+                    int v1 = v + 1;
+                    while (v1 < height && isRowSet(cells, v1 * width, u, u1)) {
+                        v1++;
+                    }
+                    
+                    for (int row = v; row < v1; row++) {
+                        Arrays.fill(cells, row * width + u, row * width + u1, false);
+                    }
+                    emit(builder, key, min, max, scale, group.minU + u, group.minV + v, group.minU + u1, group.minV + v1);
+                    u = u1 - 1;
+                }
+            }
+        }
+        return builder.build();
+    }
+    
+    private static boolean isRowSet(boolean[] cells, int row, int u0, int u1) {
+        for (int u = u0; u < u1; u++) {
+            if (!cells[row + u]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void emit(NeoTileMesh.Builder builder, FaceKey key, float[] min, float[] max, float scale, int u0, int v0, int u1, int v1) {
+        NeoFace face = key.face;
+        min[face.uAxis] = u0 * scale;
+        min[face.vAxis] = v0 * scale;
+        max[face.uAxis] = u1 * scale;
+        max[face.vAxis] = v1 * scale;
+        builder.addFace(face, min, max, key.color, NeoTilePalette.GLOBAL.get(key.stateId));
+    }
+    
+    /**
+     * Faces that may be merged: same direction, plane, state and color
+     */
+    private record FaceKey(NeoFace face, int plane, int stateId, int color) {
+    }
+    
+    /**
+     * Face rectangles (u0, v0, u1, v1) of one FaceKey and their bounds
+     */
+    private static final class FaceGroup {
+        
+        int[] rects = new int[16];
+        int count;
+        int minU = Integer.MAX_VALUE;
+        int minV = Integer.MAX_VALUE;
+        int maxU = Integer.MIN_VALUE;
+        int maxV = Integer.MIN_VALUE;
+        
+        void add(int u0, int v0, int u1, int v1) {
+            if (count * 4 == rects.length) {
+                rects = Arrays.copyOf(rects, rects.length << 1);
+            }
+            int index = count++ * 4;
+            rects[index] = u0;
+            rects[index + 1] = v0;
+            rects[index + 2] = u1;
+            rects[index + 3] = v1;
+            minU = Math.min(minU, u0);
+            minV = Math.min(minV, v0);
+            maxU = Math.max(maxU, u1);
+            maxV = Math.max(maxV, v1);
+        }
+    }
+}
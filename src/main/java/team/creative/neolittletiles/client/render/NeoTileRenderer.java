@@ -1,18 +1,34 @@
 package team.creative.neolittletiles.client.render;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.AABB;
 import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
-import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.math.NeoFaceCoverage;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * NeoTileRenderer - Core rendering system for NeoTiles
  * 
  * Simplified renderer for MVP functionality:
  * - Converts NeoTiles to NeoRenderBoxes
+ * - Culls faces hidden by neighboring opaque tiles before quad generation,
+ *   including block boundary faces covered by neighboring tile blocks
  * - Manages basic rendering pipeline
- * - Handles synchronous rendering (no async threading for MVP)
+ * - Caches a baked NeoTileMesh per block entity, rebuilt only when its tiles change
+ * - Merges coplanar faces of equal state and color into larger quads (greedy meshing)
+ * - Switches to coarser meshes for far away blocks (NeoTileLod)
+ * - Skips block entities outside the frustum or enclosed by opaque neighbors
+ * - Only draws animated blocks, static ones are baked into their chunk section
+ * - Sorts translucent quads back to front (NeoTranslucentSorter), opaque ones stay unsorted
+ * - Rebuilds larger blocks on NeoMeshWorkerPool from a tile snapshot, nearest
+ *   first, and swaps the result in on the render thread
  * 
  * Based on analysis of BERenderManager.java and RenderingThread.java
  */
@@ -21,6 +37,16 @@ public class NeoTileRenderer {
     // Placeholder for rendering context objects
     // TODO: Replace with proper Minecraft rendering classes when available
     
+    /** Blocks with up to this many tiles are meshed inline, larger ones on the worker pool */
+    public static final int SYNC_BUILD_TILES = 64;
+    
+    private static final NeoMeshWorkerPool WORKERS = new NeoMeshWorkerPool();
+    
+    // Mesh buffers, dropped together with their block entity
+    private static final Map<NeoTilesBlockEntity, NeoMeshBuffer> MESH_CACHE = new WeakHashMap<>();
+    
+    private static long culledCount;
+    
     /**
      * Render all tiles in a block entity
      * @param blockEntity The block entity containing tiles
@@ -32,144 +58,245 @@ public class NeoTileRenderer {
     public static void renderBlockEntity(NeoTilesBlockEntity blockEntity, 
                                        Object poseStack, Object bufferSource, 
                                        int packedLight, int packedOverlay) {
-        if (blockEntity == null || !blockEntity.hasTiles()) {
+        renderBlockEntity(blockEntity, poseStack, bufferSource, packedLight, packedOverlay, 0);
+    }
+    
+    /**
+     * Render all tiles in a block entity
+     * @param blockEntity The block entity containing tiles
+     * @param poseStack Matrix stack for positioning
+     * @param bufferSource Buffer source for vertex data
+     * @param packedLight Light values
+     * @param packedOverlay Overlay values
+     * @param cameraDistanceSq Squared distance to the camera, picks the level of detail, nearer blocks are rebuilt first
+     */
+    public static void renderBlockEntity(NeoTilesBlockEntity blockEntity, 
+                                       Object poseStack, Object bufferSource, 
+                                       int packedLight, int packedOverlay, double cameraDistanceSq) {
+        renderBlockEntity(blockEntity, poseStack, bufferSource, packedLight, packedOverlay, null, cameraDistanceSq);
+    }
+    
+    /**
+     * Render all tiles in a block entity, skipping it if it cannot be seen
+     * @param blockEntity The block entity containing tiles
+     * @param poseStack Matrix stack for positioning
+     * @param bufferSource Buffer source for vertex data
+     * @param packedLight Light values
+     * @param packedOverlay Overlay values
+     * @param frustum Camera frustum, null to skip the frustum test
+     * @param cameraDistanceSq Squared distance to the camera, picks the level of detail
+     */
+    public static void renderBlockEntity(NeoTilesBlockEntity blockEntity, 
+                                       Object poseStack, Object bufferSource, 
+                                       int packedLight, int packedOverlay, 
+                                       NeoFrustum frustum, double cameraDistanceSq) {
+        // Static blocks are drawn from the chunk section mesh (NeoTilesBakedModel)
+        if (blockEntity == null || !blockEntity.hasTiles() || !blockEntity.isAnimated()) {
             return;
         }
         
-        List<NeoRenderBox> renderBoxes = convertTilesToRenderBoxes(blockEntity);
-        
-        for (NeoRenderBox renderBox : renderBoxes) {
-            renderBox(renderBox, poseStack, bufferSource, packedLight, packedOverlay);
+        WORKERS.uploadReady();
+        if (!isVisible(blockEntity, frustum)) {
+            culledCount++;
+            return;
         }
-        
-        // Mark rendering update as completed
-        blockEntity.clearRenderUpdate();
+        NeoTileMesh mesh = getMesh(blockEntity, cameraDistanceSq);
+        int[] translucentOrder = null;
+        if (frustum != null && mesh.getTranslucentQuadCount() > 1) {
+            BlockPos pos = blockEntity.getBlockPos();
+            translucentOrder = MESH_CACHE.get(blockEntity).getSorter().sort(
+                (float) (frustum.getCameraX() - pos.getX()), (float) (frustum.getCameraY() - pos.getY()), (float) (frustum.getCameraZ() - pos.getZ()));
+        }
+        renderMesh(mesh, translucentOrder, poseStack, bufferSource, packedLight, packedOverlay);
     }
     
     /**
-     * Convert tiles to render boxes for the rendering pipeline
-     * @param blockEntity Block entity containing tiles
-     * @return List of render boxes
+     * Check if a block entity may be visible before building or submitting its mesh
+     * 
+     * Tests the cached union of its tiles against the frustum first, then if
+     * all six neighbors are opaque. Meshes of hidden blocks are not rebuilt
+     * until they become visible again.
+     * 
+     * @param blockEntity The block entity containing tiles
+     * @param frustum Camera frustum, null to skip the frustum test
+     * @return false if the block can be skipped entirely
      */
-    public static List<NeoRenderBox> convertTilesToRenderBoxes(NeoTilesBlockEntity blockEntity) {
-        List<NeoRenderBox> renderBoxes = new ArrayList<>();
-        
-        for (NeoTile tile : blockEntity.getTiles()) {
-            NeoRenderBox renderBox = new NeoRenderBox(
-                tile.getBox(),
-                blockEntity.getGrid(), 
-                tile.getState(),
-                tile.getColor()
-            );
-            
-            if (renderBox.isValid()) {
-                renderBoxes.add(renderBox);
+    public static boolean isVisible(NeoTilesBlockEntity blockEntity, NeoFrustum frustum) {
+        if (frustum != null) {
+            AABB bounds = blockEntity.getRenderBoundingBox();
+            if (!frustum.isVisible(bounds.minX, bounds.minY, bounds.minZ, bounds.maxX, bounds.maxY, bounds.maxZ)) {
+                return false;
             }
         }
-        
-        return renderBoxes;
+        return !blockEntity.isOccluded();
     }
     
     /**
-     * Render a single render box
-     * @param renderBox The box to render
-     * @param poseStack Matrix stack for positioning
-     * @param bufferSource Buffer source for vertex data
-     * @param packedLight Light values
-     * @param packedOverlay Overlay values
+     * Get the number of block entities skipped as invisible so far
+     * @return Culled block entity count
      */
-    private static void renderBox(NeoRenderBox renderBox, Object poseStack, 
-                                Object bufferSource, int packedLight, int packedOverlay) {
-        // TODO: Implement actual rendering when Minecraft classes are available
-        
-        // For MVP, we'll just log the rendering operation
-        System.out.println("Rendering box: " + renderBox);
-        
-        // Actual implementation would:
-        // 1. Get BakedModel from BlockState
-        // 2. Transform coordinates using PoseStack
-        // 3. Generate quads for each face
-        // 4. Apply color tinting if needed
-        // 5. Add vertices to VertexConsumer
-        
-        renderBoxFaces(renderBox, poseStack, bufferSource, packedLight, packedOverlay);
+    public static long getCulledCount() {
+        return culledCount;
     }
     
     /**
-     * Render all faces of a render box
-     * @param renderBox The box to render
-     * @param poseStack Matrix stack for positioning
-     * @param bufferSource Buffer source for vertex data
-     * @param packedLight Light values
-     * @param packedOverlay Overlay values
+     * Get the baked mesh of a block entity, rebuilding it only after tile changes
+     * @param blockEntity The block entity containing tiles
+     * @return Current mesh (the previous one while a rebuild is pending)
      */
-    private static void renderBoxFaces(NeoRenderBox renderBox, Object poseStack,
-                                     Object bufferSource, int packedLight, int packedOverlay) {
-        // TODO: Implement face rendering when Direction and BakedQuad are available
-        
-        // For each face (UP, DOWN, NORTH, SOUTH, EAST, WEST):
-        // 1. Check if face should be rendered (not occluded)
-        // 2. Get BakedQuad for the face
-        // 3. Apply transformations and scaling
-        // 4. Add quad vertices to buffer
+    public static NeoTileMesh getMesh(NeoTilesBlockEntity blockEntity) {
+        return getMesh(blockEntity, 0);
+    }
+    
+    /**
+     * Get the baked mesh of a block entity, rebuilding it only after tile changes
+     * 
+     * The level of detail follows the camera distance (see NeoTileLod). Small
+     * blocks and coarse levels are rebuilt right away, larger full detail
+     * meshes are handed to the worker pool and the block keeps showing its
+     * previous mesh until the new one is uploaded.
+     * 
+     * @param blockEntity The block entity containing tiles
+     * @param cameraDistanceSq Squared distance to the camera, used for level of detail and build priority
+     * @return Current mesh (the previous one while a rebuild is pending)
+     */
+    public static NeoTileMesh getMesh(NeoTilesBlockEntity blockEntity, double cameraDistanceSq) {
+        NeoMeshBuffer buffer = MESH_CACHE.computeIfAbsent(blockEntity, be -> new NeoMeshBuffer());
+        NeoTileLod.Level level = NeoTileLod.getLevel(cameraDistanceSq, buffer.getLevel());
         
-        String[] faces = {"UP", "DOWN", "NORTH", "SOUTH", "EAST", "WEST"};
-        for (String face : faces) {
-            renderBoxFace(renderBox, face, poseStack, bufferSource, packedLight, packedOverlay);
+        if (buffer.needsBuild(blockEntity.needsRenderUpdate(), level)) {
+            NeoTileCollection tiles = blockEntity.getTileCollection();
+            NeoFaceMask[] neighborMasks = blockEntity.getNeighborFaceMasks();
+            
+            if (level != NeoTileLod.Level.FULL || tiles.size() <= SYNC_BUILD_TILES) {
+                buffer.setFront(NeoTileLod.buildMesh(tiles, neighborMasks, level));
+                buffer.setLevel(level);
+            } else {
+                WORKERS.submit(buffer, blockEntity.getGrid(), tiles.getStore().copy(), neighborMasks, cameraDistanceSq, level);
+            }
+            
+            // Mark rendering update as completed
+            blockEntity.clearRenderUpdate();
         }
+        return buffer.getFront();
     }
     
     /**
-     * Render a specific face of a render box
-     * @param renderBox The box to render
-     * @param face Face direction
+     * Drop the cached mesh of a block entity, e.g. when it is removed
+     * Pending builds still finish but are never uploaded
+     * @param blockEntity The block entity
+     */
+    public static void invalidateMesh(NeoTilesBlockEntity blockEntity) {
+        MESH_CACHE.remove(blockEntity);
+    }
+    
+    /**
+     * Get the shared mesh worker pool
+     * @return Worker pool
+     */
+    public static NeoMeshWorkerPool getWorkers() {
+        return WORKERS;
+    }
+    
+    /**
+     * Replay a baked mesh
+     * 
+     * Opaque quads are drawn in mesh order as one run, translucent quads
+     * back to front in the order from NeoTranslucentSorter.
+     * 
+     * @param mesh The mesh to render
+     * @param translucentOrder Translucent quad indices, farthest first, or null for mesh order
      * @param poseStack Matrix stack for positioning
      * @param bufferSource Buffer source for vertex data
      * @param packedLight Light values
      * @param packedOverlay Overlay values
      */
-    private static void renderBoxFace(NeoRenderBox renderBox, String face,
-                                    Object poseStack, Object bufferSource, 
-                                    int packedLight, int packedOverlay) {
-        // TODO: Implement individual face rendering
-        
-        // For MVP, log the face being rendered
-        if (renderBox.hasColor()) {
-            System.out.println("  Rendering " + face + " face with color: 0x" + 
-                             Integer.toHexString(renderBox.getColor()));
-        } else {
-            System.out.println("  Rendering " + face + " face");
-        }
+    private static void renderMesh(NeoTileMesh mesh, int[] translucentOrder, Object poseStack, Object bufferSource,
+                                 int packedLight, int packedOverlay) {
+        // TODO: Copy the vertices into the VertexConsumer when Minecraft classes are available
         
         // Actual implementation would:
-        // 1. Calculate face vertices based on renderBox bounds
-        // 2. Get texture coordinates from BlockState
-        // 3. Apply color tinting if renderBox.hasColor()
-        // 4. Add vertices to VertexConsumer with proper normals
+        // 1. Draw quads 0 to mesh.getOpaqueQuadCount() - 1 into the solid buffer
+        // 2. Draw the translucent quads in translucentOrder into the translucent buffer
+        // Per quad:
+        // 1. Get the sprite for mesh.getState(quad) and mesh.getFace(quad)
+        // 2. Transform the 4 positions with the PoseStack
+        // 3. Add vertices with color, uv, packedLight, packedOverlay and face normal
+    }
+    
+    /**
+     * Convert tiles to render boxes for the rendering pipeline
+     * Faces hidden by neighboring tiles are culled, fully hidden tiles are skipped
+     * @param blockEntity Block entity containing tiles
+     * @return List of render boxes
+     */
+    public static List<NeoRenderBox> convertTilesToRenderBoxes(NeoTilesBlockEntity blockEntity) {
+        return NeoTileMesher.toRenderBoxes(blockEntity.getTileCollection(), blockEntity.getNeighborFaceMasks());
     }
     
     /**
-     * Check if a face should be rendered (basic occlusion culling)
+     * Check if a face should be rendered (exact occlusion culling)
      * @param renderBox The render box
-     * @param face Face direction
+     * @param face Face direction name (UP, DOWN, NORTH, SOUTH, EAST, WEST)
      * @param neighborBoxes Other boxes that might occlude this face
      * @return true if face should be rendered
      */
     public static boolean shouldRenderFace(NeoRenderBox renderBox, String face, 
                                          List<NeoRenderBox> neighborBoxes) {
-        // TODO: Implement proper occlusion culling
-        // For MVP, render all faces
-        return true;
+        return shouldRenderFace(renderBox, NeoFace.valueOf(face), neighborBoxes);
+    }
+    
+    /**
+     * Check if a face should be rendered (exact occlusion culling)
+     * 
+     * The face is hidden if the opaque neighbors touching its plane cover it
+     * completely; partial coverage keeps the face.
+     * 
+     * @param renderBox The render box
+     * @param face Face direction
+     * @param neighborBoxes Other boxes in the same grid that might occlude this face
+     * @return true if face should be rendered
+     */
+    public static boolean shouldRenderFace(NeoRenderBox renderBox, NeoFace face, 
+                                         List<NeoRenderBox> neighborBoxes) {
+        NeoBox box = renderBox.getBox();
+        int plane = face.getPlane(box);
+        NeoFaceCoverage coverage = new NeoFaceCoverage();
+        coverage.reset(box.getMin(face.uAxis), box.getMin(face.vAxis), box.getMax(face.uAxis), box.getMax(face.vAxis));
+        
+        for (NeoRenderBox neighbor : neighborBoxes) {
+            NeoBox other = neighbor.getBox();
+            if (neighbor == renderBox || (neighbor.getColor() >>> 24) != 0xFF) {
+                continue;
+            }
+            
+            // Neighbor has to reach over the plane from the outside
+            boolean touches = face.positive
+                ? other.getMin(face.axis) <= plane && other.getMax(face.axis) > plane
+                : other.getMax(face.axis) >= plane && other.getMin(face.axis) < plane;
+            if (touches) {
+                coverage.add(other.getMin(face.uAxis), other.getMin(face.vAxis), other.getMax(face.uAxis), other.getMax(face.vAxis));
+            }
+        }
+        return !coverage.isCovered();
     }
     
     /**
      * Get render distance for level-of-detail calculations
      * @param renderBox The render box
-     * @param cameraPos Camera position
-     * @return Distance from camera
+     * @param originX World x of the block the box belongs to
+     * @param originY World y of the block the box belongs to
+     * @param originZ World z of the block the box belongs to
+     * @param cameraX Camera x
+     * @param cameraY Camera y
+     * @param cameraZ Camera z
+     * @return Distance from the camera to the box center
      */
-    public static double getRenderDistance(NeoRenderBox renderBox, Object cameraPos) {
-        // TODO: Implement distance calculation when Vec3 is available
-        return 0.0; // Always render for MVP
+    public static double getRenderDistance(NeoRenderBox renderBox, double originX, double originY, double originZ,
+                                         double cameraX, double cameraY, double cameraZ) {
+        double dx = originX + (renderBox.getMinX() + renderBox.getMaxX()) * 0.5 - cameraX;
+        double dy = originY + (renderBox.getMinY() + renderBox.getMaxY()) * 0.5 - cameraY;
+        double dz = originZ + (renderBox.getMinZ() + renderBox.getMaxZ()) * 0.5 - cameraZ;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 }
\ No newline at end of file
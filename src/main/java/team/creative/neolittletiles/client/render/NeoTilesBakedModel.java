@@ -0,0 +1,198 @@
+package team.creative.neolittletiles.client.render;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.client.ChunkRenderTypeSet;
+import net.neoforged.neoforge.client.model.IDynamicBakedModel;
+import net.neoforged.neoforge.client.model.data.ModelData;
+import org.jetbrains.annotations.Nullable;
+import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.tile.NeoTileSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NeoTilesBakedModel - Chunk section model of static tile blocks
+ * 
+ * Turns the NeoTileSnapshot handed over as model data (see
+ * NeoTilesBlockEntity.getModelData) into BakedQuads, so static tiles are part
+ * of the section mesh and cost nothing per frame until the section rebuilds:
+ * - The snapshot is meshed here, on the section compile thread, never on the
+ *   main thread
+ * - Opaque quads go to the solid layer, quads with alpha to translucent
+ * - Each quad uses the sprite of its state's model for that side
+ * - Quads on the block boundary are returned under their side, so the
+ *   section compiler culls them against full vanilla neighbors; the rest
+ *   are returned for the null side
+ * - Converted quads are cached per mesh, meshes are immutable
+ * 
+ * Called from the chunk builder threads, so all caches are thread-safe.
+ */
+public class NeoTilesBakedModel implements IDynamicBakedModel {
+    
+    private static final ChunkRenderTypeSet RENDER_TYPES = ChunkRenderTypeSet.of(RenderType.solid(), RenderType.translucent());
+    private static final int INTS_PER_VERTEX = 8; // DefaultVertexFormat.BLOCK
+    private static final int UNCULLED = 6; // Quad list index of quads inside the block
+    private static final float EPSILON = 1.0E-5F;
+    
+    private final BakedModel original;
+    private final Map<NeoTileMesh, QuadLists> quadCache = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<BlockState, TextureAtlasSprite[]> spriteCache = new ConcurrentHashMap<>();
+    
+    /**
+     * @param original Model loaded from the block state file, supplies the particle icon
+     */
+    public NeoTilesBakedModel(BakedModel original) {
+        this.original = original;
+    }
+    
+    @Override
+    public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, RandomSource rand, ModelData data, @Nullable RenderType renderType) {
+        NeoTileSnapshot snapshot = data.get(NeoTilesBlockEntity.SNAPSHOT_PROPERTY);
+        if (snapshot == null) {
+            return Collections.emptyList();
+        }
+        NeoTileMesh mesh = snapshot.getBaked(NeoTileMesher::buildMesh);
+        if (mesh.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        QuadLists quads = quadCache.get(mesh);
+        if (quads == null) {
+            quads = bake(mesh);
+            quadCache.put(mesh, quads);
+        }
+        int index = side == null ? UNCULLED : side.get3DDataValue();
+        if (renderType == null) {
+            List<BakedQuad> all = new ArrayList<>(quads.solid.get(index));
+            all.addAll(quads.translucent.get(index));
+            return all;
+        }
+        return renderType == RenderType.translucent() ? quads.translucent.get(index) : renderType == RenderType.solid() ? quads.solid.get(index) : Collections.emptyList();
+    }
+    
+    private QuadLists bake(NeoTileMesh mesh) {
+        List<List<BakedQuad>> solid = new ArrayList<>(UNCULLED + 1);
+        List<List<BakedQuad>> translucent = new ArrayList<>(UNCULLED + 1);
+        for (int i = 0; i <= UNCULLED; i++) {
+            solid.add(new ArrayList<>());
+            translucent.add(new ArrayList<>());
+        }
+        float[] position = new float[3];
+        
+        for (int quad = 0; quad < mesh.getQuadCount(); quad++) {
+            NeoFace face = mesh.getFace(quad);
+            Direction direction = Direction.from3DDataValue(face.ordinal());
+            TextureAtlasSprite sprite = getSprite(mesh.getState(quad), direction);
+            int[] vertices = new int[INTS_PER_VERTEX * 4];
+            int color = mesh.getColor(quad * 4);
+            
+            for (int i = 0; i < 4; i++) {
+                int vertex = quad * 4 + i;
+                position[0] = mesh.getX(vertex);
+                position[1] = mesh.getY(vertex);
+                position[2] = mesh.getZ(vertex);
+                
+                // Side faces keep the texture upright, top and bottom map x/z
+                float u = face.axis == 0 ? position[2] : position[0];
+                float v = face.axis == 1 ? position[2] : 1 - position[1];
+                
+                int offset = i * INTS_PER_VERTEX;
+                vertices[offset] = Float.floatToRawIntBits(position[0]);
+                vertices[offset + 1] = Float.floatToRawIntBits(position[1]);
+                vertices[offset + 2] = Float.floatToRawIntBits(position[2]);
+                vertices[offset + 3] = toAbgr(color);
+                vertices[offset + 4] = Float.floatToRawIntBits(sprite.getU(u));
+                vertices[offset + 5] = Float.floatToRawIntBits(sprite.getV(v));
+                vertices[offset + 6] = 0;
+                vertices[offset + 7] = packNormal(direction);
+            }
+            
+            // Faces lying in the block's own side plane are culled by vanilla with that side
+            float plane = face.axis == 0 ? mesh.getX(quad * 4) : face.axis == 1 ? mesh.getY(quad * 4) : mesh.getZ(quad * 4);
+            boolean boundary = face.positive ? plane >= 1 - EPSILON : plane <= EPSILON;
+            int index = boundary ? direction.get3DDataValue() : UNCULLED;
+            
+            BakedQuad baked = new BakedQuad(vertices, -1, direction, sprite, true);
+            ((color >>> 24) == 0xFF ? solid : translucent).get(index).add(baked);
+        }
+        return new QuadLists(solid, translucent);
+    }
+    
+    private TextureAtlasSprite getSprite(Object state, Direction direction) {
+        if (!(state instanceof BlockState blockState)) {
+            return original.getParticleIcon();
+        }
+        return spriteCache.computeIfAbsent(blockState, key -> {
+            BakedModel model = Minecraft.getInstance().getBlockRenderer().getBlockModel(key);
+            RandomSource random = RandomSource.create(42);
+            TextureAtlasSprite[] sprites = new TextureAtlasSprite[6];
+            for (Direction side : Direction.values()) {
+                random.setSeed(42);
+                List<BakedQuad> quads = model.getQuads(key, side, random, ModelData.EMPTY, null);
+                sprites[side.get3DDataValue()] = quads.isEmpty() ? model.getParticleIcon(ModelData.EMPTY) : quads.get(0).getSprite();
+            }
+            return sprites;
+        })[direction.get3DDataValue()];
+    }
+    
+    private static int toAbgr(int argb) {
+        return (argb & 0xFF00FF00) | ((argb >> 16) & 0xFF) | ((argb & 0xFF) << 16);
+    }
+    
+    private static int packNormal(Direction direction) {
+        return (direction.getStepX() * 127 & 0xFF) | ((direction.getStepY() * 127 & 0xFF) << 8) | ((direction.getStepZ() * 127 & 0xFF) << 16);
+    }
+    
+    @Override
+    public ChunkRenderTypeSet getRenderTypes(BlockState state, RandomSource rand, ModelData data) {
+        return RENDER_TYPES;
+    }
+    
+    @Override
+    public boolean useAmbientOcclusion() {
+        return true;
+    }
+    
+    @Override
+    public boolean isGui3d() {
+        return false;
+    }
+    
+    @Override
+    public boolean usesBlockLight() {
+        return true;
+    }
+    
+    @Override
+    public boolean isCustomRenderer() {
+        return false;
+    }
+    
+    @Override
+    public TextureAtlasSprite getParticleIcon() {
+        return original.getParticleIcon();
+    }
+    
+    @Override
+    public ItemOverrides getOverrides() {
+        return ItemOverrides.EMPTY;
+    }
+    
+    // Quad lists by side (Direction data value), UNCULLED for quads inside the block
+    private record QuadLists(List<List<BakedQuad>> solid, List<List<BakedQuad>> translucent) {
+    }
+}
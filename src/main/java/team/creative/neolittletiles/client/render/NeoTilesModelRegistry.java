@@ -0,0 +1,28 @@
+package team.creative.neolittletiles.client.render;
+
+import net.minecraft.client.renderer.block.BlockModelShaper;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.ModelResourceLocation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.client.event.ModelEvent;
+import team.creative.neolittletiles.NeoLittleTilesRegistry;
+
+/**
+ * NeoTilesModelRegistry - Client model hooks for tile blocks
+ * 
+ * Replaces the placeholder model of every NeoTilesBlock state with a
+ * NeoTilesBakedModel after each resource reload, which bakes static tiles into
+ * the chunk section mesh. Registered on the mod event bus (client only).
+ */
+public class NeoTilesModelRegistry {
+    
+    public static void onModifyBakingResult(ModelEvent.ModifyBakingResult event) {
+        for (BlockState state : NeoLittleTilesRegistry.NEOTILES_BLOCK.get().getStateDefinition().getPossibleStates()) {
+            ModelResourceLocation location = BlockModelShaper.stateToModelLocation(state);
+            BakedModel original = event.getModels().get(location);
+            if (original != null) {
+                event.getModels().put(location, new NeoTilesBakedModel(original));
+            }
+        }
+    }
+}
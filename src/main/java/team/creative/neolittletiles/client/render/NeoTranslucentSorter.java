@@ -0,0 +1,147 @@
+package team.creative.neolittletiles.client.render;
+
+import java.util.Arrays;
+
+/**
+ * NeoTranslucentSorter - Back to front order of the translucent quads of a mesh
+ * 
+ * Only the translucent tail of a NeoTileMesh is sorted, opaque quads are drawn
+ * unsorted. Sorting is kept cheap for blocks with thousands of quads:
+ * - Quad centroids are computed once per mesh
+ * - Depth is the squared distance to the camera, quantized to 16 bits
+ * - Two 8 bit LSD radix passes instead of a comparison sort
+ * - The previous order is reused while the camera moves less than
+ *   RESORT_DISTANCE since the last sort
+ * 
+ * Camera positions are block local, like the mesh. Not thread-safe, one
+ * sorter per mesh on the render thread.
+ */
+public class NeoTranslucentSorter {
+    
+    /** Camera movement in blocks that triggers a re-sort */
+    public static final float RESORT_DISTANCE = 1F / 16;
+    
+    private static final int KEY_MAX = 0xFFFF;
+    
+    private final int offset;
+    private final int count;
+    private final float[] centroids;
+    private final int[] order;
+    private final int[] keys;
+    private final int[] scratchOrder;
+    private final int[] scratchKeys;
+    private final int[] buckets = new int[256];
+    
+    private boolean sorted;
+    private float lastX, lastY, lastZ;
+    private long sortCount;
+    private long reuseCount;
+    
+    public NeoTranslucentSorter(NeoTileMesh mesh) {
+        this.offset = mesh.getOpaqueQuadCount();
+        this.count = mesh.getTranslucentQuadCount();
+        this.centroids = new float[count * 3];
+        this.order = new int[count];
+        this.keys = new int[count];
+        this.scratchOrder = new int[count];
+        this.scratchKeys = new int[count];
+        
+        for (int i = 0; i < count; i++) {
+            int vertex = (offset + i) * 4;
+            float x = 0, y = 0, z = 0;
+            for (int corner = 0; corner < 4; corner++) {
+                x += mesh.getX(vertex + corner);
+                y += mesh.getY(vertex + corner);
+                z += mesh.getZ(vertex + corner);
+            }
+            centroids[i * 3] = x * 0.25F;
+            centroids[i * 3 + 1] = y * 0.25F;
+            centroids[i * 3 + 2] = z * 0.25F;
+            order[i] = offset + i;
+        }
+    }
+    
+    /**
+     * Get the translucent quads in back to front order
+     * @param cameraX Block local camera x
+     * @param cameraY Block local camera y
+     * @param cameraZ Block local camera z
+     * @return Quad indices, farthest first (shared array, valid until the next call)
+     */
+    public int[] sort(float cameraX, float cameraY, float cameraZ) {
+        if (count < 2) {
+            return order;
+        }
+        
+        float dx = cameraX - lastX, dy = cameraY - lastY, dz = cameraZ - lastZ;
+        if (sorted && dx * dx + dy * dy + dz * dz < RESORT_DISTANCE * RESORT_DISTANCE) {
+            reuseCount++;
+            return order;
+        }
+        
+        // Squared distances, reusing the key array as float bits
+        float maxDepth = 0;
+        for (int i = 0; i < count; i++) {
+            float x = centroids[i * 3] - cameraX, y = centroids[i * 3 + 1] - cameraY, z = centroids[i * 3 + 2] - cameraZ;
+            float depth = x * x + y * y + z * z;
+            keys[i] = Float.floatToRawIntBits(depth);
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        
+        // Invert so ascending keys mean farthest first
+        float scale = maxDepth > 0 ? KEY_MAX / maxDepth : 0;
+        for (int i = 0; i < count; i++) {
+            keys[i] = KEY_MAX - (int) (Float.intBitsToFloat(keys[i]) * scale);
+            order[i] = offset + i;
+        }
+        
+        radixPass(keys, order, scratchKeys, scratchOrder, 0);
+        radixPass(scratchKeys, scratchOrder, keys, order, 8);
+        
+        sorted = true;
+        lastX = cameraX;
+        lastY = cameraY;
+        lastZ = cameraZ;
+        sortCount++;
+        return order;
+    }
+    
+    private void radixPass(int[] keysIn, int[] orderIn, int[] keysOut, int[] orderOut, int shift) {
+        Arrays.fill(buckets, 0);
+        for (int i = 0; i < count; i++) {
+            buckets[(keysIn[i] >>> shift) & 0xFF]++;
+        }
+        int total = 0;
+        for (int bucket = 0; bucket < 256; bucket++) {
+            int size = buckets[bucket];
+            buckets[bucket] = total;
+            total += size;
+        }
+        for (int i = 0; i < count; i++) {
+            int target = buckets[(keysIn[i] >>> shift) & 0xFF]++;
+            keysOut[target] = keysIn[i];
+            orderOut[target] = orderIn[i];
+        }
+    }
+    
+    /**
+     * Get the number of translucent quads
+     * @return Quad count
+     */
+    public int size() {
+        return count;
+    }
+    
+    public long getSortCount() {
+        return sortCount;
+    }
+    
+    public long getReuseCount() {
+        return reuseCount;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoTranslucentSorter[quads=%d, sorts=%d, reused=%d]", count, sortCount, reuseCount);
+    }
+}
@@ -1,10 +1,15 @@
 package team.creative.neolittletiles.common.action;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * NeoDestroyAction - Action for destroying tiles in the world
@@ -18,6 +23,8 @@ import java.util.List;
  */
 public class NeoDestroyAction extends NeoAction {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoDestroyAction.class);
+    
     private final NeoBox destructionArea;
     private Object targetLevel;
     private Object targetPos;
@@ -28,7 +35,7 @@ public class NeoDestroyAction extends NeoAction {
     
     @Override
     public Result execute(Object player) {
-        System.out.println("Executing NeoDestroyAction: " + this);
+        LOGGER.debug("Executing NeoDestroyAction: {}", this);
         
         // TODO: Implement when proper classes are available
         
@@ -51,7 +58,7 @@ public class NeoDestroyAction extends NeoAction {
         NeoTilesBlockEntity blockEntity = getBlockEntity();
         if (blockEntity == null) {
             // For MVP, simulate destruction
-            System.out.println("Simulated tile destruction in area: " + destructionArea);
+            LOGGER.debug("Simulated tile destruction in area: {}", destructionArea);
             return Result.SUCCESS;
         }
         
@@ -59,17 +66,17 @@ public class NeoDestroyAction extends NeoAction {
         List<NeoTile> removedTiles = blockEntity.removeTiles(destructionArea);
         
         if (!removedTiles.isEmpty()) {
-            System.out.println("Successfully destroyed " + removedTiles.size() + " tiles");
+            LOGGER.debug("Successfully cut {} tiles", removedTiles.size());
             
             // 6. Handle item drops
-            handleItemDrops(removedTiles, player);
+            handleItemDrops(blockEntity, removedTiles, player);
             
             // 7. Clean up empty block entity if needed
             cleanupBlockEntity(blockEntity);
             
             return Result.SUCCESS;
         } else {
-            System.out.println("No tiles found in destruction area");
+            LOGGER.debug("No tiles found in destruction area");
             return Result.FAILURE;
         }
     }
@@ -80,7 +87,7 @@ public class NeoDestroyAction extends NeoAction {
      */
     private boolean isValidDestruction() {
         if (!destructionArea.isValid()) {
-            System.out.println("Invalid destruction area: " + destructionArea);
+            LOGGER.debug("Invalid destruction area: {}", destructionArea);
             return false;
         }
         
@@ -95,7 +102,7 @@ public class NeoDestroyAction extends NeoAction {
         // TODO: Implement when BlockPos and Level are available
         
         // For MVP, assume destruction at origin
-        System.out.println("Calculated target position for destruction");
+        LOGGER.debug("Calculated target position for destruction");
         return true;
     }
     
@@ -107,57 +114,54 @@ public class NeoDestroyAction extends NeoAction {
         // TODO: Implement when Level and BlockPos are available
         
         // For MVP, return null (destruction will be simulated)
-        System.out.println("Simulating block entity for destruction");
+        LOGGER.debug("Simulating block entity for destruction");
         return null;
     }
     
     /**
      * Handle dropping items for destroyed tiles
+     * @param blockEntity Block entity the tiles were cut from
      * @param destroyedTiles List of tiles that were destroyed
      * @param player Player who destroyed the tiles
      */
-    private void handleItemDrops(List<NeoTile> destroyedTiles, Object player) {
+    private void handleItemDrops(NeoTilesBlockEntity blockEntity, List<NeoTile> destroyedTiles, Object player) {
         // TODO: Implement proper item dropping when Level and ItemStack are available
         
-        System.out.println("Handling item drops for " + destroyedTiles.size() + " destroyed tiles:");
+        LOGGER.debug("Handling item drops for {} destroyed tile parts:", destroyedTiles.size());
         
+        // Cuts only return the removed parts, so sum them per state; the block entity
+        // carries partial blocks over to later cuts, so chipping never duplicates items
+        Map<Integer, Long> volumes = new LinkedHashMap<>();
         for (NeoTile tile : destroyedTiles) {
-            // Calculate drop based on tile volume and state
-            int dropCount = calculateDropCount(tile);
-            Object itemStack = createItemDrop(tile, dropCount);
+            volumes.merge(tile.getStateId(), (long) tile.getVolume(), Long::sum);
+        }
+        
+        for (Map.Entry<Integer, Long> entry : volumes.entrySet()) {
+            int dropCount = blockEntity.takeDrops(entry.getKey(), entry.getValue());
+            if (dropCount == 0) {
+                continue;
+            }
+            Object state = NeoTilePalette.GLOBAL.get(entry.getKey());
+            Object itemStack = createItemDrop(state, dropCount);
             
-            System.out.println("  - Dropping " + dropCount + " items from " + tile.getState());
+            LOGGER.debug("  - Dropping {} items from {}", dropCount, state);
             
             // TODO: Actually drop items in world
             dropItemInWorld(itemStack, player);
         }
     }
     
-    /**
-     * Calculate how many items to drop for a destroyed tile
-     * @param tile The destroyed tile
-     * @return Number of items to drop
-     */
-    private int calculateDropCount(NeoTile tile) {
-        // Base drop count on tile volume as percentage of full block
-        double fullBlockVolume = 16.0 * 16.0 * 16.0; // Grid 16 full block
-        double tilePercent = tile.getVolume() / fullBlockVolume;
-        
-        // Drop at least 1 item for any tile
-        return Math.max(1, (int) Math.ceil(tilePercent * 1.0));
-    }
-    
     /**
      * Create item stack for tile drop
-     * @param tile The destroyed tile
+     * @param state State of the destroyed tiles
      * @param count Number of items
      * @return Item stack to drop
      */
-    private Object createItemDrop(NeoTile tile, int count) {
+    private Object createItemDrop(Object state, int count) {
         // TODO: Implement when ItemStack is available
         
         // For MVP, return string representation
-        return tile.getState() + " x" + count;
+        return state + " x" + count;
     }
     
     /**
@@ -168,7 +172,7 @@ public class NeoDestroyAction extends NeoAction {
     private void dropItemInWorld(Object itemStack, Object player) {
         // TODO: Implement when Level and ItemEntity are available
         
-        System.out.println("    Dropped: " + itemStack);
+        LOGGER.debug("    Dropped: {}", itemStack);
     }
     
     /**
@@ -177,7 +181,7 @@ public class NeoDestroyAction extends NeoAction {
      */
     private void cleanupBlockEntity(NeoTilesBlockEntity blockEntity) {
         if (!blockEntity.hasTiles()) {
-            System.out.println("Block entity is empty, should be removed");
+            LOGGER.debug("Block entity is empty, should be removed");
             // TODO: Remove block from world when Level is available
         }
     }
@@ -186,7 +190,7 @@ public class NeoDestroyAction extends NeoAction {
     protected boolean checkRequirements(Object player) {
         // TODO: Implement tool durability checking when Player is available
         
-        System.out.println("Checking destruction requirements for player");
+        LOGGER.debug("Checking destruction requirements for player");
         
         // For MVP, always allow
         return true;
@@ -196,7 +200,7 @@ public class NeoDestroyAction extends NeoAction {
     protected boolean checkPermissions(Object player) {
         // TODO: Implement permission checking when Player is available
         
-        System.out.println("Checking destruction permissions for player");
+        LOGGER.debug("Checking destruction permissions for player");
         
         // For MVP, always allow
         return true;
@@ -1,5 +1,7 @@
 package team.creative.neolittletiles.common.action;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
@@ -16,6 +18,8 @@ import team.creative.neolittletiles.common.tile.NeoTile;
  */
 public class NeoPlaceAction extends NeoAction {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoPlaceAction.class);
+    
     private final NeoBox box;
     private final Object blockState;
     private final int color;
@@ -30,7 +34,7 @@ public class NeoPlaceAction extends NeoAction {
     
     @Override
     public Result execute(Object player) {
-        System.out.println("Executing NeoPlaceAction: " + this);
+        LOGGER.debug("Executing NeoPlaceAction: {}", this);
         
         // TODO: Implement when proper classes are available
         
@@ -57,17 +61,17 @@ public class NeoPlaceAction extends NeoAction {
         
         if (blockEntity == null) {
             // For MVP, simulate placement without block entity
-            System.out.println("Simulated tile placement: " + newTile);
+            LOGGER.debug("Simulated tile placement: {}", newTile);
             return Result.SUCCESS;
         }
         
         boolean success = blockEntity.addTile(newTile);
         
         if (success) {
-            System.out.println("Successfully placed tile: " + newTile);
+            LOGGER.debug("Successfully placed tile: {}", newTile);
             return Result.SUCCESS;
         } else {
-            System.out.println("Failed to place tile - collision or error");
+            LOGGER.debug("Failed to place tile - collision or error");
             return Result.FAILURE;
         }
     }
@@ -78,12 +82,12 @@ public class NeoPlaceAction extends NeoAction {
      */
     private boolean isValidPlacement() {
         if (!box.isValid()) {
-            System.out.println("Invalid box for placement: " + box);
+            LOGGER.debug("Invalid box for placement: {}", box);
             return false;
         }
         
         if (blockState == null) {
-            System.out.println("No block state specified for placement");
+            LOGGER.debug("No block state specified for placement");
             return false;
         }
         
@@ -98,7 +102,7 @@ public class NeoPlaceAction extends NeoAction {
         // TODO: Implement when BlockPos and Level are available
         
         // For MVP, assume placement at origin
-        System.out.println("Calculated target position for placement");
+        LOGGER.debug("Calculated target position for placement");
         return true;
     }
     
@@ -110,7 +114,7 @@ public class NeoPlaceAction extends NeoAction {
         // TODO: Implement when Level and BlockPos are available
         
         // For MVP, return null (actions will be simulated)
-        System.out.println("Simulating block entity for tile placement");
+        LOGGER.debug("Simulating block entity for tile placement");
         return null;
     }
     
@@ -123,7 +127,7 @@ public class NeoPlaceAction extends NeoAction {
         // Check for collisions with existing tiles
         for (NeoTile existing : blockEntity.getTiles(box)) {
             if (existing.intersects(box)) {
-                System.out.println("Tile collision detected with: " + existing);
+                LOGGER.debug("Tile collision detected with: {}", existing);
                 return false;
             }
         }
@@ -135,7 +139,7 @@ public class NeoPlaceAction extends NeoAction {
         // TODO: Implement resource checking when Player is available
         
         // Check if player has the required block/material
-        System.out.println("Checking placement requirements for player");
+        LOGGER.debug("Checking placement requirements for player");
         
         // For MVP, always allow
         return true;
@@ -145,7 +149,7 @@ public class NeoPlaceAction extends NeoAction {
     protected boolean checkPermissions(Object player) {
         // TODO: Implement permission checking when Player is available
         
-        System.out.println("Checking placement permissions for player");
+        LOGGER.debug("Checking placement permissions for player");
         
         // For MVP, always allow
         return true;
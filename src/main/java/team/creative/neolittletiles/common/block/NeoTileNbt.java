@@ -0,0 +1,94 @@
+package team.creative.neolittletiles.common.block;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.block.state.BlockState;
+import team.creative.neolittletiles.common.tile.NeoTileCodec;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+/**
+ * NeoTileNbt - NBT glue for NeoTileCodec
+ * 
+ * Writes the encoded arrays as a single compound:
+ * - V: format version byte, F: box format byte
+ * - P: palette list (BlockState compounds, {S: name} for other states)
+ * - R: tiles per palette entry, B: packed boxes, C: (color, count) runs
+ * 
+ * Arrays are stored as IntArrayTags, so a block with thousands of tiles is
+ * still only a few tags instead of one compound per tile.
+ */
+public final class NeoTileNbt {
+    
+    private NeoTileNbt() {
+    }
+    
+    /**
+     * Encode tiles into a compound
+     * @param store Tiles to write
+     * @param gridSize Grid size of the tiles
+     * @return Tag holding all tiles
+     */
+    public static CompoundTag write(NeoTileStore store, int gridSize) {
+        NeoTileCodec.Encoded data = NeoTileCodec.encode(store, gridSize);
+        
+        ListTag palette = new ListTag();
+        for (Object state : data.states) {
+            palette.add(writeState(state));
+        }
+        
+        CompoundTag nbt = new CompoundTag();
+        nbt.putByte("V", data.version);
+        nbt.putByte("F", data.format);
+        nbt.put("P", palette);
+        nbt.putIntArray("R", data.runs);
+        nbt.putIntArray("B", data.boxes);
+        nbt.putIntArray("C", data.colors);
+        return nbt;
+    }
+    
+    /**
+     * Decode tiles from a compound written by write()
+     * @param nbt Tag holding the tiles
+     * @param gridSize Grid size of the tiles
+     * @param target Collection receiving the tiles
+     * @param registries Registry access for block states
+     * @return Number of decoded tiles
+     * @throws IllegalArgumentException if the data is malformed or from an unknown version
+     */
+    public static int read(CompoundTag nbt, int gridSize, NeoTileCollection target, HolderLookup.Provider registries) {
+        ListTag palette = nbt.getList("P", Tag.TAG_COMPOUND);
+        
+        Object[] states = new Object[palette.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = readState(palette.getCompound(i), registries);
+        }
+        
+        NeoTileCodec.Encoded data = new NeoTileCodec.Encoded(nbt.getByte("V"), nbt.getByte("F"), states,
+            nbt.getIntArray("R"), nbt.getIntArray("B"), nbt.getIntArray("C"));
+        return NeoTileCodec.decode(data, gridSize, target);
+    }
+    
+    // List tags need a single element type, so non-BlockState states are wrapped in a compound too
+    private static CompoundTag writeState(Object state) {
+        if (state instanceof BlockState blockState) {
+            return NbtUtils.writeBlockState(blockState);
+        }
+        CompoundTag nbt = new CompoundTag();
+        if (state != null) {
+            nbt.putString("S", state.toString());
+        }
+        return nbt;
+    }
+    
+    private static Object readState(CompoundTag nbt, HolderLookup.Provider registries) {
+        if (nbt.contains("Name", Tag.TAG_STRING)) {
+            return NbtUtils.readBlockState(registries.lookupOrThrow(Registries.BLOCK), nbt);
+        }
+        return nbt.contains("S", Tag.TAG_STRING) ? nbt.getString("S") : null;
+    }
+}
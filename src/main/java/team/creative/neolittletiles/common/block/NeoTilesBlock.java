@@ -2,19 +2,26 @@ package team.creative.neolittletiles.common.block;
 
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.material.MapColor;
 import net.minecraft.world.phys.BlockHitResult;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.NeoLittleTilesRegistry;
 
 /**
@@ -24,14 +31,21 @@ import team.creative.neolittletiles.NeoLittleTilesRegistry;
  * - Stores tiles via block entity
  * - Handles placement/destruction interactions
  * - Provides basic collision detection
+ * - Bakes static tiles into the chunk section mesh (ANIMATED=false)
+ * - Forwards neighbor changes so the block entity can refresh its cached occlusion
  * 
  * Based on analysis of BETiles.java rendering requirements
  */
 public class NeoTilesBlock extends BaseEntityBlock {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoTilesBlock.class);
+    
     public static final String BLOCK_ID = "neotiles";
     public static final MapCodec<NeoTilesBlock> CODEC = simpleCodec(properties -> new NeoTilesBlock());
     
+    /** Animated blocks are drawn every frame by the block entity renderer, static ones are baked into the chunk */
+    public static final BooleanProperty ANIMATED = BooleanProperty.create("animated");
+    
     public NeoTilesBlock() {
         super(BlockBehaviour.Properties.of()
             .mapColor(MapColor.STONE)
@@ -39,6 +53,12 @@ public class NeoTilesBlock extends BaseEntityBlock {
             .strength(0.5F)
             .noOcclusion()
         );
+        registerDefaultState(stateDefinition.any().setValue(ANIMATED, false));
+    }
+    
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(ANIMATED);
     }
     
     @Override
@@ -52,9 +72,13 @@ public class NeoTilesBlock extends BaseEntityBlock {
         return new NeoTilesBlockEntity(pos, state);
     }
     
+    /**
+     * Static tile blocks are baked into the chunk section through NeoTilesBakedModel and
+     * only rebuilt with their section, animated ones stay with the block entity renderer
+     */
     @Override
     public RenderShape getRenderShape(BlockState state) {
-        return RenderShape.ENTITYBLOCK_ANIMATED;
+        return state.getValue(ANIMATED) ? RenderShape.ENTITYBLOCK_ANIMATED : RenderShape.MODEL;
     }
     
     @Override
@@ -62,8 +86,8 @@ public class NeoTilesBlock extends BaseEntityBlock {
         if (!level.isClientSide) {
             BlockEntity blockEntity = level.getBlockEntity(pos);
             if (blockEntity instanceof NeoTilesBlockEntity neoTilesBlockEntity) {
-                System.out.println("NeoTilesBlock interaction at position: " + pos);
-                System.out.println("Block entity has " + neoTilesBlockEntity.getTileCount() + " tiles");
+                LOGGER.debug("NeoTilesBlock interaction at position: {}", pos);
+                LOGGER.debug("Block entity has {} tiles", neoTilesBlockEntity.getTileCount());
                 return InteractionResult.SUCCESS;
             }
         }
@@ -75,14 +99,30 @@ public class NeoTilesBlock extends BaseEntityBlock {
         if (!state.is(newState.getBlock())) {
             BlockEntity blockEntity = level.getBlockEntity(pos);
             if (blockEntity instanceof NeoTilesBlockEntity neoTilesBlockEntity) {
-                System.out.println("NeoTilesBlock destroyed at position: " + pos);
-                System.out.println("Had " + neoTilesBlockEntity.getTileCount() + " tiles");
+                LOGGER.debug("NeoTilesBlock destroyed at position: {}", pos);
+                LOGGER.debug("Had {} tiles", neoTilesBlockEntity.getTileCount());
                 // TODO: Drop tile items
             }
             super.onRemove(state, level, pos, newState, movedByPiston);
         }
     }
     
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        if (level.getBlockEntity(pos) instanceof NeoTilesBlockEntity blockEntity) {
+            blockEntity.invalidateOcclusion();
+        }
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+    }
+    
+    @Override
+    protected BlockState updateShape(BlockState state, Direction direction, BlockState neighborState, LevelAccessor level, BlockPos pos, BlockPos neighborPos) {
+        if (level.getBlockEntity(pos) instanceof NeoTilesBlockEntity blockEntity) {
+            blockEntity.invalidateOcclusion();
+        }
+        return super.updateShape(state, direction, neighborState, level, pos, neighborPos);
+    }
+    
     @Override
     public int getLightEmission(BlockState state, BlockGetter level, BlockPos pos) {
         BlockEntity blockEntity = level.getBlockEntity(pos);
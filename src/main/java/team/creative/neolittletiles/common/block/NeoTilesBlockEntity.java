@@ -1,95 +1,192 @@
 package team.creative.neolittletiles.common.block;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.client.model.data.ModelData;
+import net.neoforged.neoforge.client.model.data.ModelProperty;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.NeoLittleTilesRegistry;
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.network.NeoTilesDeltaPayload;
+import team.creative.neolittletiles.common.network.NeoTilesResyncPayload;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileChangeLog;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileSnapshot;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+import team.creative.neolittletiles.common.util.NeoRateLimiter;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * NeoTilesBlockEntity - Block entity for storing and managing tiles
  * 
  * Simplified block entity for MVP functionality:
- * - Stores list of NeoTiles
- * - Handles tile addition/removal
+ * - Stores NeoTiles in a packed, octree indexed NeoTileCollection
+ * - Handles tile addition/removal (adjacent tiles are merged, overlapping parts of new tiles are cut away)
  * - Provides tile querying capabilities
- * - Manages serialization (placeholder)
+ * - Saves tiles in the compact NeoTileCodec format (see NeoTileNbt), data that fails
+ *   to decode is kept unchanged and the block is locked instead of wiped
+ * - Syncs tile changes to clients as deltas (NeoTilesDeltaPayload) once per tick, with a
+ *   full snapshot fallback when the change log overflows or a client falls behind
+ * - Provides per-side coverage masks so neighbors can cull boundary faces
+ * - Caches the union of its tiles as render bounding box for frustum culling
+ * - Hands a tile snapshot to the chunk section model unless the block is animated
  * 
  * Based on analysis of BlockParentCollection storage requirements
  */
 public class NeoTilesBlockEntity extends BlockEntity {
     
-    private final List<NeoTile> tiles = new ArrayList<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoTilesBlockEntity.class);
+    
+    /** Shared by all tile blocks, a corrupt region or a bad mod can hit every block in a chunk */
+    private static final NeoRateLimiter WARNINGS = new NeoRateLimiter(10, TimeUnit.SECONDS, 5);
+    
+    /** Tile snapshot handed to the chunk section model of static tile blocks, meshed on the compile threads */
+    public static final ModelProperty<NeoTileSnapshot> SNAPSHOT_PROPERTY = new ModelProperty<>();
+    
+    /** Ticks before an unanswered snapshot request may be sent again */
+    public static final int RESYNC_TIMEOUT = 100;
+    
     private NeoGrid grid = NeoGrid.GRID_16; // Default grid
+    private final NeoTileCollection tiles = new NeoTileCollection(grid);
+    private final NeoTileChangeLog changes = new NeoTileChangeLog();
     private boolean needsUpdate = true;
+    private NeoFaceMask faceMask; // Built lazily, null after tile changes
+    private NeoBox bounds; // Union of all tiles, built lazily, null after tile changes
+    private AABB renderBounds; // World space bounds, built lazily, null after tile changes
+    private long occlusionTime = Long.MIN_VALUE; // Game time of the cached occlusion check, MIN_VALUE once invalidated
+    private boolean occluded; // Cached result of isOccluded()
+    private final BlockPos.MutableBlockPos occlusionPos = new BlockPos.MutableBlockPos(); // Scratch position for isOccluded()
+    private NeoTileSnapshot staticSnapshot; // Section model input (client), null after tile changes
+    private long resyncRequestTime = -1; // Game time of the pending snapshot request (client), -1 if none
+    private CompoundTag unreadableTiles; // Saved data that failed to decode, written back unchanged
+    private int unreadableGridSize; // Saved grid size of the unreadable data
+    private final Map<Integer, Long> dropRemainders = new HashMap<>(); // Destroyed volume per state id not paid out as drops yet
     
     public NeoTilesBlockEntity(BlockPos pos, BlockState blockState) {
         super(NeoLittleTilesRegistry.getNeoTilesBlockEntityType(), pos, blockState);
+        tiles.setChangeLog(changes);
     }
     
     /**
-     * Add a tile to this block entity
+     * Add a tile to this block entity, merging it with matching neighbors
+     * 
+     * Parts overlapping existing tiles are cut away, existing tiles are never
+     * replaced. Use removeTiles() first to overwrite an area. Tiles reaching
+     * outside of the block are rejected, they could not be loaded again.
+     * 
      * @param tile The tile to add
-     * @return true if successfully added
+     * @return true if at least part of the tile was added
      */
     public boolean addTile(NeoTile tile) {
-        if (tile == null || !tile.getBox().isValid()) {
+        if (tile == null || !tile.getBox().isValid() || !tile.getBox().isInGrid(grid.getSize()) || isLocked()) {
             return false;
         }
         
-        // Check for overlaps with existing tiles
-        for (NeoTile existing : tiles) {
-            if (existing.intersects(tile)) {
-                System.out.println("Warning: Tile overlap detected, merging not implemented in MVP");
-                // TODO: Implement proper tile merging/splitting
-            }
+        if (tiles.addUncovered(tile.getBox(), tile.getStateId(), tile.getColor()) == 0) {
+            LOGGER.debug("Tile {} at {} is completely covered by existing tiles", tile.getBox(), getBlockPos());
+            return false;
         }
-        
-        tiles.add(tile);
-        needsUpdate = true;
+        onTilesChanged();
         markDirty();
         return true;
     }
     
     /**
-     * Remove tiles that intersect with the given box
+     * Cut the given box out of all tiles, keeping the parts outside of it
      * @param box The area to clear
-     * @return List of removed tiles
+     * @return List of removed tile parts (clipped to the box)
      */
     public List<NeoTile> removeTiles(NeoBox box) {
-        List<NeoTile> removed = new ArrayList<>();
-        tiles.removeIf(tile -> {
-            if (tile.intersects(box)) {
-                removed.add(tile);
-                return true;
-            }
-            return false;
-        });
+        if (isLocked()) {
+            return List.of();
+        }
+        
+        List<NeoTile> removed = tiles.cut(box);
         
         if (!removed.isEmpty()) {
-            needsUpdate = true;
+            onTilesChanged();
             markDirty();
         }
         
         return removed;
     }
     
+    /**
+     * Turn destroyed volume into whole item drops
+     * 
+     * Cuts can remove a single voxel at a time, so rounding every cut up would
+     * turn one block into thousands of drops. Instead the volume that does not
+     * add up to a full block is kept per state and carried over to the next cut,
+     * so the drops never exceed the destroyed volume in full blocks. Remainders
+     * are not saved, at most one item per state is lost when the block unloads.
+     * 
+     * @param stateId Global palette id of the destroyed tiles
+     * @param volume Destroyed volume in grid units
+     * @return Number of items to drop, may be 0
+     */
+    public int takeDrops(int stateId, long volume) {
+        long fullBlock = (long) grid.getSize() * grid.getSize() * grid.getSize();
+        long total = dropRemainders.getOrDefault(stateId, 0L) + volume;
+        long remainder = total % fullBlock;
+        if (remainder == 0) {
+            dropRemainders.remove(stateId);
+        } else {
+            dropRemainders.put(stateId, remainder);
+        }
+        return (int) (total / fullBlock);
+    }
+    
+    /**
+     * Merge all adjacent tiles with the same state and color
+     * @return Number of merges performed
+     */
+    public int compactTiles() {
+        if (isLocked()) {
+            return 0;
+        }
+        int merges = tiles.compact();
+        if (merges > 0) {
+            onTilesChanged();
+            markDirty();
+        }
+        return merges;
+    }
+    
     /**
      * Get all tiles in this block entity
      * @return Read-only list of tiles
      */
     public List<NeoTile> getTiles() {
-        return new ArrayList<>(tiles);
+        return tiles.getTiles();
+    }
+    
+    /**
+     * Get the packed tile collection for read access (mutate through this block entity only)
+     * @return Tile collection
+     */
+    public NeoTileCollection getTileCollection() {
+        return tiles;
     }
     
     /**
@@ -98,13 +195,7 @@ public class NeoTilesBlockEntity extends BlockEntity {
      * @return List of intersecting tiles
      */
     public List<NeoTile> getTiles(NeoBox box) {
-        List<NeoTile> result = new ArrayList<>();
-        for (NeoTile tile : tiles) {
-            if (tile.intersects(box)) {
-                result.add(tile);
-            }
-        }
-        return result;
+        return tiles.getTiles(box);
     }
     
     /**
@@ -112,7 +203,20 @@ public class NeoTilesBlockEntity extends BlockEntity {
      * @return true if has tiles
      */
     public boolean hasTiles() {
-        return !tiles.isEmpty();
+        return !tiles.isEmpty() || isLocked();
+    }
+    
+    /**
+     * Check if the saved tiles could not be decoded
+     * 
+     * The undecodable data is kept and saved again unchanged, so a newer
+     * format or a temporary registry problem does not wipe the block. Until
+     * it loads successfully the block rejects all tile changes.
+     * 
+     * @return true if tile changes are rejected
+     */
+    public boolean isLocked() {
+        return unreadableTiles != null;
     }
     
     /**
@@ -136,9 +240,13 @@ public class NeoTilesBlockEntity extends BlockEntity {
      * @param grid New grid system
      */
     public void setGrid(NeoGrid grid) {
-        if (grid != null && !grid.equals(this.grid)) {
+        if (grid != null && !grid.equals(this.grid) && !isLocked()) {
             this.grid = grid;
-            needsUpdate = true;
+            tiles.setGrid(grid);
+            // Pending deltas and drop remainders are in the old grid units
+            changes.markOverflowed();
+            dropRemainders.clear();
+            onTilesChanged();
             markDirty();
         }
     }
@@ -148,7 +256,7 @@ public class NeoTilesBlockEntity extends BlockEntity {
      * @return Total volume in grid units
      */
     public int getTotalVolume() {
-        return tiles.stream().mapToInt(NeoTile::getVolume).sum();
+        return tiles.getTotalVolume();
     }
     
     /**
@@ -167,35 +275,359 @@ public class NeoTilesBlockEntity extends BlockEntity {
     }
     
     /**
-     * Mark this block entity as dirty for saving
+     * Get the coverage masks of the six block sides, rebuilt after tile changes
+     * @return Face mask of this block
+     */
+    public NeoFaceMask getFaceMask() {
+        if (faceMask == null) {
+            faceMask = NeoFaceMask.build(tiles);
+        }
+        return faceMask;
+    }
+    
+    /**
+     * Get the face mask of the tile block next to the given side
+     * @param side Side of this block
+     * @return Neighbor face mask, or null if the neighbor is not a tile block
+     */
+    @Nullable
+    public NeoFaceMask getNeighborFaceMask(NeoFace side) {
+        if (level == null) {
+            return null;
+        }
+        BlockPos neighborPos = getBlockPos().relative(Direction.from3DDataValue(side.ordinal()));
+        if (level.getBlockEntity(neighborPos) instanceof NeoTilesBlockEntity neighbor) {
+            return neighbor.getFaceMask();
+        }
+        return null;
+    }
+    
+    /**
+     * Get the union of all tile boxes, cached until the tiles change
+     * @return Bounding box in grid coordinates, null if there are no tiles
+     */
+    @Nullable
+    public NeoBox getTileBounds() {
+        if (bounds == null) {
+            bounds = tiles.getBounds();
+        }
+        return bounds;
+    }
+    
+    /**
+     * Get the face masks of all six neighbors
+     * @return Masks by NeoFace ordinal, null where there is no tile block
+     */
+    public NeoFaceMask[] getNeighborFaceMasks() {
+        NeoFaceMask[] neighborMasks = new NeoFaceMask[6];
+        for (int i = 0; i < 6; i++) {
+            neighborMasks[i] = getNeighborFaceMask(NeoFace.byOrdinal(i));
+        }
+        return neighborMasks;
+    }
+    
+    /**
+     * Check if this block is rendered every frame by the block entity renderer
+     * Blocks without the ANIMATED property (e.g. not placed as a NeoTilesBlock) always are
+     * @return false if the tiles are baked into the chunk section mesh
+     */
+    public boolean isAnimated() {
+        BlockState state = getBlockState();
+        return !state.hasProperty(NeoTilesBlock.ANIMATED) || state.getValue(NeoTilesBlock.ANIMATED);
+    }
+    
+    /**
+     * Switch between chunk baked and per frame rendering
+     * @param animated true to render every frame, false to bake into the chunk section
+     */
+    public void setAnimated(boolean animated) {
+        BlockState state = getBlockState();
+        if (level != null && state.hasProperty(NeoTilesBlock.ANIMATED) && state.getValue(NeoTilesBlock.ANIMATED) != animated) {
+            level.setBlock(getBlockPos(), state.setValue(NeoTilesBlock.ANIMATED, animated), 3);
+        }
+    }
+    
+    /**
+     * Hand a tile snapshot to the chunk section model (client)
+     * 
+     * Runs on the main thread, so static blocks only copy their tiles here
+     * once per tile change; NeoTilesBakedModel meshes the snapshot on the
+     * section compile threads. Animated blocks get no model data and are left
+     * to the block entity renderer.
+     */
+    @Override
+    public ModelData getModelData() {
+        if (isAnimated()) {
+            return ModelData.EMPTY;
+        }
+        if (staticSnapshot == null) {
+            staticSnapshot = new NeoTileSnapshot(grid, tiles.getStore().copy(), getNeighborFaceMasks());
+        }
+        return ModelData.builder().with(SNAPSHOT_PROPERTY, staticSnapshot).build();
+    }
+    
+    /**
+     * Get the world space box enclosing all tiles, used for frustum culling (cached until the tiles change)
+     * @return Render bounding box, an empty box at the block position if there are no tiles
+     */
+    public AABB getRenderBoundingBox() {
+        if (renderBounds != null) {
+            return renderBounds;
+        }
+        NeoBox box = getTileBounds();
+        BlockPos pos = getBlockPos();
+        if (box == null) {
+            renderBounds = new AABB(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+        } else {
+            renderBounds = new AABB(
+                pos.getX() + grid.toWorld(box.minX), pos.getY() + grid.toWorld(box.minY), pos.getZ() + grid.toWorld(box.minZ),
+                pos.getX() + grid.toWorld(box.maxX), pos.getY() + grid.toWorld(box.maxY), pos.getZ() + grid.toWorld(box.maxZ));
+        }
+        return renderBounds;
+    }
+    
+    /**
+     * Check if this block is enclosed by opaque neighbors on all six sides
+     * Neighbors count if they are solid full blocks or tile blocks with a fully covered facing side
+     * 
+     * Called every frame by the renderer, so the result is cached. Tile changes
+     * here or in a neighboring tile block and neighbor updates invalidate it;
+     * block changes received by the client trigger no neighbor update, so the
+     * cache is also checked again at most once per game tick.
+     * 
+     * @return true if none of the tiles can be seen from outside
+     */
+    public boolean isOccluded() {
+        if (level == null) {
+            return false;
+        }
+        long time = level.getGameTime();
+        if (occlusionTime != time) {
+            occlusionTime = time;
+            occluded = checkOccluded();
+        }
+        return occluded;
+    }
+    
+    private boolean checkOccluded() {
+        for (int i = 0; i < 6; i++) {
+            NeoFace face = NeoFace.byOrdinal(i);
+            occlusionPos.setWithOffset(getBlockPos(), Direction.from3DDataValue(i));
+            if (level.getBlockEntity(occlusionPos) instanceof NeoTilesBlockEntity neighbor) {
+                if (!neighbor.getFaceMask().isFull(face.getOpposite())) {
+                    return false;
+                }
+            } else if (!level.getBlockState(occlusionPos).isSolidRender(level, occlusionPos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Drop the cached occlusion result, e.g. after a neighbor changed
+     */
+    public void invalidateOcclusion() {
+        occlusionTime = Long.MIN_VALUE;
+    }
+    
+    /**
+     * Invalidate render data, the face mask and the bounds after the tiles changed
+     */
+    private void onTilesChanged() {
+        faceMask = null;
+        bounds = null;
+        renderBounds = null;
+        invalidateRender();
+        
+        // Boundary faces of neighboring tile blocks may have become visible or hidden
+        if (level != null && level.isClientSide) {
+            for (Direction direction : Direction.values()) {
+                if (level.getBlockEntity(getBlockPos().relative(direction)) instanceof NeoTilesBlockEntity neighbor) {
+                    neighbor.invalidateRender();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Drop render data; static blocks also request a rebuild of their chunk section
+     */
+    private void invalidateRender() {
+        needsUpdate = true;
+        invalidateOcclusion();
+        staticSnapshot = null;
+        if (level != null && level.isClientSide && !isAnimated()) {
+            requestModelDataUpdate();
+            level.setBlocksDirty(getBlockPos(), getBlockState(), getBlockState());
+        }
+    }
+    
+    /**
+     * Get the revision of the tiles, increased with every change
+     * @return Current tile revision
+     */
+    public long getRevision() {
+        return changes.getRevision();
+    }
+    
+    /**
+     * Mark this block entity as dirty for saving and sync the changes to clients
+     * 
+     * On the server this only schedules an update, all changes made during a
+     * tick are saved and synced once at its end by NeoTilesUpdateScheduler.
      */
     private void markDirty() {
-        setChanged();
         if (level != null && !level.isClientSide) {
+            NeoTilesUpdateScheduler.schedule(this);
+        } else {
+            setChanged();
+        }
+    }
+    
+    /**
+     * Save mark and client sync for all changes since the last flush
+     */
+    void flushUpdates() {
+        if (isRemoved() || level == null) {
+            return;
+        }
+        setChanged();
+        syncChanges();
+    }
+    
+    /**
+     * Send pending tile changes to all players tracking this block
+     */
+    private void syncChanges() {
+        if (changes.isEmpty()) {
+            return;
+        }
+        
+        if (changes.isOverflowed()) {
+            // The snapshot carries the current revision
+            changes.markSynced();
             level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
+            return;
+        }
+        
+        NeoTilesDeltaPayload payload = new NeoTilesDeltaPayload(getBlockPos(), changes.getBaseRevision(), changes.getRevision(),
+            NeoTileNbt.write(changes.getAdded(), grid.getSize()), NeoTileNbt.write(changes.getRemoved(), grid.getSize()));
+        changes.markSynced();
+        PacketDistributor.sendToPlayersTrackingChunk((ServerLevel) level, new ChunkPos(getBlockPos()), payload);
+    }
+    
+    /**
+     * Apply a tile delta received from the server
+     * 
+     * The change log only keeps net changes, so a delta is only correct on top
+     * of exactly its base revision. Snapshots flush pending changes first (see
+     * getUpdateTag), which makes every snapshot revision a delta boundary.
+     * 
+     * @param baseRevision Revision the changes are based on
+     * @param revision Revision after the changes
+     * @param added Encoded added tiles
+     * @param removed Encoded removed tiles
+     * @param registries Registry access for block states
+     * @return false if the client is not at the base revision or the delta is malformed,
+     *         the caller should then request a snapshot with requestResync()
+     */
+    public boolean applyDelta(long baseRevision, long revision, CompoundTag added, CompoundTag removed, HolderLookup.Provider registries) {
+        long current = changes.getRevision();
+        if (current >= revision) {
+            return true;
+        }
+        if (current != baseRevision) {
+            return false;
+        }
+        
+        NeoTileCollection removedTiles = new NeoTileCollection(grid);
+        NeoTileCollection addedTiles = new NeoTileCollection(grid);
+        try {
+            NeoTileNbt.read(removed, grid.getSize(), removedTiles, registries);
+            NeoTileNbt.read(added, grid.getSize(), addedTiles, registries);
+        } catch (IllegalArgumentException e) {
+            if (WARNINGS.tryAcquire()) {
+                LOGGER.warn("Failed to read tile delta at {}: {} ({} similar warnings suppressed)", getBlockPos(), e.getMessage(), WARNINGS.takeSuppressed());
+            }
+            return false;
+        }
+        
+        NeoTileStore store = removedTiles.getStore();
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        for (int slot = 0; slot < store.size(); slot++) {
+            tiles.removeExact(store.getBox(slot, box), store.getStateId(slot), store.getColor(slot));
+        }
+        
+        store = addedTiles.getStore();
+        for (int slot = 0; slot < store.size(); slot++) {
+            store.getBox(slot, box);
+            if (tiles.findExact(box, store.getStateId(slot), store.getColor(slot)) < 0) {
+                tiles.add(box, store.getStateId(slot), store.getColor(slot));
+            }
+        }
+        
+        changes.reset(revision);
+        resyncRequestTime = -1;
+        onTilesChanged();
+        return true;
+    }
+    
+    /**
+     * Ask the server for a full snapshot after a delta could not be applied
+     * 
+     * Only one request is sent until the snapshot arrives, deltas that keep
+     * failing in the meantime do not flood the server. The server may drop a
+     * request, so it is sent again once RESYNC_TIMEOUT ticks passed unanswered.
+     */
+    public void requestResync() {
+        long time = level != null ? level.getGameTime() : 0;
+        if (resyncRequestTime < 0 || time - resyncRequestTime >= RESYNC_TIMEOUT) {
+            resyncRequestTime = time;
+            PacketDistributor.sendToServer(new NeoTilesResyncPayload(getBlockPos()));
         }
     }
     
     @Override
     protected void saveAdditional(CompoundTag nbt, HolderLookup.Provider registries) {
         super.saveAdditional(nbt, registries);
+        if (unreadableTiles != null) {
+            nbt.putInt("GridSize", unreadableGridSize);
+            nbt.put("Tiles", unreadableTiles.copy());
+            return;
+        }
         nbt.putInt("GridSize", grid.getSize());
         nbt.putInt("TileCount", tiles.size());
-        System.out.println("Saving " + tiles.size() + " tiles to NBT (grid: " + grid.getSize() + ")");
-        // TODO: Serialize individual tiles when needed for persistence
+        nbt.put("Tiles", NeoTileNbt.write(tiles.getStore(), grid.getSize()));
     }
     
     @Override
     protected void loadAdditional(CompoundTag nbt, HolderLookup.Provider registries) {
         super.loadAdditional(nbt, registries);
         int gridSize = nbt.getInt("GridSize");
-        if (gridSize > 0) {
-            grid = NeoGrid.getBySize(gridSize);
+        
+        tiles.clear();
+        unreadableTiles = null;
+        resyncRequestTime = -1;
+        try {
+            // Unknown grid sizes are treated like undecodable tiles
+            if (gridSize > 0) {
+                grid = NeoGrid.getBySize(gridSize);
+                tiles.setGrid(grid);
+            }
+            if (nbt.contains("Tiles", Tag.TAG_COMPOUND)) {
+                NeoTileNbt.read(nbt.getCompound("Tiles"), grid.getSize(), tiles, registries);
+            }
+        } catch (IllegalArgumentException e) {
+            if (WARNINGS.tryAcquire()) {
+                LOGGER.warn("Failed to load tiles at {}, keeping the saved data: {} ({} similar warnings suppressed)", getBlockPos(), e.getMessage(), WARNINGS.takeSuppressed());
+            }
+            tiles.clear();
+            unreadableTiles = nbt.getCompound("Tiles").copy();
+            unreadableGridSize = gridSize;
         }
-        int tileCount = nbt.getInt("TileCount");
-        System.out.println("Loading " + tileCount + " tiles from NBT (grid: " + grid.getSize() + ")");
-        needsUpdate = true;
-        // TODO: Deserialize individual tiles when needed for persistence
+        changes.reset(nbt.getLong("Revision"));
+        onTilesChanged();
     }
     
     @Nullable
@@ -204,10 +636,23 @@ public class NeoTilesBlockEntity extends BlockEntity {
         return ClientboundBlockEntityDataPacket.create(this);
     }
     
+    /**
+     * Build a full snapshot for clients
+     * 
+     * Pending changes are synced to the tracking players first, so the
+     * snapshot revision is always the base of the next delta. Otherwise a
+     * snapshot taken mid-tick would miss the net changes already in the log.
+     * Changes that cancelled out leave the tiles as they were at the base
+     * revision, so that is the revision the snapshot carries.
+     */
     @Override
     public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
+        if (level instanceof ServerLevel && !isRemoved()) {
+            syncChanges();
+        }
         CompoundTag nbt = new CompoundTag();
         saveAdditional(nbt, registries);
+        nbt.putLong("Revision", changes.getBaseRevision());
         return nbt;
     }
     
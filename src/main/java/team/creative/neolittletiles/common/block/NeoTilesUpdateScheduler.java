@@ -0,0 +1,92 @@
+package team.creative.neolittletiles.common.block;
+
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import team.creative.neolittletiles.common.util.NeoTickBatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * NeoTilesUpdateScheduler - End-of-tick batching of block entity updates
+ * 
+ * Tile mutations only mark their block entity here. At the end of each
+ * level tick every marked block entity is saved and synced once, so placing
+ * a whole blueprint costs one save mark and one client packet per block.
+ * 
+ * Registered on the NeoForge event bus, server levels only. Each batcher is
+ * only touched by its level's thread, the counters may be read from any thread.
+ */
+public class NeoTilesUpdateScheduler {
+    
+    private static final Map<ServerLevel, NeoTickBatcher<NeoTilesBlockEntity>> BATCHERS = new ConcurrentHashMap<>();
+    
+    // Totals over all levels since startup
+    private static final LongAdder MARKED = new LongAdder();
+    private static final LongAdder FLUSHED = new LongAdder();
+    private static final LongAdder COALESCED = new LongAdder();
+    
+    /**
+     * Schedule a block entity update for the end of the current tick
+     * @param blockEntity Block entity with a server level
+     */
+    public static void schedule(NeoTilesBlockEntity blockEntity) {
+        if (!(blockEntity.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        MARKED.increment();
+        if (!BATCHERS.computeIfAbsent(level, key -> new NeoTickBatcher<>()).mark(blockEntity)) {
+            COALESCED.increment();
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel().isClientSide()) {
+            return;
+        }
+        NeoTickBatcher<NeoTilesBlockEntity> batcher = BATCHERS.get(event.getLevel());
+        if (batcher != null) {
+            FLUSHED.add(batcher.flush(NeoTilesBlockEntity::flushUpdates));
+        }
+    }
+    
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            return;
+        }
+        NeoTickBatcher<NeoTilesBlockEntity> batcher = BATCHERS.remove(event.getLevel());
+        if (batcher != null) {
+            // Unsaved marks are flushed so the chunk save still sees them
+            FLUSHED.add(batcher.flush(NeoTilesBlockEntity::flushUpdates));
+        }
+    }
+    
+    /**
+     * Get the number of update requests since startup
+     * @return Requested updates
+     */
+    public static long getMarkedCount() {
+        return MARKED.sum();
+    }
+    
+    /**
+     * Get the number of updates actually performed since startup
+     * @return Flushed updates
+     */
+    public static long getFlushedCount() {
+        return FLUSHED.sum();
+    }
+    
+    /**
+     * Get the number of update requests merged into an already scheduled update
+     * @return Coalesced updates
+     */
+    public static long getCoalescedCount() {
+        return COALESCED.sum();
+    }
+}
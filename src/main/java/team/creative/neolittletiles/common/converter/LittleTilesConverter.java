@@ -1,5 +1,7 @@
 package team.creative.neolittletiles.common.converter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
@@ -20,6 +22,8 @@ import java.util.List;
  */
 public class LittleTilesConverter {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(LittleTilesConverter.class);
+    
     /**
      * Convert legacy LittleTiles NBT data to NeoLittleTiles format
      * This method serves as the main entry point for structure conversion
@@ -33,8 +37,8 @@ public class LittleTilesConverter {
         List<NeoTile> result = new ArrayList<>();
         
         // Placeholder implementation - will be expanded when Minecraft dependencies are resolved
-        System.out.println("Converting LittleTiles NBT data to NeoLittleTiles format");
-        System.out.println("Target grid: " + targetGrid);
+        LOGGER.debug("Converting LittleTiles NBT data to NeoLittleTiles format");
+        LOGGER.debug("Target grid: {}", targetGrid);
         
         return result;
     }
@@ -110,7 +114,7 @@ public class LittleTilesConverter {
         List<NeoTile> tiles = new ArrayList<>();
         
         // TODO: Implement recursive traversal and flattening when LittleGroup is accessible
-        System.out.println("Flattening LittleGroup to NeoTiles with grid: " + targetGrid);
+        LOGGER.debug("Flattening LittleGroup to NeoTiles with grid: {}", targetGrid);
         
         return tiles;
     }
@@ -125,18 +129,23 @@ public class LittleTilesConverter {
      */
     public static boolean validateConversion(List<NeoTile> tiles, Object originalData) {
         if (tiles == null || tiles.isEmpty()) {
-            System.out.println("Warning: No tiles in converted structure");
+            LOGGER.warn("No tiles in converted structure");
             return false;
         }
         
-        // Check for overlapping tiles
+        // Check for overlapping tiles, reported as one summary instead of a line per pair
+        int overlaps = 0;
         for (int i = 0; i < tiles.size(); i++) {
             for (int j = i + 1; j < tiles.size(); j++) {
                 if (tiles.get(i).intersects(tiles.get(j))) {
-                    System.out.println("Warning: Overlapping tiles detected at indices " + i + " and " + j);
+                    overlaps++;
+                    LOGGER.debug("Overlapping tiles detected at indices {} and {}", i, j);
                 }
             }
         }
+        if (overlaps > 0) {
+            LOGGER.warn("Converted structure has {} overlapping tile pairs", overlaps);
+        }
         
         // TODO: Add more validation checks as needed
         return true;
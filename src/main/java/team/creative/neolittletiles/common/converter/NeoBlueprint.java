@@ -1,9 +1,17 @@
 package team.creative.neolittletiles.common.converter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCodec;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,6 +30,8 @@ import java.util.regex.Pattern;
  */
 public class NeoBlueprint {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoBlueprint.class);
+    
     // NBT structure keys from LittleTiles format
     private static final String KEY_CONTENT = "c";
     private static final String KEY_TILES = "t";
@@ -51,11 +61,102 @@ public class NeoBlueprint {
             Map<String, Object> nbtData = parseSNBT(snbtString);
             return new NeoBlueprint(nbtData);
         } catch (Exception e) {
-            System.err.println("Failed to parse SNBT: " + e.getMessage());
+            LOGGER.warn("Failed to parse SNBT: {}", e.getMessage());
             return null;
         }
     }
     
+    /**
+     * Stream the tiles of a LittleTiles export straight into a sink, without building the NBT tree
+     * 
+     * The input is scanned twice: once for the grid size, which exports write
+     * after the content (keys are sorted), and once for the tiles. Memory use
+     * does not depend on the blueprint size, the box handed to the sink is reused.
+     * @param snbt SNBT format string from LittleTiles
+     * @param targetGrid Grid the tiles are converted to
+     * @param sink Receiver of the converted tiles
+     * @return Number of tiles passed to the sink
+     * @throws SNBTParser.ParseException if the input is malformed
+     */
+    public static int importSNBT(CharSequence snbt, NeoGrid targetGrid, TileSink sink) {
+        GridProbe probe = new GridProbe();
+        SNBTParser.parse(snbt, probe);
+        
+        TileStreamer streamer = new TileStreamer(probe.grid, targetGrid, sink);
+        SNBTParser.parse(snbt, streamer);
+        
+        LOGGER.debug("Streamed {} tiles from blueprint", streamer.count);
+        return streamer.count;
+    }
+    
+    /**
+     * Read tiles written by NeoBlueprintWriter.toBinary()
+     * @param data Binary blueprint
+     * @param targetGrid Grid the tiles are converted to
+     * @param sink Receiver of the converted tiles
+     * @return Number of tiles passed to the sink
+     * @throws IllegalArgumentException if the data is malformed or from an unknown version
+     */
+    public static int importBinary(byte[] data, NeoGrid targetGrid, TileSink sink) {
+        NeoTileCodec.Encoded encoded;
+        NeoGrid sourceGrid;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != NeoBlueprintWriter.BINARY_MAGIC) {
+                throw new IllegalArgumentException("Not a binary blueprint");
+            }
+            byte version = in.readByte();
+            byte format = in.readByte();
+            sourceGrid = toGrid(in.readInt());
+            
+            // Every writeUTF entry takes at least its 2 byte length prefix
+            int stateCount = in.readInt();
+            if (stateCount < 0 || stateCount > in.available() / 2) {
+                throw new IllegalArgumentException("Invalid state count " + stateCount);
+            }
+            Object[] states = new Object[stateCount];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = in.readUTF();
+            }
+            encoded = new NeoTileCodec.Encoded(version, format, states, readInts(in), readInts(in), readInts(in));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated binary blueprint", e);
+        }
+        
+        NeoTileCollection tiles = new NeoTileCollection(sourceGrid);
+        NeoTileCodec.decode(encoded, sourceGrid.getSize(), tiles);
+        
+        NeoTileStore store = tiles.getStore();
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        int[] coords = new int[6];
+        int count = 0;
+        for (int slot = 0; slot < store.size(); slot++) {
+            coords[0] = store.getMinX(slot);
+            coords[1] = store.getMinY(slot);
+            coords[2] = store.getMinZ(slot);
+            coords[3] = store.getMaxX(slot);
+            coords[4] = store.getMaxY(slot);
+            coords[5] = store.getMaxZ(slot);
+            convertBox(coords, sourceGrid, targetGrid, box);
+            if (box.isValid()) {
+                sink.accept(box, (String) store.getState(slot), store.getColor(slot));
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available() / 4) {
+            throw new IllegalArgumentException("Invalid array length " + length);
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+    
     /**
      * Create blueprint from NBT-like data structure
      * @param nbtData Parsed NBT data
@@ -78,14 +179,14 @@ public class NeoBlueprint {
         // Get content section
         Map<String, Object> content = getContentSection();
         if (content == null) {
-            System.out.println("No content section found in blueprint");
+            LOGGER.debug("No content section found in blueprint");
             return tiles;
         }
         
         // Get tiles section
         Map<String, Object> tilesData = getMapValue(content, KEY_TILES);
         if (tilesData == null) {
-            System.out.println("No tiles data found in blueprint");
+            LOGGER.debug("No tiles data found in blueprint");
             return tiles;
         }
         
@@ -99,8 +200,7 @@ public class NeoBlueprint {
             }
         }
         
-        System.out.println("Converted blueprint: " + tiles.size() + " tiles from " + 
-                         tilesData.size() + " materials");
+        LOGGER.debug("Converted blueprint: {} tiles from {} materials", tiles.size(), tilesData.size());
         return tiles;
     }
     
@@ -117,17 +217,17 @@ public class NeoBlueprint {
         int currentColor = 0xFFFFFFFF; // Default white
         
         for (Object arrayData : tileArrays) {
-            List<Integer> intArray = getIntListValue(arrayData);
-            if (intArray == null || intArray.isEmpty()) continue;
+            int[] intArray = getIntArrayValue(arrayData);
+            if (intArray == null || intArray.length == 0) continue;
             
             // First array is color marker
-            if (intArray.size() == 1) {
-                currentColor = intArray.get(0);
+            if (intArray.length == 1) {
+                currentColor = intArray[0];
                 continue;
             }
             
             // Box arrays have 6+ elements
-            if (intArray.size() >= 6) {
+            if (intArray.length >= 6) {
                 NeoBox box = convertBox(intArray, targetGrid);
                 if (box != null && box.isValid()) {
                     NeoTile tile = new NeoTile(box, blockState, currentColor);
@@ -145,27 +245,38 @@ public class NeoBlueprint {
      * @param targetGrid Target grid system
      * @return Converted NeoBox
      */
-    private NeoBox convertBox(List<Integer> coords, NeoGrid targetGrid) {
-        if (coords.size() < 6) return null;
+    private NeoBox convertBox(int[] coords, NeoGrid targetGrid) {
+        if (coords.length < 6) return null;
         
-        int minX = coords.get(0);
-        int minY = coords.get(1);
-        int minZ = coords.get(2);
-        int maxX = coords.get(3);
-        int maxY = coords.get(4);
-        int maxZ = coords.get(5);
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        convertBox(coords, sourceGrid, targetGrid, box);
+        return box;
+    }
+    
+    /**
+     * Convert box coordinates from source to target grid into an existing box
+     * @param coords Box coordinates [minX, minY, minZ, maxX, maxY, maxZ, ...], at least 6 values
+     * @param sourceGrid Grid the coordinates are in
+     * @param targetGrid Target grid system
+     * @param out Box receiving the converted coordinates
+     */
+    private static void convertBox(int[] coords, NeoGrid sourceGrid, NeoGrid targetGrid, NeoBox out) {
+        out.minX = coords[0];
+        out.minY = coords[1];
+        out.minZ = coords[2];
+        out.maxX = coords[3];
+        out.maxY = coords[4];
+        out.maxZ = coords[5];
         
         // Convert grid coordinates if needed
         if (!sourceGrid.equals(targetGrid)) {
-            minX = sourceGrid.convertGrid(minX, targetGrid);
-            minY = sourceGrid.convertGrid(minY, targetGrid);
-            minZ = sourceGrid.convertGrid(minZ, targetGrid);
-            maxX = sourceGrid.convertGrid(maxX, targetGrid);
-            maxY = sourceGrid.convertGrid(maxY, targetGrid);
-            maxZ = sourceGrid.convertGrid(maxZ, targetGrid);
+            out.minX = sourceGrid.convertGrid(out.minX, targetGrid);
+            out.minY = sourceGrid.convertGrid(out.minY, targetGrid);
+            out.minZ = sourceGrid.convertGrid(out.minZ, targetGrid);
+            out.maxX = sourceGrid.convertGrid(out.maxX, targetGrid);
+            out.maxY = sourceGrid.convertGrid(out.maxY, targetGrid);
+            out.maxZ = sourceGrid.convertGrid(out.maxZ, targetGrid);
         }
-        
-        return new NeoBox(minX, minY, minZ, maxX, maxY, maxZ);
     }
     
     /**
@@ -174,13 +285,19 @@ public class NeoBlueprint {
      */
     private NeoGrid extractGrid() {
         Object gridValue = nbtData.get(KEY_GRID);
-        if (gridValue instanceof Integer) {
-            int gridSize = (Integer) gridValue;
-            try {
-                return new NeoGrid(gridSize);
-            } catch (IllegalArgumentException e) {
-                System.out.println("Invalid grid size " + gridSize + ", using default");
-            }
+        return gridValue instanceof Integer gridSize ? toGrid(gridSize) : new NeoGrid(DEFAULT_LITTLETILES_GRID);
+    }
+    
+    /**
+     * Create the grid for a stored grid size
+     * @param gridSize Grid size from the blueprint
+     * @return Grid, or the LittleTiles default if the size is invalid
+     */
+    private static NeoGrid toGrid(int gridSize) {
+        try {
+            return new NeoGrid(gridSize);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid grid size {}, using default", gridSize);
         }
         return new NeoGrid(DEFAULT_LITTLETILES_GRID);
     }
@@ -190,9 +307,9 @@ public class NeoBlueprint {
      * @return Minimum coordinates [x, y, z]
      */
     private int[] extractMinCoords() {
-        List<Integer> minList = getIntListValue(nbtData.get(KEY_MIN));
-        if (minList != null && minList.size() >= 3) {
-            return new int[]{minList.get(0), minList.get(1), minList.get(2)};
+        int[] min = getIntArrayValue(nbtData.get(KEY_MIN));
+        if (min != null && min.length >= 3) {
+            return new int[]{min[0], min[1], min[2]};
         }
         return new int[]{0, 0, 0};
     }
@@ -202,9 +319,9 @@ public class NeoBlueprint {
      * @return Size coordinates [width, height, depth]
      */
     private int[] extractSizeCoords() {
-        List<Integer> sizeList = getIntListValue(nbtData.get(KEY_SIZE));
-        if (sizeList != null && sizeList.size() >= 3) {
-            return new int[]{sizeList.get(0), sizeList.get(1), sizeList.get(2)};
+        int[] size = getIntArrayValue(nbtData.get(KEY_SIZE));
+        if (size != null && size.length >= 3) {
+            return new int[]{size[0], size[1], size[2]};
         }
         return new int[]{1, 1, 1};
     }
@@ -224,9 +341,11 @@ public class NeoBlueprint {
      */
     @SuppressWarnings("unchecked")
     private static Map<String, Object> parseSNBT(String snbt) {
-        System.out.println("Parsing SNBT: " + snbt.substring(0, Math.min(100, snbt.length())) + "...");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Parsing SNBT: {}...", snbt.substring(0, Math.min(100, snbt.length())));
+        }
         
-        Object parsed = SNBTParser.parse(snbt);
+        Object parsed = SNBTParser.parseOrThrow(snbt);
         if (parsed instanceof Map) {
             return (Map<String, Object>) parsed;
         } else {
@@ -282,23 +401,24 @@ public class NeoBlueprint {
     }
     
     /**
-     * Get integer list from object
-     * @param obj Object to extract from
-     * @return Integer list or null
+     * Get integer array from object
+     * @param obj Object to extract from, [I;...] arrays are returned as is
+     * @return Integer array or null
      */
-    @SuppressWarnings("unchecked")
-    private static List<Integer> getIntListValue(Object obj) {
-        if (obj instanceof List) {
-            List<?> list = (List<?>) obj;
-            List<Integer> intList = new ArrayList<>();
+    private static int[] getIntArrayValue(Object obj) {
+        if (obj instanceof int[] array) {
+            return array.length == 0 ? null : array;
+        }
+        // Hand written blueprints may use plain lists like [0, 0, 0]
+        if (obj instanceof List<?> list) {
+            int[] array = new int[list.size()];
+            int count = 0;
             for (Object item : list) {
-                if (item instanceof Integer) {
-                    intList.add((Integer) item);
-                } else if (item instanceof Number) {
-                    intList.add(((Number) item).intValue());
+                if (item instanceof Number number) {
+                    array[count++] = number.intValue();
                 }
             }
-            return intList.isEmpty() ? null : intList;
+            return count == 0 ? null : count == array.length ? array : Arrays.copyOf(array, count);
         }
         return null;
     }
@@ -350,4 +470,170 @@ public class NeoBlueprint {
     public int[] getSizeCoords() {
         return sizeCoords.clone();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Receiver of streamed blueprint tiles, e.g. a tile collection or a placement queue
+     */
+    @FunctionalInterface
+    public interface TileSink {
+        
+        /**
+         * Accept one tile
+         * @param box Tile box in the target grid, reused for the next tile (copy to keep)
+         * @param state Block state name of the tile's material group
+         * @param color ARGB color
+         */
+        void accept(NeoBox box, String state, int color);
+    }
+    
+    /**
+     * Finds the top level grid size, everything else is skipped
+     */
+    private static class GridProbe implements SNBTParser.Visitor {
+        
+        private int depth;
+        private boolean gridKey;
+        private NeoGrid grid = new NeoGrid(DEFAULT_LITTLETILES_GRID);
+        
+        @Override
+        public void startCompound() {
+            depth++;
+        }
+        
+        @Override
+        public void endCompound() {
+            depth--;
+        }
+        
+        @Override
+        public void key(String key) {
+            gridKey = depth == 1 && KEY_GRID.equals(key);
+        }
+        
+        @Override
+        public void integer(long value, char type) {
+            if (gridKey && type == 'I') {
+                grid = toGrid((int) value);
+            }
+            gridKey = false;
+        }
+    }
+    
+    /**
+     * Walks c.t (material name to list of color markers and boxes) and converts boxes as they are scanned
+     */
+    private static class TileStreamer implements SNBTParser.Visitor {
+        
+        private final NeoGrid sourceGrid;
+        private final NeoGrid targetGrid;
+        private final TileSink sink;
+        private final NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        
+        private int depth;
+        private String key;
+        private boolean inContent;
+        private boolean inTiles;
+        private String material;
+        private int color;
+        private int count;
+        
+        // Hand written blueprints may use plain number lists instead of [I; arrays
+        private boolean inNumberList;
+        private int[] numbers = new int[8];
+        private int numberCount;
+        
+        TileStreamer(NeoGrid sourceGrid, NeoGrid targetGrid, TileSink sink) {
+            this.sourceGrid = sourceGrid;
+            this.targetGrid = targetGrid;
+            this.sink = sink;
+        }
+        
+        @Override
+        public void key(String key) {
+            this.key = key;
+        }
+        
+        @Override
+        public void startCompound() {
+            depth++;
+            if (depth == 2 && KEY_CONTENT.equals(key)) {
+                inContent = true;
+            } else if (depth == 3 && inContent && KEY_TILES.equals(key)) {
+                inTiles = true;
+            }
+        }
+        
+        @Override
+        public void endCompound() {
+            if (depth == 2) {
+                inContent = false;
+            } else if (depth == 3) {
+                inTiles = false;
+            }
+            depth--;
+        }
+        
+        @Override
+        public void startList() {
+            depth++;
+            if (depth == 4 && inTiles) {
+                material = key;
+                color = 0xFFFFFFFF; // Default white
+            } else if (depth == 5 && material != null) {
+                inNumberList = true;
+                numberCount = 0;
+            }
+        }
+        
+        @Override
+        public void endList() {
+            if (depth == 4) {
+                material = null;
+            } else if (depth == 5 && inNumberList) {
+                inNumberList = false;
+                depth--;
+                intArray(numbers, numberCount);
+                return;
+            }
+            depth--;
+        }
+        
+        @Override
+        public void integer(long value, char type) {
+            addNumber((int) value);
+        }
+        
+        @Override
+        public void decimal(double value, char type) {
+            addNumber((int) value);
+        }
+        
+        private void addNumber(int value) {
+            if (!inNumberList || depth != 5) {
+                return;
+            }
+            if (numberCount == numbers.length) {
+                numbers = Arrays.copyOf(numbers, numberCount << 1);
+            }
+            numbers[numberCount++] = value;
+        }
+        
+        @Override
+        public void intArray(int[] values, int length) {
+            if (material == null || depth != 4) {
+                return;
+            }
+            
+            // Single value arrays are color markers for the following boxes
+            if (length == 1) {
+                color = values[0];
+            } else if (length >= 6) {
+                convertBox(values, sourceGrid, targetGrid, box);
+                if (box.isValid()) {
+                    sink.accept(box, material, color);
+                    count++;
+                }
+            }
+        }
+    }
+}
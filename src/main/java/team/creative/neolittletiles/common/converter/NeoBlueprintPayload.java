@@ -0,0 +1,108 @@
+package team.creative.neolittletiles.common.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * NeoBlueprintPayload - Compression and hashing of binary blueprints
+ * 
+ * Blueprint items keep the NeoBlueprintWriter binary form deflated:
+ * - The uncompressed length is stored next to the data, so truncated or
+ *   padded payloads are detected; it comes from the item and is not trusted,
+ *   inflating grows with the actual output and stops at MAX_LENGTH
+ * - A 64 bit FNV-1a hash of the uncompressed bytes identifies the content
+ *   (equal structures, equal hash) and catches corruption after inflating
+ * 
+ * Kept free of Minecraft classes, the item decides where the bytes live.
+ */
+public final class NeoBlueprintPayload {
+    
+    /** Largest accepted uncompressed blueprint, far above any single tile block */
+    public static final int MAX_LENGTH = 8 * 1024 * 1024;
+    
+    private static final int CHUNK_SIZE = 8192;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    
+    private NeoBlueprintPayload() {
+    }
+    
+    /**
+     * Deflate a binary blueprint
+     * @param data Uncompressed bytes
+     * @return Compressed bytes (zlib stream)
+     */
+    public static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[Math.min(8192, Math.max(64, data.length))];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    /**
+     * Inflate a binary blueprint
+     * @param compressed Compressed bytes from deflate()
+     * @param length Uncompressed length, at most MAX_LENGTH
+     * @return Uncompressed bytes
+     * @throws IllegalArgumentException if the data is corrupt, too large or does not match the length
+     */
+    public static byte[] inflate(byte[] compressed, int length) {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid blueprint length " + length + " (limit " + MAX_LENGTH + ")");
+        }
+        
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            // Grow with the actual output, the stored length only bounds it
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(length, CHUNK_SIZE));
+            byte[] chunk = new byte[CHUNK_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(chunk);
+                if (count == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated blueprint payload");
+                }
+                if (count > length - out.size()) {
+                    throw new IllegalArgumentException("Blueprint payload is longer than " + length);
+                }
+                out.write(chunk, 0, count);
+            }
+            if (out.size() != length) {
+                throw new IllegalArgumentException("Blueprint payload does not match its length " + length);
+            }
+            if (inflater.getRemaining() != 0) {
+                throw new IllegalArgumentException(inflater.getRemaining() + " trailing bytes after the blueprint payload");
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt blueprint payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+    
+    /**
+     * Hash uncompressed blueprint bytes
+     * @param data Uncompressed bytes
+     * @return 64 bit FNV-1a hash
+     */
+    public static long hash(byte[] data) {
+        long hash = FNV_OFFSET;
+        for (byte value : data) {
+            hash ^= value & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
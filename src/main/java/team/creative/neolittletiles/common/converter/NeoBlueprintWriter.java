@@ -0,0 +1,191 @@
+package team.creative.neolittletiles.common.converter;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTileCodec;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * NeoBlueprintWriter - Writes tiles in the LittleTiles blueprint format
+ * 
+ * Counterpart of NeoBlueprint, reading the packed tile store directly:
+ * - Tiles are grouped by palette entry, then by color, so every color
+ *   marker ([I;color]) is written once per run instead of once per tile
+ * - State names come from a namer, so block states can be written in their
+ *   registry form instead of relying on toString()
+ * - The SNBT buffer is presized from the tile count, boxes are appended as
+ *   typed int arrays without intermediate strings
+ * 
+ * The binary form stores the NeoTileCodec arrays (delta packed boxes, color
+ * runs) behind a small header and is read by NeoBlueprint.importBinary().
+ * Both forms round-trip exactly: same boxes, state names and colors.
+ */
+public final class NeoBlueprintWriter {
+    
+    /** Header of the binary form, "NBP" followed by the layout version */
+    public static final int BINARY_MAGIC = 0x4E425001;
+    
+    /** Namer for states that already are their name, e.g. tiles imported from a blueprint */
+    public static final Function<Object, String> TO_STRING = String::valueOf;
+    
+    // Rough upper bound of characters per box array and per group header
+    private static final int CHARS_PER_BOX = 40;
+    private static final int CHARS_PER_GROUP = 64;
+    
+    private NeoBlueprintWriter() {
+    }
+    
+    /**
+     * Write tiles as LittleTiles SNBT
+     * @param tiles Tiles to write, coordinates are stored in the collection's grid
+     * @param namer Maps tile states to block state names
+     * @return SNBT string readable by NeoBlueprint
+     */
+    public static String toSNBT(NeoTileCollection tiles, Function<Object, String> namer) {
+        NeoTileStore store = tiles.getStore();
+        int size = store.size();
+        int paletteSize = store.getPaletteSize();
+        
+        // Bucket slots by state, sorted by color within each bucket
+        int[] runs = new int[paletteSize];
+        long[] order = sortByStateAndColor(store, runs);
+        
+        StringBuilder snbt = new StringBuilder(CHARS_PER_GROUP * (paletteSize + 2) + CHARS_PER_BOX * size);
+        snbt.append("{boxes:").append(size).append(",c:{t:{");
+        
+        int index = 0;
+        boolean firstGroup = true;
+        for (int entry = 0; entry < paletteSize; entry++) {
+            if (runs[entry] == 0) {
+                continue;
+            }
+            if (!firstGroup) {
+                snbt.append(',');
+            }
+            firstGroup = false;
+            
+            appendQuoted(snbt, namer.apply(store.getState(slotOf(order[index]))));
+            snbt.append(":[");
+            
+            int end = index + runs[entry];
+            boolean first = true;
+            int color = 0;
+            for (; index < end; index++) {
+                int slot = slotOf(order[index]);
+                int tileColor = store.getColor(slot);
+                if (first || tileColor != color) {
+                    if (!first) {
+                        snbt.append(',');
+                    }
+                    color = tileColor;
+                    snbt.append("[I;").append(color).append(']');
+                }
+                first = false;
+                
+                snbt.append(",[I;").append(store.getMinX(slot)).append(',').append(store.getMinY(slot)).append(',').append(store.getMinZ(slot))
+                    .append(',').append(store.getMaxX(slot)).append(',').append(store.getMaxY(slot)).append(',').append(store.getMaxZ(slot)).append(']');
+            }
+            snbt.append(']');
+        }
+        
+        NeoBox bounds = tiles.getBounds();
+        if (bounds == null) {
+            bounds = new NeoBox(0, 0, 0, 0, 0, 0);
+        }
+        snbt.append("}},grid:").append(tiles.getGrid().getSize());
+        snbt.append(",min:[I;").append(bounds.minX).append(',').append(bounds.minY).append(',').append(bounds.minZ).append(']');
+        snbt.append(",size:[I;").append(bounds.maxX - bounds.minX).append(',').append(bounds.maxY - bounds.minY).append(',')
+            .append(bounds.maxZ - bounds.minZ).append("]}");
+        return snbt.toString();
+    }
+    
+    /**
+     * Write tiles in the compact binary form
+     * @param tiles Tiles to write, coordinates are stored in the collection's grid
+     * @param namer Maps tile states to block state names
+     * @return Binary blueprint readable by NeoBlueprint.importBinary()
+     */
+    public static byte[] toBinary(NeoTileCollection tiles, Function<Object, String> namer) {
+        int gridSize = tiles.getGrid().getSize();
+        NeoTileCodec.Encoded data = NeoTileCodec.encode(tiles.getStore(), gridSize);
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 4 * (data.runs.length + data.boxes.length + data.colors.length));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BINARY_MAGIC);
+            out.writeByte(data.version);
+            out.writeByte(data.format);
+            out.writeInt(gridSize);
+            out.writeInt(data.states.length);
+            for (Object state : data.states) {
+                out.writeUTF(namer.apply(state));
+            }
+            writeInts(out, data.runs);
+            writeInts(out, data.boxes);
+            writeInts(out, data.colors);
+        } catch (IOException e) {
+            // Cannot happen for an in-memory stream
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+    
+    /**
+     * Order slots by palette entry, then by color
+     * @param store Tiles to order
+     * @param runs Receives the number of tiles per palette entry
+     * @return Sort keys, the slot is in the low 31 bits (see slotOf)
+     */
+    private static long[] sortByStateAndColor(NeoTileStore store, int[] runs) {
+        int size = store.size();
+        for (int slot = 0; slot < size; slot++) {
+            runs[store.getStateIndex(slot)]++;
+        }
+        
+        int[] offsets = new int[runs.length];
+        for (int i = 1; i < runs.length; i++) {
+            offsets[i] = offsets[i - 1] + runs[i - 1];
+        }
+        
+        long[] order = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            order[offsets[store.getStateIndex(slot)]++] = ((store.getColor(slot) & 0xFFFFFFFFL) << 31) | slot;
+        }
+        
+        int start = 0;
+        for (int run : runs) {
+            Arrays.sort(order, start, start + run);
+            start += run;
+        }
+        return order;
+    }
+    
+    private static int slotOf(long key) {
+        return (int) (key & 0x7FFFFFFF);
+    }
+    
+    private static void appendQuoted(StringBuilder snbt, String value) {
+        snbt.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                snbt.append('\\');
+            }
+            snbt.append(c);
+        }
+        snbt.append('"');
+    }
+}
@@ -1,8 +1,14 @@
 package team.creative.neolittletiles.common.converter;
 
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * SNBTParser - String NBT parser for LittleTiles blueprint compatibility
@@ -10,244 +16,253 @@ import java.util.regex.Pattern;
  * Parses SNBT (String NBT) format used by LittleTiles exports:
  * - Compound tags: {key:value, key2:value2}
  * - List tags: [value1, value2, value3]
- * - Integer arrays: [I;1,2,3,4]
+ * - Typed arrays: [B;1b,2b], [I;1,2,3,4], [L;1L,2L] as byte[], int[] and long[]
  * - String values: "quoted_string" or unquoted_string
  * - Numbers: integers, floats, longs, etc.
  * 
+ * Hand-written single pass scanner working on the input in place:
+ * - No regex and no substring copies, so parsing stays linear in the input size
+ * - Integers are accumulated digit by digit into a long, only floating point
+ *   values go through Double.parseDouble
+ * - Strings without escapes are cut out of the input with a single copy
+ * - Errors report the line and column they occurred at
+ * - parse(snbt, visitor) streams SAX style events instead of building the
+ *   Map/List tree, so importers can work in constant memory
+ * 
  * Based on Minecraft NBT format and LittleTiles export requirements
  */
 public class SNBTParser {
     
-    private String input;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SNBTParser.class);
+    
+    private final CharSequence input;
+    private final int length;
     private int position;
-    private int length;
     
-    // Regex patterns for NBT parsing
-    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?[bslfdBSLFD]?");
-    private static final Pattern STRING_PATTERN = Pattern.compile("\"([^\"\\\\]|\\\\.)*\"|[a-zA-Z0-9._+-]+");
-    private static final Pattern ARRAY_PREFIX_PATTERN = Pattern.compile("\\[([BILS]);");
+    // Reused by all typed arrays of one parse, visitors only see them during the callback
+    private long[] scratch = new long[16];
+    private int[] intScratch = new int[16];
+    private byte[] byteScratch = new byte[16];
     
-    public SNBTParser(String input) {
-        this.input = input.trim();
+    public SNBTParser(CharSequence input) {
+        this.input = input;
+        this.length = input.length();
         this.position = 0;
-        this.length = this.input.length();
     }
     
     /**
      * Parse SNBT string to data structure
      * @param snbt SNBT format string
-     * @return Parsed data object
+     * @return Parsed data object or null if the input is malformed
      */
-    public static Object parse(String snbt) {
-        SNBTParser parser = new SNBTParser(snbt);
+    public static Object parse(CharSequence snbt) {
         try {
-            return parser.parseValue();
-        } catch (Exception e) {
-            System.err.println("SNBT parsing failed: " + e.getMessage());
-            System.err.println("At position " + parser.position + " in: " + 
-                             snbt.substring(0, Math.min(100, snbt.length())));
+            return parseOrThrow(snbt);
+        } catch (ParseException e) {
+            LOGGER.warn("SNBT parsing failed: {}", e.getMessage());
             return null;
         }
     }
     
+    /**
+     * Parse SNBT string to data structure
+     * @param snbt SNBT format string
+     * @return Parsed data object
+     * @throws ParseException if the input is malformed
+     */
+    public static Object parseOrThrow(CharSequence snbt) {
+        TreeBuilder builder = new TreeBuilder();
+        parse(snbt, builder);
+        return builder.root;
+    }
+    
+    /**
+     * Stream SNBT into a visitor without building a tree
+     * @param snbt SNBT format string
+     * @param visitor Visitor receiving the parse events
+     * @throws ParseException if the input is malformed (events before the error were already delivered)
+     */
+    public static void parse(CharSequence snbt, Visitor visitor) {
+        SNBTParser parser = new SNBTParser(snbt);
+        parser.parseValue(visitor);
+        parser.skipWhitespace();
+        if (parser.position < parser.length) {
+            throw parser.error("Unexpected trailing character '" + parser.input.charAt(parser.position) + "'");
+        }
+    }
+    
     /**
      * Parse any NBT value (compound, list, primitive)
-     * @return Parsed value
+     * @param visitor Visitor receiving the value
      */
-    private Object parseValue() {
+    private void parseValue(Visitor visitor) {
         skipWhitespace();
         
         if (position >= length) {
-            throw new RuntimeException("Unexpected end of input");
+            throw error("Unexpected end of input");
         }
         
         char c = input.charAt(position);
         
         switch (c) {
             case '{':
-                return parseCompound();
+                parseCompound(visitor);
+                break;
             case '[':
-                return parseList();
+                parseList(visitor);
+                break;
             case '"':
-                return parseQuotedString();
+                visitor.string(parseQuotedString());
+                break;
             default:
-                if (Character.isDigit(c) || c == '-') {
-                    return parseNumber();
+                if (isDigit(c) || c == '-') {
+                    parseNumber(visitor);
                 } else if (Character.isLetter(c) || c == '_') {
-                    return parseUnquotedString();
+                    visitor.string(parseUnquotedString(true));
                 } else {
-                    throw new RuntimeException("Unexpected character: " + c);
+                    throw error("Unexpected character '" + c + "'");
                 }
         }
     }
     
     /**
      * Parse compound tag: {key:value, key2:value2}
-     * @return Map representing compound
+     * @param visitor Visitor receiving the entries
      */
-    private Map<String, Object> parseCompound() {
-        Map<String, Object> compound = new HashMap<>();
-        
+    private void parseCompound(Visitor visitor) {
         expect('{');
+        visitor.startCompound();
         skipWhitespace();
         
         // Handle empty compound
         if (peek() == '}') {
-            advance();
-            return compound;
+            position++;
+            visitor.endCompound();
+            return;
         }
         
-        while (true) {
-            skipWhitespace();
-            
+        do {
             // Parse key
-            String key = parseKey();
+            visitor.key(parseKey());
             skipWhitespace();
             expect(':');
-            skipWhitespace();
             
             // Parse value
-            Object value = parseValue();
-            compound.put(key, value);
-            
-            skipWhitespace();
-            
-            if (peek() == '}') {
-                advance();
-                break;
-            } else if (peek() == ',') {
-                advance();
-                skipWhitespace();
-                // Handle trailing comma
-                if (peek() == '}') {
-                    advance();
-                    break;
-                }
-            } else {
-                throw new RuntimeException("Expected ',' or '}' in compound");
-            }
-        }
-        
-        return compound;
+            parseValue(visitor);
+        } while (!endOfElement('}'));
+        visitor.endCompound();
     }
     
     /**
      * Parse list tag: [value1, value2, value3] or array: [I;1,2,3]
-     * @return List representing the parsed structure
+     * @param visitor Visitor receiving the elements
      */
-    private List<Object> parseList() {
+    private void parseList(Visitor visitor) {
         expect('[');
         skipWhitespace();
         
-        // Check for typed array prefix
-        Matcher arrayMatcher = ARRAY_PREFIX_PATTERN.matcher(input.substring(position));
-        if (arrayMatcher.lookingAt()) {
-            return parseTypedArray(arrayMatcher.group(1).charAt(0));
+        // Check for typed array prefix, a single type letter followed by ';'
+        if (position + 1 < length && input.charAt(position + 1) == ';') {
+            char type = input.charAt(position);
+            if (type == 'B' || type == 'I' || type == 'L') {
+                position += 2;
+                parseTypedArray(type, visitor);
+                return;
+            }
         }
         
-        List<Object> list = new ArrayList<>();
+        visitor.startList();
         
         // Handle empty list
         if (peek() == ']') {
-            advance();
-            return list;
-        }
-        
-        while (true) {
-            skipWhitespace();
-            Object value = parseValue();
-            list.add(value);
-            
-            skipWhitespace();
-            
-            if (peek() == ']') {
-                advance();
-                break;
-            } else if (peek() == ',') {
-                advance();
-                skipWhitespace();
-                // Handle trailing comma
-                if (peek() == ']') {
-                    advance();
-                    break;
-                }
-            } else {
-                throw new RuntimeException("Expected ',' or ']' in list");
-            }
+            position++;
+            visitor.endList();
+            return;
         }
         
-        return list;
+        do {
+            parseValue(visitor);
+        } while (!endOfElement(']'));
+        visitor.endList();
     }
     
     /**
-     * Parse typed array: [I;1,2,3,4] or [B;1b,2b,3b]
-     * @param type Array type character (I, B, L, S)
-     * @return List of typed values
+     * Parse typed array after its prefix: 1,2,3,4] or 1b,2b,3b]
+     * @param type Array type character (B, I, L)
+     * @param visitor Visitor receiving the values in a reused buffer
      */
-    private List<Object> parseTypedArray(char type) {
-        // Skip array prefix [I; or [B; etc.
-        while (position < length && input.charAt(position) != ';') {
-            position++;
-        }
-        if (position < length && input.charAt(position) == ';') {
-            position++; // Skip semicolon
-        }
+    private void parseTypedArray(char type, Visitor visitor) {
         skipWhitespace();
         
-        List<Object> array = new ArrayList<>();
+        long min = type == 'B' ? Byte.MIN_VALUE : type == 'I' ? Integer.MIN_VALUE : Long.MIN_VALUE;
+        long max = type == 'B' ? Byte.MAX_VALUE : type == 'I' ? Integer.MAX_VALUE : Long.MAX_VALUE;
+        long[] values = scratch;
+        int count = 0;
         
         // Handle empty array
         if (peek() == ']') {
-            advance();
-            return array;
+            position++;
+        } else {
+            do {
+                skipWhitespace();
+                int start = position;
+                long value = checkRange(scanInteger(), min, max, start);
+                skipIntegerSuffix();
+                
+                if (count == values.length) {
+                    values = scratch = Arrays.copyOf(values, count << 1);
+                }
+                values[count++] = value;
+            } while (!endOfElement(']'));
         }
         
-        while (true) {
-            skipWhitespace();
-            Object value = parseNumber();
-            
-            // Convert to appropriate type
-            if (value instanceof Number) {
-                Number num = (Number) value;
-                switch (type) {
-                    case 'B':
-                        array.add(num.byteValue());
-                        break;
-                    case 'S':
-                        array.add(num.shortValue());
-                        break;
-                    case 'I':
-                        array.add(num.intValue());
-                        break;
-                    case 'L':
-                        array.add(num.longValue());
-                        break;
-                    default:
-                        array.add(value);
+        switch (type) {
+            case 'B' -> {
+                if (byteScratch.length < count) {
+                    byteScratch = new byte[values.length];
                 }
-            } else {
-                array.add(value);
+                for (int i = 0; i < count; i++) {
+                    byteScratch[i] = (byte) values[i];
+                }
+                visitor.byteArray(byteScratch, count);
             }
-            
-            skipWhitespace();
-            
-            if (peek() == ']') {
-                advance();
-                break;
-            } else if (peek() == ',') {
-                advance();
-                skipWhitespace();
-                // Handle trailing comma
-                if (peek() == ']') {
-                    advance();
-                    break;
+            case 'I' -> {
+                if (intScratch.length < count) {
+                    intScratch = new int[values.length];
                 }
-            } else {
-                throw new RuntimeException("Expected ',' or ']' in typed array");
+                for (int i = 0; i < count; i++) {
+                    intScratch[i] = (int) values[i];
+                }
+                visitor.intArray(intScratch, count);
             }
+            default -> visitor.longArray(values, count);
         }
-        
-        return array;
+    }
+    
+    /**
+     * Consume the separator after a compound entry or list element
+     * @param close Closing bracket of the current container
+     * @return true if the container was closed
+     */
+    private boolean endOfElement(char close) {
+        skipWhitespace();
+        char c = peek();
+        if (c == close) {
+            position++;
+            return true;
+        }
+        if (c != ',') {
+            throw position >= length ? error("Expected ',' or '" + close + "' but reached end of input")
+                                     : error("Expected ',' or '" + close + "' but found '" + c + "'");
+        }
+        position++;
+        skipWhitespace();
+        // Handle trailing comma
+        if (peek() == close) {
+            position++;
+            return true;
+        }
+        return false;
     }
     
     /**
@@ -255,68 +270,63 @@ public class SNBTParser {
      * @return Unescaped string content
      */
     private String parseQuotedString() {
+        int quote = position;
         expect('"');
-        StringBuilder sb = new StringBuilder();
+        int start = position;
         
+        // Fast path: no escapes, cut the content out in one go
         while (position < length) {
             char c = input.charAt(position);
+            if (c == '"') {
+                return input.subSequence(start, position++).toString();
+            }
+            if (c == '\\') {
+                break;
+            }
+            position++;
+        }
+        
+        StringBuilder sb = new StringBuilder(position - start + 16).append(input, start, position);
+        while (position < length) {
+            char c = input.charAt(position++);
             
             if (c == '"') {
-                advance();
                 return sb.toString();
             } else if (c == '\\') {
-                advance();
                 if (position >= length) {
-                    throw new RuntimeException("Unterminated escape sequence");
+                    break;
                 }
-                char escaped = input.charAt(position);
+                char escaped = input.charAt(position++);
                 switch (escaped) {
-                    case 'n':
-                        sb.append('\n');
-                        break;
-                    case 't':
-                        sb.append('\t');
-                        break;
-                    case 'r':
-                        sb.append('\r');
-                        break;
-                    case '\\':
-                        sb.append('\\');
-                        break;
-                    case '"':
-                        sb.append('"');
-                        break;
-                    default:
-                        sb.append(escaped);
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case 'r' -> sb.append('\r');
+                    default -> sb.append(escaped);
                 }
-                advance();
             } else {
                 sb.append(c);
-                advance();
             }
         }
         
-        throw new RuntimeException("Unterminated quoted string");
+        position = quote;
+        throw error("Unterminated quoted string");
     }
     
     /**
      * Parse unquoted string: simple_identifier or minecraft:stone
+     * @param allowColon false for keys, where ':' separates the value
      * @return String value
      */
-    private String parseUnquotedString() {
-        StringBuilder sb = new StringBuilder();
-        
-        while (position < length) {
-            char c = input.charAt(position);
-            if (Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '+' || c == '-' || c == ':') {
-                sb.append(c);
-                advance();
-            } else {
-                break;
-            }
+    private String parseUnquotedString(boolean allowColon) {
+        int start = position;
+        while (position < length && isUnquotedChar(input.charAt(position), allowColon)) {
+            position++;
         }
-        
-        return sb.toString();
+        if (start == position) {
+            throw position >= length ? error("Expected a key but reached end of input")
+                                     : error("Expected a key but found '" + input.charAt(position) + "'");
+        }
+        return input.subSequence(start, position).toString();
     }
     
     /**
@@ -328,73 +338,140 @@ public class SNBTParser {
         if (peek() == '"') {
             return parseQuotedString();
         } else {
-            return parseUnquotedString();
+            return parseUnquotedString(false);
         }
     }
     
     /**
      * Parse number with optional type suffix
-     * @return Number value
+     * @param visitor Visitor receiving the number
      */
-    private Object parseNumber() {
-        StringBuilder sb = new StringBuilder();
+    private void parseNumber(Visitor visitor) {
+        int start = position;
+        long value = scanInteger();
+        
+        char c = peek();
+        if (c == '.' || c == 'e' || c == 'E') {
+            parseFloatingPoint(start, visitor);
+            return;
+        }
         
-        // Handle negative sign
-        if (peek() == '-') {
-            sb.append(advance());
+        switch (c) {
+            case 'b', 'B' -> visitor.integer(checkRange(value, Byte.MIN_VALUE, Byte.MAX_VALUE, start), 'B');
+            case 's', 'S' -> visitor.integer(checkRange(value, Short.MIN_VALUE, Short.MAX_VALUE, start), 'S');
+            case 'l', 'L' -> visitor.integer(value, 'L');
+            case 'f', 'F' -> visitor.decimal(value, 'F');
+            case 'd', 'D' -> visitor.decimal(value, 'D');
+            default -> {
+                visitor.integer(value, value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? 'I' : 'L');
+                return;
+            }
+        }
+        position++;
+    }
+    
+    /**
+     * Scan an optionally negative integer without allocating
+     * @return Parsed value
+     */
+    private long scanInteger() {
+        int start = position;
+        boolean negative = peek() == '-';
+        if (negative) {
+            position++;
         }
         
-        // Parse digits and decimal point
+        // Accumulate negatively so Long.MIN_VALUE fits, same as Long.parseLong
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        int digitsStart = position;
         while (position < length) {
             char c = input.charAt(position);
-            if (Character.isDigit(c) || c == '.') {
-                sb.append(c);
-                advance();
-            } else {
+            if (!isDigit(c)) {
                 break;
             }
+            int digit = c - '0';
+            if (result < multiplyLimit || result * 10 < limit + digit) {
+                position = start;
+                throw error("Number out of range");
+            }
+            result = result * 10 - digit;
+            position++;
         }
         
-        // Check for type suffix
-        char suffix = 0;
-        if (position < length) {
-            char c = input.charAt(position);
-            if ("bslfdBSLFD".indexOf(c) >= 0) {
-                suffix = c;
-                advance();
+        if (position == digitsStart) {
+            throw error(position >= length ? "Expected digits but reached end of input" : "Expected digits but found '" + input.charAt(position) + "'");
+        }
+        return negative ? result : -result;
+    }
+    
+    /**
+     * Continue a number with fraction or exponent, the rare case that still goes through the JDK
+     * @param start Start of the number
+     * @param visitor Visitor receiving the number
+     */
+    private void parseFloatingPoint(int start, Visitor visitor) {
+        if (peek() == '.') {
+            position++;
+            while (position < length && isDigit(input.charAt(position))) {
+                position++;
+            }
+        }
+        char c = peek();
+        if (c == 'e' || c == 'E') {
+            position++;
+            c = peek();
+            if (c == '+' || c == '-') {
+                position++;
+            }
+            while (position < length && isDigit(input.charAt(position))) {
+                position++;
             }
         }
         
-        String numberStr = sb.toString();
-        
+        String text = input.subSequence(start, position).toString();
+        double value;
         try {
-            // Parse based on suffix or content
-            switch (Character.toLowerCase(suffix)) {
-                case 'b':
-                    return Byte.parseByte(numberStr);
-                case 's':
-                    return Short.parseShort(numberStr);
-                case 'l':
-                    return Long.parseLong(numberStr);
-                case 'f':
-                    return Float.parseFloat(numberStr);
-                case 'd':
-                    return Double.parseDouble(numberStr);
-                default:
-                    if (numberStr.contains(".")) {
-                        return Double.parseDouble(numberStr);
-                    } else {
-                        long value = Long.parseLong(numberStr);
-                        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
-                            return (int) value;
-                        } else {
-                            return value;
-                        }
-                    }
-            }
+            value = Double.parseDouble(text);
         } catch (NumberFormatException e) {
-            throw new RuntimeException("Invalid number format: " + numberStr);
+            position = start;
+            throw error("Invalid number format: " + text);
+        }
+        
+        c = peek();
+        if (c == 'f' || c == 'F') {
+            position++;
+            visitor.decimal(value, 'F');
+            return;
+        }
+        if (c == 'd' || c == 'D') {
+            position++;
+        }
+        visitor.decimal(value, 'D');
+    }
+    
+    private void skipIntegerSuffix() {
+        char c = peek();
+        if (c == 'b' || c == 'B' || c == 's' || c == 'S' || c == 'l' || c == 'L') {
+            position++;
+        }
+    }
+    
+    private long checkRange(long value, long min, long max, int start) {
+        if (value < min || value > max) {
+            position = start;
+            throw error("Number " + value + " out of range [" + min + ", " + max + "]");
         }
+        return value;
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isUnquotedChar(char c, boolean allowColon) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '+' || c == '-' || (allowColon && c == ':');
     }
     
     /**
@@ -414,28 +491,206 @@ public class SNBTParser {
         return position < length ? input.charAt(position) : 0;
     }
     
-    /**
-     * Advance position and return current character
-     * @return Character that was advanced over
-     */
-    private char advance() {
-        return position < length ? input.charAt(position++) : 0;
-    }
-    
     /**
      * Expect specific character and advance
      * @param expected Expected character
      */
     private void expect(char expected) {
         if (position >= length) {
-            throw new RuntimeException("Expected '" + expected + "' but reached end of input");
+            throw error("Expected '" + expected + "' but reached end of input");
         }
         
         char actual = input.charAt(position);
         if (actual != expected) {
-            throw new RuntimeException("Expected '" + expected + "' but found '" + actual + "'");
+            throw error("Expected '" + expected + "' but found '" + actual + "'");
         }
         
         position++;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Create an error at the current position, line and column are only computed here
+     * @param message Error description
+     * @return Exception to throw
+     */
+    private ParseException error(String message) {
+        int line = 1;
+        int lineStart = 0;
+        int end = Math.min(position, length);
+        for (int i = 0; i < end; i++) {
+            if (input.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        return new ParseException(message, position, line, end - lineStart + 1);
+    }
+    
+    /**
+     * Receives parse events in document order, all methods default to doing nothing
+     * 
+     * Compounds report a key before each value. Typed arrays are handed over
+     * in a buffer owned by the parser that is only valid during the call, copy
+     * what has to be kept.
+     */
+    public interface Visitor {
+        
+        default void startCompound() {
+        }
+        
+        default void key(String key) {
+        }
+        
+        default void endCompound() {
+        }
+        
+        default void startList() {
+        }
+        
+        default void endList() {
+        }
+        
+        /**
+         * @param value Integer value
+         * @param type 'B', 'S', 'I' or 'L' (unsuffixed values outside the int range are 'L')
+         */
+        default void integer(long value, char type) {
+        }
+        
+        /**
+         * @param value Floating point value
+         * @param type 'F' or 'D'
+         */
+        default void decimal(double value, char type) {
+        }
+        
+        default void string(String value) {
+        }
+        
+        default void byteArray(byte[] values, int length) {
+        }
+        
+        default void intArray(int[] values, int length) {
+        }
+        
+        default void longArray(long[] values, int length) {
+        }
+    }
+    
+    /**
+     * Builds the Map/List tree returned by parse()
+     */
+    private static class TreeBuilder implements Visitor {
+        
+        private final ArrayDeque<Object> containers = new ArrayDeque<>();
+        private final ArrayDeque<String> keys = new ArrayDeque<>();
+        private Object root;
+        
+        @SuppressWarnings("unchecked")
+        private void add(Object value) {
+            Object parent = containers.peek();
+            if (parent == null) {
+                root = value;
+            } else if (parent instanceof Map) {
+                ((Map<String, Object>) parent).put(keys.pop(), value);
+            } else {
+                ((List<Object>) parent).add(value);
+            }
+        }
+        
+        @Override
+        public void startCompound() {
+            Map<String, Object> compound = new HashMap<>();
+            add(compound);
+            containers.push(compound);
+        }
+        
+        @Override
+        public void key(String key) {
+            keys.push(key);
+        }
+        
+        @Override
+        public void endCompound() {
+            containers.pop();
+        }
+        
+        @Override
+        public void startList() {
+            List<Object> list = new ArrayList<>();
+            add(list);
+            containers.push(list);
+        }
+        
+        @Override
+        public void endList() {
+            containers.pop();
+        }
+        
+        @Override
+        public void integer(long value, char type) {
+            switch (type) {
+                case 'B' -> add((byte) value);
+                case 'S' -> add((short) value);
+                case 'I' -> add((int) value);
+                default -> add(value);
+            }
+        }
+        
+        @Override
+        public void decimal(double value, char type) {
+            add(type == 'F' ? (Object) (float) value : (Object) value);
+        }
+        
+        @Override
+        public void string(String value) {
+            add(value);
+        }
+        
+        @Override
+        public void byteArray(byte[] values, int length) {
+            add(Arrays.copyOf(values, length));
+        }
+        
+        @Override
+        public void intArray(int[] values, int length) {
+            add(Arrays.copyOf(values, length));
+        }
+        
+        @Override
+        public void longArray(long[] values, int length) {
+            add(Arrays.copyOf(values, length));
+        }
+    }
+    
+    /**
+     * Malformed SNBT input, positions are 0 based, lines and columns 1 based
+     */
+    public static class ParseException extends IllegalArgumentException {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final int position;
+        private final int line;
+        private final int column;
+        
+        public ParseException(String message, int position, int line, int column) {
+            super(message + " at line " + line + ", column " + column);
+            this.position = position;
+            this.line = line;
+            this.column = column;
+        }
+        
+        public int getPosition() {
+            return position;
+        }
+        
+        public int getLine() {
+            return line;
+        }
+        
+        public int getColumn() {
+            return column;
+        }
+    }
+}
@@ -2,10 +2,10 @@ package team.creative.neolittletiles.common.gui;
 
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.converter.NeoBlueprint;
-import team.creative.neolittletiles.common.tile.NeoTile;
-
-import java.util.List;
+import team.creative.neolittletiles.common.item.NeoBlueprintItem;
 
 /**
  * NeoBlueprintGuiLayer - Placeholder for future CreativeCore GUI integration
@@ -17,6 +17,8 @@ import java.util.List;
  */
 public class NeoBlueprintGuiLayer {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoBlueprintGuiLayer.class);
+    
     private final ItemStack blueprintStack;
     private final Player player;
     
@@ -29,29 +31,24 @@ public class NeoBlueprintGuiLayer {
      * Simulate blueprint GUI
      */
     public void show() {
-        System.out.println("=== Blueprint Manager GUI ===");
-        System.out.println("Player: " + player.getName().getString());
-        System.out.println("Blueprint Item: " + blueprintStack.getDisplayName().getString());
-        
-        // Simulate blueprint content analysis
-        String mockSNBT = "{\n  \"grid\": 16,\n  \"c\": {\n    \"t\": {\n      \"minecraft:stone\": [\n        [I;-1],\n        [I;0,0,0,16,16,16]\n      ]\n    }\n  }\n}";
+        LOGGER.debug("=== Blueprint Manager GUI ===");
+        LOGGER.debug("Player: {}", player.getName().getString());
+        LOGGER.debug("Blueprint Item: {}", blueprintStack.getDisplayName().getString());
         
-        NeoBlueprint blueprint = NeoBlueprint.fromSNBT(mockSNBT);
-        if (blueprint != null && blueprint.isValid()) {
-            System.out.println("Blueprint Stats: " + blueprint.getStats());
-            List<NeoTile> tiles = blueprint.convertToNeoTiles(team.creative.neolittletiles.common.grid.NeoGrid.GRID_16);
-            System.out.println("Tile Count: " + tiles.size());
+        // Stats come from the stored metadata, the payload stays compressed
+        if (NeoBlueprintItem.hasBlueprint(blueprintStack)) {
+            LOGGER.debug("Blueprint Stats: {}", NeoBlueprintItem.getStats(blueprintStack));
         } else {
-            System.out.println("Blueprint: Empty or invalid");
+            LOGGER.debug("Blueprint: Empty or invalid");
         }
         
-        System.out.println("Available Actions:");
-        System.out.println("- Load SNBT");
-        System.out.println("- Save SNBT");
-        System.out.println("- Import from LittleTiles");
-        System.out.println("- Export SNBT");
-        System.out.println("- Preview Structure");
-        System.out.println("GUI would open here when CreativeCore integration is complete");
+        LOGGER.debug("Available Actions:");
+        LOGGER.debug("- Load SNBT");
+        LOGGER.debug("- Save SNBT");
+        LOGGER.debug("- Import from LittleTiles");
+        LOGGER.debug("- Export SNBT");
+        LOGGER.debug("- Preview Structure");
+        LOGGER.debug("GUI would open here when CreativeCore integration is complete");
     }
     
     /**
@@ -59,17 +56,17 @@ public class NeoBlueprintGuiLayer {
      * @param snbt SNBT content to load
      */
     public void loadFromSNBT(String snbt) {
-        System.out.println("Loading blueprint from SNBT...");
+        LOGGER.debug("Loading blueprint from SNBT...");
         
         try {
             NeoBlueprint blueprint = NeoBlueprint.fromSNBT(snbt);
             if (blueprint != null && blueprint.isValid()) {
-                System.out.println("Successfully loaded blueprint: " + blueprint.getStats());
+                LOGGER.debug("Successfully loaded blueprint: {}", blueprint.getStats());
             } else {
-                System.out.println("Failed to load blueprint: Invalid SNBT format");
+                LOGGER.warn("Failed to load blueprint: Invalid SNBT format");
             }
         } catch (Exception e) {
-            System.out.println("Failed to parse SNBT: " + e.getMessage());
+            LOGGER.warn("Failed to parse SNBT: {}", e.getMessage());
         }
     }
     
@@ -79,17 +76,17 @@ public class NeoBlueprintGuiLayer {
      * @param snbt SNBT content
      */
     public void saveToSNBT(String name, String snbt) {
-        System.out.println("Saving blueprint:");
-        System.out.println("  Name: " + name);
-        System.out.println("  SNBT length: " + snbt.length() + " characters");
-        System.out.println("Blueprint saved successfully (simulated)");
+        LOGGER.debug("Saving blueprint:");
+        LOGGER.debug("  Name: {}", name);
+        LOGGER.debug("  SNBT length: {} characters", snbt.length());
+        LOGGER.debug("Blueprint saved successfully (simulated)");
     }
     
     /**
      * Simulate blueprint clearing
      */
     public void clearBlueprint() {
-        System.out.println("Blueprint cleared (simulated)");
+        LOGGER.debug("Blueprint cleared (simulated)");
     }
     
     /**
@@ -97,9 +94,9 @@ public class NeoBlueprintGuiLayer {
      * @param littleTilesSNBT LittleTiles SNBT content
      */
     public void importFromLittleTiles(String littleTilesSNBT) {
-        System.out.println("Importing from LittleTiles format...");
-        System.out.println("Content length: " + littleTilesSNBT.length() + " characters");
-        System.out.println("Import completed (simulated)");
+        LOGGER.debug("Importing from LittleTiles format...");
+        LOGGER.debug("Content length: {} characters", littleTilesSNBT.length());
+        LOGGER.debug("Import completed (simulated)");
     }
     
     /**
@@ -107,12 +104,12 @@ public class NeoBlueprintGuiLayer {
      * @return Exported SNBT content
      */
     public String exportToSNBT() {
-        System.out.println("Exporting blueprint to SNBT...");
+        LOGGER.debug("Exporting blueprint to SNBT...");
         
         // Return mock SNBT
         String mockExport = "{\n  \"grid\": 16,\n  \"c\": {\n    \"t\": {\n      \"minecraft:stone\": [\n        [I;-1],\n        [I;0,0,0,8,8,8]\n      ]\n    }\n  }\n}";
         
-        System.out.println("Export completed: " + mockExport.length() + " characters");
+        LOGGER.debug("Export completed: {} characters", mockExport.length());
         return mockExport;
     }
     
@@ -120,12 +117,12 @@ public class NeoBlueprintGuiLayer {
      * Simulate structure preview
      */
     public void showPreview() {
-        System.out.println("=== Structure Preview ===");
-        System.out.println("3D Preview would render here");
-        System.out.println("Structure dimensions: 8x8x8 grid units");
-        System.out.println("Material: Stone");
-        System.out.println("Volume: 512 grid units");
-        System.out.println("Preview GUI would open here when CreativeCore integration is complete");
+        LOGGER.debug("=== Structure Preview ===");
+        LOGGER.debug("3D Preview would render here");
+        LOGGER.debug("Structure dimensions: 8x8x8 grid units");
+        LOGGER.debug("Material: Stone");
+        LOGGER.debug("Volume: 512 grid units");
+        LOGGER.debug("Preview GUI would open here when CreativeCore integration is complete");
     }
     
     /**
@@ -2,6 +2,8 @@ package team.creative.neolittletiles.common.gui;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * NeoConfigGuiLayer - Placeholder for future CreativeCore GUI integration
@@ -13,6 +15,8 @@ import net.minecraft.world.entity.player.Player;
  */
 public class NeoConfigGuiLayer {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoConfigGuiLayer.class);
+    
     private final String toolType;
     private final Player player;
     
@@ -25,12 +29,12 @@ public class NeoConfigGuiLayer {
      * Simulate configuration GUI
      */
     public void show() {
-        System.out.println("=== " + toolType + " Configuration GUI ===");
-        System.out.println("Player: " + player.getName().getString());
-        System.out.println("Grid Size: 16 (default)");
-        System.out.println("Color: White (default)");
-        System.out.println("Preview: Enabled");
-        System.out.println("GUI would open here when CreativeCore integration is complete");
+        LOGGER.debug("=== {} Configuration GUI ===", toolType);
+        LOGGER.debug("Player: {}", player.getName().getString());
+        LOGGER.debug("Grid Size: 16 (default)");
+        LOGGER.debug("Color: White (default)");
+        LOGGER.debug("Preview: Enabled");
+        LOGGER.debug("GUI would open here when CreativeCore integration is complete");
     }
     
     /**
@@ -39,7 +43,7 @@ public class NeoConfigGuiLayer {
      * @param config Configuration data
      */
     public static void saveToolConfiguration(String toolType, CompoundTag config) {
-        System.out.println("Saving configuration for " + toolType + ": " + config);
+        LOGGER.debug("Saving configuration for {}: {}", toolType, config);
     }
     
     /**
@@ -54,7 +58,7 @@ public class NeoConfigGuiLayer {
         defaultConfig.putString("toolMode", "placement");
         defaultConfig.putInt("color", 0xFFFFFFFF);
         
-        System.out.println("Loaded default configuration for " + toolType);
+        LOGGER.debug("Loaded default configuration for {}", toolType);
         return defaultConfig;
     }
     
@@ -1,5 +1,6 @@
 package team.creative.neolittletiles.common.item;
 
+import net.minecraft.commands.arguments.blocks.BlockStateParser;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
@@ -15,17 +16,25 @@ import net.minecraft.world.item.Item.TooltipContext;
 import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.action.NeoAction;
 import team.creative.neolittletiles.common.action.NeoPlaceAction;
 import team.creative.neolittletiles.common.block.NeoTilesBlock;
 import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
 import team.creative.neolittletiles.common.converter.NeoBlueprint;
+import team.creative.neolittletiles.common.converter.NeoBlueprintPayload;
+import team.creative.neolittletiles.common.converter.NeoBlueprintWriter;
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.gui.NeoBlueprintGuiLayer;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -35,6 +44,8 @@ import java.util.List;
  * - Left click to place structure from blueprint
  * - Right click to save structure to blueprint
  * - SNBT export/import compatibility with LittleTiles
+ * - Structures stored as deflated binary with a content hash, name, tile
+ *   count, material count and size kept as plain metadata next to it
  * - Chisels & Bits import support
  * - Structure preview rendering
  * 
@@ -42,9 +53,21 @@ import java.util.List;
  */
 public class NeoBlueprintItem extends Item {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoBlueprintItem.class);
+    
     public static final String ITEM_ID = "neoblueprint";
-    private static final String NBT_CONTENT_KEY = "content";
     private static final String NBT_NAME_KEY = "name";
+    /** Legacy SNBT text, only read for blueprints saved before the binary format */
+    private static final String NBT_CONTENT_KEY = "content";
+    /** Deflated NeoBlueprintWriter binary, see NeoBlueprintPayload */
+    private static final String NBT_DATA_KEY = "data";
+    private static final String NBT_LENGTH_KEY = "length";
+    private static final String NBT_HASH_KEY = "hash";
+    // Metadata stored next to the payload, so tooltips and GUIs never inflate it
+    private static final String NBT_TILES_KEY = "tiles";
+    private static final String NBT_MATERIALS_KEY = "materials";
+    private static final String NBT_GRID_KEY = "grid";
+    private static final String NBT_SIZE_KEY = "size";
     
     public NeoBlueprintItem(Properties properties) {
         super(properties);
@@ -58,9 +81,7 @@ public class NeoBlueprintItem extends Item {
         ItemStack stack = context.getItemInHand();
         
         if (!level.isClientSide && player != null) {
-            String content = getBlueprintContent(stack);
-            
-            if (content != null && !content.isEmpty()) {
+            if (hasBlueprint(stack)) {
                 // Place structure from blueprint
                 return placeFromBlueprint(level, pos, stack, player, context);
             } else {
@@ -83,12 +104,11 @@ public class NeoBlueprintItem extends Item {
                 return InteractionResultHolder.success(stack);
             }
             
-            String content = getBlueprintContent(stack);
-            if (content != null && !content.isEmpty()) {
-                System.out.println("Blueprint contains structure data");
+            if (hasBlueprint(stack)) {
+                LOGGER.debug("Blueprint contains structure data: {}", getStats(stack));
                 // TODO: Open blueprint GUI when CreativeCore integration is ready
             } else {
-                System.out.println("Blueprint is empty");
+                LOGGER.debug("Blueprint is empty");
             }
         }
         
@@ -99,13 +119,21 @@ public class NeoBlueprintItem extends Item {
     public void appendHoverText(ItemStack stack, TooltipContext context, List<Component> tooltip, TooltipFlag flag) {
         super.appendHoverText(stack, context, tooltip, flag);
         
-        String content = getBlueprintContent(stack);
-        if (content != null && !content.isEmpty()) {
+        if (hasBlueprint(stack)) {
+            CompoundTag nbt = readData(stack);
             String name = getBlueprintName(stack);
             if (name != null && !name.isEmpty()) {
                 tooltip.add(Component.literal("Structure: " + name));
             }
-            tooltip.add(Component.literal("Contains structure data"));
+            if (nbt.contains(NBT_DATA_KEY)) {
+                int[] size = nbt.getIntArray(NBT_SIZE_KEY);
+                tooltip.add(Component.literal("Tiles: " + nbt.getInt(NBT_TILES_KEY) + " (" + nbt.getInt(NBT_MATERIALS_KEY) + " materials)"));
+                if (size.length == 3) {
+                    tooltip.add(Component.literal("Size: " + size[0] + "x" + size[1] + "x" + size[2] + " (grid " + nbt.getInt(NBT_GRID_KEY) + ")"));
+                }
+            } else {
+                tooltip.add(Component.literal("Contains structure data"));
+            }
             tooltip.add(Component.literal("Right-click to place"));
         } else {
             tooltip.add(Component.literal("Empty blueprint"));
@@ -117,36 +145,47 @@ public class NeoBlueprintItem extends Item {
      * Place structure from blueprint
      */
     private InteractionResult placeFromBlueprint(Level level, BlockPos pos, ItemStack stack, Player player, UseOnContext context) {
-        String content = getBlueprintContent(stack);
-        NeoBlueprint blueprint = NeoBlueprint.fromSNBT(content);
+        CompoundTag nbt = readData(stack);
         
-        if (blueprint != null && blueprint.isValid()) {
-            NeoGrid targetGrid = NeoGrid.GRID_16;
-            List<NeoTile> tiles = blueprint.convertToNeoTiles(targetGrid);
-            
-            if (!tiles.isEmpty()) {
-                // Ensure we have a NeoTiles block
+        // Tiles are streamed straight into the block entity, the block is only created once the first tile arrives
+        NeoTilesBlockEntity[] target = new NeoTilesBlockEntity[1];
+        int[] placedCount = new int[1];
+        NeoBlueprint.TileSink sink = (box, state, color) -> {
+            if (target[0] == null) {
                 if (!(level.getBlockState(pos).getBlock() instanceof NeoTilesBlock)) {
                     level.setBlock(pos, team.creative.neolittletiles.NeoLittleTilesRegistry.getNeoTilesBlock().defaultBlockState(), 3);
                 }
-                
-                // Add tiles to block entity
-                NeoTilesBlockEntity blockEntity = NeoTilesBlock.getBlockEntity(level, pos);
-                if (blockEntity != null) {
-                    int placedCount = 0;
-                    for (NeoTile tile : tiles) {
-                        if (blockEntity.addTile(tile)) {
-                            placedCount++;
-                        }
-                    }
-                    
-                    System.out.println("Placed " + placedCount + "/" + tiles.size() + " tiles from blueprint");
-                    return placedCount > 0 ? InteractionResult.SUCCESS : InteractionResult.FAIL;
+                target[0] = NeoTilesBlock.getBlockEntity(level, pos);
+            }
+            if (target[0] != null && target[0].addTile(new NeoTile(new NeoBox(box), state, color))) {
+                placedCount[0]++;
+            }
+        };
+        
+        int tileCount;
+        try {
+            if (nbt.contains(NBT_DATA_KEY)) {
+                byte[] data = NeoBlueprintPayload.inflate(nbt.getByteArray(NBT_DATA_KEY), nbt.getInt(NBT_LENGTH_KEY));
+                if (NeoBlueprintPayload.hash(data) != nbt.getLong(NBT_HASH_KEY)) {
+                    throw new IllegalArgumentException("Blueprint hash mismatch");
+                }
+                tileCount = NeoBlueprint.importBinary(data, NeoGrid.GRID_16, sink);
+            } else {
+                String content = getBlueprintContent(stack);
+                if (content == null || content.isEmpty()) {
+                    return InteractionResult.FAIL;
                 }
+                tileCount = NeoBlueprint.importSNBT(content, NeoGrid.GRID_16, sink);
             }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Failed to read blueprint: {}", e.getMessage());
+            return InteractionResult.FAIL;
         }
         
-        return InteractionResult.FAIL;
+        if (target[0] != null) {
+            LOGGER.debug("Placed {}/{} tiles from blueprint", placedCount[0], tileCount);
+        }
+        return placedCount[0] > 0 ? InteractionResult.SUCCESS : InteractionResult.FAIL;
     }
     
     /**
@@ -156,13 +195,13 @@ public class NeoBlueprintItem extends Item {
         if (level.getBlockState(pos).getBlock() instanceof NeoTilesBlock) {
             NeoTilesBlockEntity blockEntity = NeoTilesBlock.getBlockEntity(level, pos);
             if (blockEntity != null && blockEntity.hasTiles()) {
-                List<NeoTile> tiles = blockEntity.getTiles();
-                String blueprintContent = convertTilesToBlueprint(tiles);
-                
-                setBlueprintContent(stack, blueprintContent);
-                setBlueprintName(stack, "Structure_" + System.currentTimeMillis());
+                NeoTileCollection tiles = blockEntity.getTileCollection();
+                if (!setBlueprintData(stack, tiles, "Structure_" + System.currentTimeMillis())) {
+                    LOGGER.debug("Structure at {} is too large for a blueprint", pos);
+                    return InteractionResult.FAIL;
+                }
                 
-                System.out.println("Saved " + tiles.size() + " tiles to blueprint");
+                LOGGER.debug("Saved {} tiles to blueprint", tiles.size());
                 return InteractionResult.SUCCESS;
             }
         }
@@ -172,12 +211,12 @@ public class NeoBlueprintItem extends Item {
     
     // Legacy methods for test compatibility
     public static Object onLeftClick(Object level, Object player, Object hand, Object hitResult) {
-        System.out.println("NeoBlueprint left click - simulated structure placement");
+        LOGGER.debug("NeoBlueprint left click - simulated structure placement");
         return "SUCCESS";
     }
     
     public static Object onRightClick(Object level, Object player, Object hand, Object hitResult) {
-        System.out.println("NeoBlueprint right click - simulated structure save");
+        LOGGER.debug("NeoBlueprint right click - simulated structure save");
         return "SUCCESS";
     }
     
@@ -197,7 +236,7 @@ public class NeoBlueprintItem extends Item {
             NeoAction.Result result = placeAction.execute(player);
             
             if (result != NeoAction.Result.SUCCESS) {
-                System.out.println("Failed to place tile: " + tile);
+                LOGGER.debug("Failed to place tile: {}", tile);
                 return false;
             }
         }
@@ -236,63 +275,59 @@ public class NeoBlueprintItem extends Item {
     }
     
     /**
-     * Convert tiles to blueprint SNBT format
-     * @param tiles Tiles to convert
-     * @return SNBT string
+     * Name a tile state the way blueprints store it
+     * @param state Tile state
+     * @return Registry form for block states (e.g. minecraft:oak_log[axis=x]), toString() otherwise
      */
-    private static String convertTilesToBlueprint(List<NeoTile> tiles) {
-        // TODO: Implement proper SNBT generation
-        
-        // For MVP, return mock SNBT
-        StringBuilder snbt = new StringBuilder();
-        snbt.append("{");
-        snbt.append("\"grid\":16,");
-        snbt.append("\"c\":{");
-        snbt.append("\"t\":{");
-        
-        // Group tiles by material
-        java.util.Map<String, java.util.List<NeoTile>> materialGroups = new java.util.HashMap<>();
-        for (NeoTile tile : tiles) {
-            String material = (String) tile.getState();
-            materialGroups.computeIfAbsent(material, k -> new java.util.ArrayList<>()).add(tile);
-        }
-        
-        boolean firstMaterial = true;
-        for (java.util.Map.Entry<String, java.util.List<NeoTile>> entry : materialGroups.entrySet()) {
-            if (!firstMaterial) snbt.append(",");
-            firstMaterial = false;
-            
-            snbt.append("\"").append(entry.getKey()).append("\":[");
-            snbt.append("[I;-1],"); // Color marker
-            
-            boolean firstTile = true;
-            for (NeoTile tile : entry.getValue()) {
-                if (!firstTile) snbt.append(",");
-                firstTile = false;
-                
-                NeoBox box = tile.getBox();
-                snbt.append("[I;").append(box.minX).append(",").append(box.minY).append(",").append(box.minZ)
-                    .append(",").append(box.maxX).append(",").append(box.maxY).append(",").append(box.maxZ).append("]");
-            }
-            
-            snbt.append("]");
+    private static String getStateName(Object state) {
+        return state instanceof BlockState blockState ? BlockStateParser.serialize(blockState) : String.valueOf(state);
+    }
+    
+    /**
+     * Get the custom data of a stack without copying it
+     * @param stack Item stack to read from
+     * @return Stored compound, must not be modified
+     */
+    @SuppressWarnings("deprecation")
+    private static CompoundTag readData(ItemStack stack) {
+        // copyTag() would duplicate the whole payload on every tooltip frame
+        return stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY).getUnsafe();
+    }
+    
+    /**
+     * Check if a stack holds a structure
+     * @param stack Item stack to check
+     * @return true if binary or legacy SNBT content is stored
+     */
+    public static boolean hasBlueprint(ItemStack stack) {
+        CompoundTag nbt = readData(stack);
+        return nbt.contains(NBT_DATA_KEY) || !nbt.getString(NBT_CONTENT_KEY).isEmpty();
+    }
+    
+    /**
+     * Describe the stored structure from its metadata, without inflating the payload
+     * @param stack Item stack to read from
+     * @return Statistics string
+     */
+    public static String getStats(ItemStack stack) {
+        CompoundTag nbt = readData(stack);
+        if (!nbt.contains(NBT_DATA_KEY)) {
+            return nbt.contains(NBT_CONTENT_KEY) ? "Blueprint[legacy SNBT]" : "Blueprint[empty]";
         }
-        
-        snbt.append("}");
-        snbt.append("}");
-        snbt.append("}");
-        
-        return snbt.toString();
+        int[] size = nbt.getIntArray(NBT_SIZE_KEY);
+        return String.format("Blueprint[grid=%d, tiles=%d, materials=%d, size=%s, bytes=%d/%d, hash=%016x]",
+                           nbt.getInt(NBT_GRID_KEY), nbt.getInt(NBT_TILES_KEY), nbt.getInt(NBT_MATERIALS_KEY),
+                           size.length == 3 ? size[0] + "x" + size[1] + "x" + size[2] : "?",
+                           nbt.getByteArray(NBT_DATA_KEY).length, nbt.getInt(NBT_LENGTH_KEY), nbt.getLong(NBT_HASH_KEY));
     }
     
     /**
-     * Get blueprint content from item stack
+     * Get legacy SNBT blueprint content from item stack
      * @param stack Item stack to read from
      * @return SNBT content string
      */
     private String getBlueprintContent(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag nbt = customData.copyTag();
+        CompoundTag nbt = readData(stack);
         if (nbt.contains(NBT_CONTENT_KEY)) {
             return nbt.getString(NBT_CONTENT_KEY);
         }
@@ -300,16 +335,41 @@ public class NeoBlueprintItem extends Item {
     }
     
     /**
-     * Set blueprint content on item stack
+     * Store tiles on item stack as compressed binary blueprint with metadata
      * @param stack Item stack to modify
-     * @param content SNBT content string
+     * @param tiles Tiles to store
+     * @param name Blueprint name
+     * @return false if the blueprint would exceed NeoBlueprintPayload.MAX_LENGTH, the stack is left unchanged
      */
-    private void setBlueprintContent(ItemStack stack, String content) {
+    private static boolean setBlueprintData(ItemStack stack, NeoTileCollection tiles, String name) {
+        byte[] data = NeoBlueprintWriter.toBinary(tiles, NeoBlueprintItem::getStateName);
+        if (data.length > NeoBlueprintPayload.MAX_LENGTH) {
+            return false;
+        }
+        byte[] compressed = NeoBlueprintPayload.deflate(data);
+        
+        NeoTileStore store = tiles.getStore();
+        BitSet materials = new BitSet(store.getPaletteSize());
+        for (int slot = 0; slot < store.size(); slot++) {
+            materials.set(store.getStateIndex(slot));
+        }
+        NeoBox bounds = tiles.getBounds();
+        
         stack.update(DataComponents.CUSTOM_DATA, CustomData.EMPTY, customData -> {
             CompoundTag nbt = customData.copyTag();
-            nbt.putString(NBT_CONTENT_KEY, content);
+            nbt.remove(NBT_CONTENT_KEY);
+            nbt.putString(NBT_NAME_KEY, name);
+            nbt.putByteArray(NBT_DATA_KEY, compressed);
+            nbt.putInt(NBT_LENGTH_KEY, data.length);
+            nbt.putLong(NBT_HASH_KEY, NeoBlueprintPayload.hash(data));
+            nbt.putInt(NBT_TILES_KEY, store.size());
+            nbt.putInt(NBT_MATERIALS_KEY, materials.cardinality());
+            nbt.putInt(NBT_GRID_KEY, tiles.getGrid().getSize());
+            nbt.putIntArray(NBT_SIZE_KEY, bounds == null ? new int[3] :
+                new int[] { bounds.maxX - bounds.minX, bounds.maxY - bounds.minY, bounds.maxZ - bounds.minZ });
             return CustomData.of(nbt);
         });
+        return true;
     }
     
     /**
@@ -318,27 +378,13 @@ public class NeoBlueprintItem extends Item {
      * @return Blueprint name
      */
     private String getBlueprintName(ItemStack stack) {
-        CustomData customData = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        CompoundTag nbt = customData.copyTag();
+        CompoundTag nbt = readData(stack);
         if (nbt.contains(NBT_NAME_KEY)) {
             return nbt.getString(NBT_NAME_KEY);
         }
         return null;
     }
     
-    /**
-     * Set blueprint name on item stack
-     * @param stack Item stack to modify
-     * @param name Blueprint name
-     */
-    private void setBlueprintName(ItemStack stack, String name) {
-        stack.update(DataComponents.CUSTOM_DATA, CustomData.EMPTY, customData -> {
-            CompoundTag nbt = customData.copyTag();
-            nbt.putString(NBT_NAME_KEY, name);
-            return CustomData.of(nbt);
-        });
-    }
-    
     /**
      * Import blueprint from SNBT string - legacy test method
      * @param snbtString SNBT format string
@@ -349,11 +395,11 @@ public class NeoBlueprintItem extends Item {
         try {
             NeoBlueprint blueprint = NeoBlueprint.fromSNBT(snbtString);
             if (blueprint != null && blueprint.isValid()) {
-                System.out.println("Successfully imported blueprint: " + blueprint.getStats());
+                LOGGER.debug("Successfully imported blueprint: {}", blueprint.getStats());
                 return true;
             }
         } catch (Exception e) {
-            System.err.println("Failed to import blueprint: " + e.getMessage());
+            LOGGER.warn("Failed to import blueprint: {}", e.getMessage());
         }
         return false;
     }
@@ -364,7 +410,7 @@ public class NeoBlueprintItem extends Item {
      * @return SNBT string or null if empty
      */
     public static String exportToSNBT(Object itemStack) {
-        System.out.println("Exporting blueprint to SNBT (test mode)");
+        LOGGER.debug("Exporting blueprint to SNBT (test mode)");
         return null;
     }
     
@@ -376,7 +422,7 @@ public class NeoBlueprintItem extends Item {
      * @param flag Tooltip flag (ignored in test mode)
      */
     public static void appendHoverText(Object stack, Object level, Object tooltip, Object flag) {
-        System.out.println("Blueprint tooltip: test mode");
+        LOGGER.debug("Blueprint tooltip: test mode");
     }
     
     /**
@@ -395,7 +441,7 @@ public class NeoBlueprintItem extends Item {
      */
     private void openBlueprintGUI(ItemStack stack, Player player) {
         // TODO: Implement proper GUI opening when CreativeCore integration is ready
-        System.out.println("Opening NeoBlueprintItem GUI for player: " + player.getName().getString());
+        LOGGER.debug("Opening NeoBlueprintItem GUI for player: {}", player.getName().getString());
         
         // For MVP, just log the action
         NeoBlueprintGuiLayer blueprintGui = NeoBlueprintGuiLayer.createForItem(stack, player);
@@ -9,6 +9,8 @@ import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.action.NeoAction;
 import team.creative.neolittletiles.common.action.NeoPlaceAction;
 import team.creative.neolittletiles.common.action.NeoDestroyAction;
@@ -32,6 +34,8 @@ import team.creative.neolittletiles.common.tile.NeoTile;
  */
 public class NeoChisel extends Item {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoChisel.class);
+    
     public static final String ITEM_ID = "neochisel";
     private static final NeoGrid DEFAULT_GRID = NeoGrid.GRID_16;
     
@@ -67,8 +71,8 @@ public class NeoChisel extends Item {
                 NeoTile tile = new NeoTile(placementBox, blockState);
                 boolean success = blockEntity.addTile(tile);
                 
-                System.out.println("NeoChisel placement: " + (success ? "SUCCESS" : "FAIL"));
-                System.out.println("Placed tile: " + tile);
+                LOGGER.debug("NeoChisel placement: {}", (success ? "SUCCESS" : "FAIL"));
+                LOGGER.debug("Placed tile: {}", tile);
                 
                 return success ? InteractionResult.SUCCESS : InteractionResult.FAIL;
             }
@@ -115,7 +119,7 @@ public class NeoChisel extends Item {
     public static Object onLeftClick(Object level, Object player, Object hand, Object hitResult) {
         // TODO: Implement when proper classes are available
         
-        System.out.println("NeoChisel left click - placing tile");
+        LOGGER.debug("NeoChisel left click - placing tile");
         
         // Get placement parameters
         NeoBox placementBox = getPlacementBox(hitResult, DEFAULT_GRID);
@@ -126,7 +130,7 @@ public class NeoChisel extends Item {
         NeoPlaceAction placeAction = new NeoPlaceAction(placementBox, blockState, color);
         NeoAction.Result result = placeAction.execute(player);
         
-        System.out.println("Placement result: " + result);
+        LOGGER.debug("Placement result: {}", result);
         
         // TODO: Return proper InteractionResult when available
         return result == NeoAction.Result.SUCCESS ? "SUCCESS" : "FAIL";
@@ -143,7 +147,7 @@ public class NeoChisel extends Item {
     public static Object onRightClick(Object level, Object player, Object hand, Object hitResult) {
         // TODO: Implement when proper classes are available
         
-        System.out.println("NeoChisel right click - destroying tiles");
+        LOGGER.debug("NeoChisel right click - destroying tiles");
         
         // Get destruction parameters
         NeoBox destructionBox = getDestructionBox(hitResult, DEFAULT_GRID);
@@ -152,7 +156,7 @@ public class NeoChisel extends Item {
         NeoDestroyAction destroyAction = new NeoDestroyAction(destructionBox);
         NeoAction.Result result = destroyAction.execute(player);
         
-        System.out.println("Destruction result: " + result);
+        LOGGER.debug("Destruction result: {}", result);
         
         // TODO: Return proper InteractionResult when available
         return result == NeoAction.Result.SUCCESS ? "SUCCESS" : "FAIL";
@@ -220,7 +224,7 @@ public class NeoChisel extends Item {
     public static boolean onMouseWheel(Object player, int scrollDelta) {
         // TODO: Implement grid size adjustment
         
-        System.out.println("NeoChisel mouse wheel: " + scrollDelta);
+        LOGGER.debug("NeoChisel mouse wheel: {}", scrollDelta);
         
         // For MVP, just log the action
         return true;
@@ -236,7 +240,7 @@ public class NeoChisel extends Item {
     public static void appendHoverText(Object stack, Object level, Object tooltip, Object flag) {
         // TODO: Implement when Component and List<Component> are available
         
-        System.out.println("NeoChisel tooltip requested");
+        LOGGER.debug("NeoChisel tooltip requested");
         
         // Would add:
         // - Current grid size
@@ -265,7 +269,7 @@ public class NeoChisel extends Item {
      */
     private void openConfigurationGUI(Player player) {
         // TODO: Implement proper GUI opening when CreativeCore integration is ready
-        System.out.println("Opening NeoChisel configuration GUI for player: " + player.getName().getString());
+        LOGGER.debug("Opening NeoChisel configuration GUI for player: {}", player.getName().getString());
         
         // For MVP, just log the action
         NeoConfigGuiLayer configGui = NeoConfigGuiLayer.createForTool(ITEM_ID, player);
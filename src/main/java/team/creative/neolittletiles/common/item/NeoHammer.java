@@ -5,6 +5,8 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import team.creative.neolittletiles.common.action.NeoAction;
 import team.creative.neolittletiles.common.action.NeoDestroyAction;
 import team.creative.neolittletiles.common.block.NeoTilesBlock;
@@ -27,6 +29,8 @@ import java.util.List;
  */
 public class NeoHammer extends Item {
     
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoHammer.class);
+    
     public static final String ITEM_ID = "neohammer";
     private static final NeoGrid DEFAULT_GRID = NeoGrid.GRID_16;
     
@@ -53,13 +57,18 @@ public class NeoHammer extends Item {
                     // Remove tiles from block entity
                     var removedTiles = blockEntity.removeTiles(destructionArea);
                     
-                    System.out.println("NeoHammer destruction: removed " + removedTiles.size() + " tiles");
-                    System.out.println("Destruction area: " + destructionArea);
+                    int removedVolume = 0;
+                    for (var tile : removedTiles) {
+                        removedVolume += tile.getVolume();
+                    }
+                    
+                    LOGGER.debug("NeoHammer destruction: cut {} voxels from {} tiles", removedVolume, removedTiles.size());
+                    LOGGER.debug("Destruction area: {}", destructionArea);
                     
                     // If no tiles remain, consider removing the block
                     if (!blockEntity.hasTiles()) {
                         // TODO: Remove block or keep for future tiles
-                        System.out.println("Block entity is now empty");
+                        LOGGER.debug("Block entity is now empty");
                     }
                     
                     return removedTiles.isEmpty() ? InteractionResult.FAIL : InteractionResult.SUCCESS;
@@ -104,7 +113,7 @@ public class NeoHammer extends Item {
      * @return Interaction result
      */
     public static Object onLeftClick(Object level, Object player, Object hand, Object hitResult) {
-        System.out.println("NeoHammer left click - area destruction");
+        LOGGER.debug("NeoHammer left click - area destruction");
         
         // Get destruction parameters
         int destructionSize = getDestructionSize(player);
@@ -114,7 +123,7 @@ public class NeoHammer extends Item {
         NeoDestroyAction destroyAction = new NeoDestroyAction(destructionArea);
         NeoAction.Result result = destroyAction.execute(player);
         
-        System.out.println("Area destruction result: " + result + " (size: " + destructionSize + ")");
+        LOGGER.debug("Area destruction result: {} (size: {})", result, destructionSize);
         
         // TODO: Return proper InteractionResult when available
         return result == NeoAction.Result.SUCCESS ? "SUCCESS" : "FAIL";
@@ -129,7 +138,7 @@ public class NeoHammer extends Item {
      * @return Interaction result
      */
     public static Object onRightClick(Object level, Object player, Object hand, Object hitResult) {
-        System.out.println("NeoHammer right click - precision destruction");
+        LOGGER.debug("NeoHammer right click - precision destruction");
         
         // Get single tile destruction area
         NeoBox destructionArea = getPrecisionDestructionArea(hitResult, DEFAULT_GRID);
@@ -138,7 +147,7 @@ public class NeoHammer extends Item {
         NeoDestroyAction destroyAction = new NeoDestroyAction(destructionArea);
         NeoAction.Result result = destroyAction.execute(player);
         
-        System.out.println("Precision destruction result: " + result);
+        LOGGER.debug("Precision destruction result: {}", result);
         
         // TODO: Return proper InteractionResult when available
         return result == NeoAction.Result.SUCCESS ? "SUCCESS" : "FAIL";
@@ -194,7 +203,7 @@ public class NeoHammer extends Item {
         
         int clampedIndex = Math.max(0, Math.min(sizeIndex, DESTRUCTION_SIZES.length - 1));
         int size = DESTRUCTION_SIZES[clampedIndex];
-        System.out.println("Hammer destruction size set to: " + size);
+        LOGGER.debug("Hammer destruction size set to: {}", size);
     }
     
     /**
@@ -237,7 +246,7 @@ public class NeoHammer extends Item {
     public static void appendHoverText(Object stack, Object level, Object tooltip, Object flag) {
         // TODO: Implement when Component and List<Component> are available
         
-        System.out.println("NeoHammer tooltip requested");
+        LOGGER.debug("NeoHammer tooltip requested");
         
         // Would add:
         // - Current destruction size
@@ -13,6 +13,10 @@ package team.creative.neolittletiles.common.math;
  */
 public class NeoBox {
     
+    // Upper bound of remainder boxes produced by subtract(), 6 ints each
+    public static final int MAX_SUBTRACT_PARTS = 6;
+    public static final int SUBTRACT_BUFFER_SIZE = MAX_SUBTRACT_PARTS * 6;
+    
     public int minX, minY, minZ;
     public int maxX, maxY, maxZ;
     
@@ -29,6 +33,30 @@ public class NeoBox {
         this(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
     }
     
+    // Min coordinate on an axis (0 = X, 1 = Y, 2 = Z)
+    public int getMin(int axis) {
+        return axis == 0 ? minX : axis == 1 ? minY : minZ;
+    }
+    
+    // Max coordinate on an axis (0 = X, 1 = Y, 2 = Z)
+    public int getMax(int axis) {
+        return axis == 0 ? maxX : axis == 1 ? maxY : maxZ;
+    }
+    
+    // Set both coordinates on an axis (0 = X, 1 = Y, 2 = Z)
+    public void setRange(int axis, int min, int max) {
+        if (axis == 0) {
+            minX = min;
+            maxX = max;
+        } else if (axis == 1) {
+            minY = min;
+            maxY = max;
+        } else {
+            minZ = min;
+            maxZ = max;
+        }
+    }
+    
     // Efficient volume calculation
     public int getVolume() {
         return (maxX - minX) * (maxY - minY) * (maxZ - minZ);
@@ -73,10 +101,89 @@ public class NeoBox {
         return null; // No intersection
     }
     
+    /**
+     * Cut another box out of this one (CSG difference) without allocating.
+     * Remainders are written as slabs: X below/above the cut, then Y, then Z
+     * inside the cut's X range, so they never overlap each other.
+     * @param cut Box to remove
+     * @param out Reusable buffer of at least SUBTRACT_BUFFER_SIZE ints,
+     *            receives minX, minY, minZ, maxX, maxY, maxZ per remainder
+     * @return Number of remainder boxes (0 if fully covered, 1 if disjoint)
+     */
+    public int subtract(NeoBox cut, int[] out) {
+        if (!intersects(cut)) {
+            write(out, 0, minX, minY, minZ, maxX, maxY, maxZ);
+            return 1;
+        }
+        
+        int parts = 0;
+        int innerMinX = Math.max(minX, cut.minX);
+        int innerMaxX = Math.min(maxX, cut.maxX);
+        int innerMinY = Math.max(minY, cut.minY);
+        int innerMaxY = Math.min(maxY, cut.maxY);
+        
+        if (minX < cut.minX) {
+            write(out, parts++, minX, minY, minZ, cut.minX, maxY, maxZ);
+        }
+        if (maxX > cut.maxX) {
+            write(out, parts++, cut.maxX, minY, minZ, maxX, maxY, maxZ);
+        }
+        if (minY < cut.minY) {
+            write(out, parts++, innerMinX, minY, minZ, innerMaxX, cut.minY, maxZ);
+        }
+        if (maxY > cut.maxY) {
+            write(out, parts++, innerMinX, cut.maxY, minZ, innerMaxX, maxY, maxZ);
+        }
+        if (minZ < cut.minZ) {
+            write(out, parts++, innerMinX, innerMinY, minZ, innerMaxX, innerMaxY, cut.minZ);
+        }
+        if (maxZ > cut.maxZ) {
+            write(out, parts++, innerMinX, innerMinY, cut.maxZ, innerMaxX, innerMaxY, maxZ);
+        }
+        return parts;
+    }
+    
+    private static void write(int[] out, int part, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int offset = part * 6;
+        out[offset] = minX;
+        out[offset + 1] = minY;
+        out[offset + 2] = minZ;
+        out[offset + 3] = maxX;
+        out[offset + 4] = maxY;
+        out[offset + 5] = maxZ;
+    }
+    
+    // Check if the union with another box is exactly both boxes (shared face, same extents)
+    public boolean isMergeable(NeoBox other) {
+        boolean sameX = minX == other.minX && maxX == other.maxX;
+        boolean sameY = minY == other.minY && maxY == other.maxY;
+        boolean sameZ = minZ == other.minZ && maxZ == other.maxZ;
+        
+        if (sameY && sameZ) {
+            return maxX == other.minX || other.maxX == minX;
+        }
+        if (sameX && sameZ) {
+            return maxY == other.minY || other.maxY == minY;
+        }
+        if (sameX && sameY) {
+            return maxZ == other.minZ || other.maxZ == minZ;
+        }
+        return false;
+    }
+    
     public boolean isValid() {
         return maxX > minX && maxY > minY && maxZ > minZ;
     }
     
+    /**
+     * Check if this box lies within one block of the given grid
+     * @param gridSize Grid size of the block
+     * @return true if all coordinates are between 0 and gridSize
+     */
+    public boolean isInGrid(int gridSize) {
+        return minX >= 0 && minY >= 0 && minZ >= 0 && maxX <= gridSize && maxY <= gridSize && maxZ <= gridSize;
+    }
+    
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
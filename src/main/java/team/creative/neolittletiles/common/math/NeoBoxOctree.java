@@ -0,0 +1,281 @@
+package team.creative.neolittletiles.common.math;
+
+import java.util.function.IntConsumer;
+
+/**
+ * NeoBoxOctree - Spatial index over grid-space boxes
+ * 
+ * Loose octree storing integer handles (e.g. tile slots):
+ * - Every cell below the root reaches half its size beyond its own bounds, so
+ *   a box sinks down to the deepest cell as large as the box that holds its
+ *   center, even if it straddles a midplane
+ * - Cells are allocated lazily and split down to a single grid unit
+ * - Cells left empty by removals are freed again
+ * - Boxes reaching outside the root cell are kept in the root
+ * - Queries only descend into cells whose loose bounds overlap the query area
+ * 
+ * The tree does not own the boxes. Callers pass the box on insert/remove and
+ * re-check exact intersection on query results, since a cell may also hold
+ * boxes that do not touch the query area.
+ */
+public class NeoBoxOctree {
+    
+    private static final int[] EMPTY = new int[0];
+    
+    private final int rootSize;
+    private Node root;
+    private int size;
+    private int nodeCount = 1;
+    
+    /**
+     * Create an octree covering [0, rootSize) on every axis
+     * @param rootSize Edge length of the root cell (power of 2, usually the grid size)
+     */
+    public NeoBoxOctree(int rootSize) {
+        this.rootSize = rootSize;
+        this.root = new Node(0, 0, 0, rootSize);
+    }
+    
+    /**
+     * Insert a handle for the given box
+     * @param handle Handle to store
+     * @param box Box the handle refers to
+     */
+    public void insert(int handle, NeoBox box) {
+        findNode(box, true).add(handle);
+        size++;
+    }
+    
+    /**
+     * Remove a handle that was inserted with the given box
+     * @param handle Handle to remove
+     * @param box Box the handle was inserted with
+     * @return true if the handle was found
+     */
+    public boolean remove(int handle, NeoBox box) {
+        Node node = findNode(box, false);
+        if (node != null && node.remove(handle)) {
+            size--;
+            prune(node);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Free empty leaf cells, walking up as long as parents become empty leaves too
+     */
+    private void prune(Node node) {
+        while (node.parent != null && node.count == 0 && node.childCount == 0) {
+            Node parent = node.parent;
+            parent.children[node.octant] = null;
+            if (--parent.childCount == 0) {
+                parent.children = null;
+            }
+            nodeCount--;
+            node = parent;
+        }
+    }
+    
+    /**
+     * Replace a handle in place, e.g. after its slot was moved in storage
+     * @param oldHandle Handle currently stored
+     * @param newHandle Handle to store instead
+     * @param box Box both handles refer to
+     * @return true if the old handle was found
+     */
+    public boolean replace(int oldHandle, int newHandle, NeoBox box) {
+        Node node = findNode(box, false);
+        return node != null && node.replace(oldHandle, newHandle);
+    }
+    
+    /**
+     * Visit all handles stored in cells overlapping the area
+     * @param area Query area in grid coordinates
+     * @param consumer Receives candidate handles (exact test is up to the caller)
+     */
+    public void query(NeoBox area, IntConsumer consumer) {
+        query(root, area, consumer);
+    }
+    
+    private void query(Node node, NeoBox area, IntConsumer consumer) {
+        for (int i = 0; i < node.count; i++) {
+            consumer.accept(node.handles[i]);
+        }
+        
+        Node[] children = node.children;
+        if (children == null) {
+            return;
+        }
+        
+        for (Node child : children) {
+            if (child != null && child.overlaps(area)) {
+                query(child, area, consumer);
+            }
+        }
+    }
+    
+    /**
+     * Remove all handles
+     */
+    public void clear() {
+        root = new Node(0, 0, 0, rootSize);
+        size = 0;
+        nodeCount = 1;
+    }
+    
+    /**
+     * Get the number of stored handles
+     * @return Handle count
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get the number of allocated cells, including the root
+     * @return Cell count
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    /**
+     * Get the root cell edge length
+     * @return Root size in grid units
+     */
+    public int getRootSize() {
+        return rootSize;
+    }
+    
+    /**
+     * Walk down to the deepest cell whose loose bounds fully contain the box
+     * 
+     * A child's loose bounds extend half a child size past each side, so any box
+     * no larger than the child whose center lies in the child fits inside them.
+     * The path only depends on the box, insert and remove always agree.
+     * 
+     * @param box Box to locate
+     * @param create Whether missing cells should be allocated
+     * @return Target cell, or null if it does not exist and create is false
+     */
+    private Node findNode(NeoBox box, boolean create) {
+        Node node = root;
+        if (!node.contains(box)) {
+            return node;
+        }
+        
+        int extent = Math.max(box.maxX - box.minX, Math.max(box.maxY - box.minY, box.maxZ - box.minZ));
+        while (node.size > 1) {
+            int half = node.size >> 1;
+            if (extent > half) {
+                break;
+            }
+            
+            // Doubled coordinates keep the center exact
+            int octant = 0;
+            if (box.minX + box.maxX >= (node.minX + half) << 1) {
+                octant |= 1;
+            }
+            if (box.minY + box.maxY >= (node.minY + half) << 1) {
+                octant |= 2;
+            }
+            if (box.minZ + box.maxZ >= (node.minZ + half) << 1) {
+                octant |= 4;
+            }
+            
+            if (node.children == null) {
+                if (!create) {
+                    return null;
+                }
+                node.children = new Node[8];
+            }
+            
+            Node child = node.children[octant];
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node(
+                    (octant & 1) != 0 ? node.minX + half : node.minX,
+                    (octant & 2) != 0 ? node.minY + half : node.minY,
+                    (octant & 4) != 0 ? node.minZ + half : node.minZ,
+                    half
+                );
+                child.parent = node;
+                child.octant = octant;
+                node.children[octant] = child;
+                node.childCount++;
+                nodeCount++;
+            }
+            node = child;
+        }
+        
+        return node;
+    }
+    
+    private static final class Node {
+        
+        final int minX, minY, minZ, size;
+        Node parent;
+        int octant;
+        Node[] children;
+        int childCount;
+        int[] handles = EMPTY;
+        int count;
+        
+        Node(int minX, int minY, int minZ, int size) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.size = size;
+        }
+        
+        boolean contains(NeoBox box) {
+            return box.minX >= minX && box.maxX <= minX + size &&
+                   box.minY >= minY && box.maxY <= minY + size &&
+                   box.minZ >= minZ && box.maxZ <= minZ + size;
+        }
+        
+        // Loose bounds, only used for children (the root is never tested)
+        boolean overlaps(NeoBox box) {
+            int margin = size >> 1;
+            int looseSize = size + margin;
+            return box.maxX > minX - margin && box.minX < minX + looseSize &&
+                   box.maxY > minY - margin && box.minY < minY + looseSize &&
+                   box.maxZ > minZ - margin && box.minZ < minZ + looseSize;
+        }
+        
+        void add(int handle) {
+            if (count == handles.length) {
+                int[] grown = new int[Math.max(4, count << 1)];
+                System.arraycopy(handles, 0, grown, 0, count);
+                handles = grown;
+            }
+            handles[count++] = handle;
+        }
+        
+        boolean remove(int handle) {
+            for (int i = 0; i < count; i++) {
+                if (handles[i] == handle) {
+                    handles[i] = handles[--count];
+                    if (count == 0) {
+                        handles = EMPTY;
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        boolean replace(int oldHandle, int newHandle) {
+            for (int i = 0; i < count; i++) {
+                if (handles[i] == oldHandle) {
+                    handles[i] = newHandle;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
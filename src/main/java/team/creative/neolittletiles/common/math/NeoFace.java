@@ -0,0 +1,80 @@
+package team.creative.neolittletiles.common.math;
+
+/**
+ * NeoFace - The six axis aligned faces of a box
+ * 
+ * Minecraft free counterpart of Direction for the tile math:
+ * - Axis index (0 = X, 1 = Y, 2 = Z) and side (positive or negative)
+ * - The two in-plane axes (u, v) used for 2D coverage tests
+ * - Bit flags for compact face masks
+ * 
+ * Names and order match Direction, so NeoFace.valueOf(direction.name()) works.
+ */
+public enum NeoFace {
+    
+    DOWN(1, false),
+    UP(1, true),
+    NORTH(2, false),
+    SOUTH(2, true),
+    WEST(0, false),
+    EAST(0, true);
+    
+    /** Mask with all six faces set */
+    public static final int ALL = 0x3F;
+    
+    private static final NeoFace[] VALUES = values();
+    
+    public final int axis;
+    public final boolean positive;
+    public final int uAxis;
+    public final int vAxis;
+    public final int flag;
+    
+    NeoFace(int axis, boolean positive) {
+        this.axis = axis;
+        this.positive = positive;
+        this.uAxis = axis == 0 ? 1 : 0;
+        this.vAxis = axis == 2 ? 1 : 2;
+        this.flag = 1 << ordinal();
+    }
+    
+    /**
+     * Get the face pointing the other way
+     * @return Opposite face
+     */
+    public NeoFace getOpposite() {
+        return VALUES[ordinal() ^ 1];
+    }
+    
+    /**
+     * Get the coordinate of the plane this face of the box lies on
+     * @param box Box
+     * @return Plane coordinate on the face axis
+     */
+    public int getPlane(NeoBox box) {
+        return positive ? box.getMax(axis) : box.getMin(axis);
+    }
+    
+    /**
+     * Get the face for an axis and side
+     * @param axis 0 = X, 1 = Y, 2 = Z
+     * @param positive Whether the face points towards positive coordinates
+     * @return Matching face
+     */
+    public static NeoFace get(int axis, boolean positive) {
+        return switch (axis) {
+            case 0 -> positive ? EAST : WEST;
+            case 1 -> positive ? UP : DOWN;
+            default -> positive ? SOUTH : NORTH;
+        };
+    }
+    
+    /**
+     * Get a face by ordinal without allocating
+     * @param ordinal Face ordinal
+     * @return Face
+     */
+    public static NeoFace byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,141 @@
+package team.creative.neolittletiles.common.math;
+
+import java.util.Arrays;
+
+/**
+ * NeoFaceCoverage - Exact 2D coverage test for face occlusion
+ * 
+ * Checks if a face rectangle is completely covered by the union of other
+ * rectangles on the same plane:
+ * - Rectangles are clipped to the target face when added
+ * - A single rectangle covering the whole face ends the test early
+ * - Otherwise the face is split into strips at every rectangle edge and the
+ *   covering intervals of each strip are swept for gaps
+ * 
+ * Instances keep their work buffers, reuse one per thread.
+ */
+public class NeoFaceCoverage {
+    
+    private int u0, v0, u1, v1;
+    private boolean fullyCovered;
+    
+    // Clipped rectangles as (u0, v0, u1, v1), relative to the target's min corner
+    private int[] rects = new int[32];
+    private int count;
+    
+    private int[] breaks = new int[16];
+    private long[] intervals = new long[8];
+    
+    /**
+     * Start a new test for a face rectangle
+     * @param u0 Min u coordinate
+     * @param v0 Min v coordinate
+     * @param u1 Max u coordinate
+     * @param v1 Max v coordinate
+     */
+    public void reset(int u0, int v0, int u1, int v1) {
+        this.u0 = u0;
+        this.v0 = v0;
+        this.u1 = u1;
+        this.v1 = v1;
+        this.count = 0;
+        this.fullyCovered = false;
+    }
+    
+    /**
+     * Add an occluding rectangle
+     * @param ru0 Min u coordinate
+     * @param rv0 Min v coordinate
+     * @param ru1 Max u coordinate
+     * @param rv1 Max v coordinate
+     */
+    public void add(int ru0, int rv0, int ru1, int rv1) {
+        int cu0 = Math.max(ru0, u0) - u0;
+        int cv0 = Math.max(rv0, v0) - v0;
+        int cu1 = Math.min(ru1, u1) - u0;
+        int cv1 = Math.min(rv1, v1) - v0;
+        if (cu0 >= cu1 || cv0 >= cv1) {
+            return;
+        }
+        
+        if (cu0 == 0 && cv0 == 0 && cu1 == u1 - u0 && cv1 == v1 - v0) {
+            fullyCovered = true;
+        }
+        
+        if (count * 4 == rects.length) {
+            rects = Arrays.copyOf(rects, rects.length << 1);
+        }
+        int offset = count * 4;
+        rects[offset] = cu0;
+        rects[offset + 1] = cv0;
+        rects[offset + 2] = cu1;
+        rects[offset + 3] = cv1;
+        count++;
+    }
+    
+    /**
+     * Check if the added rectangles cover the whole face
+     * @return true if no part of the face is visible
+     */
+    public boolean isCovered() {
+        if (fullyCovered) {
+            return true;
+        }
+        if (count == 0) {
+            return false;
+        }
+        
+        int width = u1 - u0;
+        int height = v1 - v0;
+        
+        // Strip boundaries: face edges plus every rectangle u edge
+        if (breaks.length < count * 2 + 2) {
+            breaks = new int[count * 2 + 2];
+        }
+        int breakCount = 0;
+        breaks[breakCount++] = 0;
+        breaks[breakCount++] = width;
+        for (int i = 0; i < count; i++) {
+            breaks[breakCount++] = rects[i * 4];
+            breaks[breakCount++] = rects[i * 4 + 2];
+        }
+        Arrays.sort(breaks, 0, breakCount);
+        
+        if (intervals.length < count) {
+            intervals = new long[count];
+        }
+        
+        for (int b = 0; b < breakCount - 1; b++) {
+            int stripStart = breaks[b];
+            int stripEnd = breaks[b + 1];
+            if (stripStart == stripEnd) {
+                continue;
+            }
+            
+            int intervalCount = 0;
+            for (int i = 0; i < count; i++) {
+                int offset = i * 4;
+                if (rects[offset] <= stripStart && rects[offset + 2] >= stripEnd) {
+                    intervals[intervalCount++] = ((long) rects[offset + 1] << 32) | rects[offset + 3];
+                }
+            }
+            if (!coversStrip(intervalCount, height)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean coversStrip(int intervalCount, int height) {
+        Arrays.sort(intervals, 0, intervalCount);
+        int reached = 0;
+        for (int i = 0; i < intervalCount && reached < height; i++) {
+            int start = (int) (intervals[i] >>> 32);
+            if (start > reached) {
+                return false;
+            }
+            reached = Math.max(reached, (int) intervals[i]);
+        }
+        return reached >= height;
+    }
+}
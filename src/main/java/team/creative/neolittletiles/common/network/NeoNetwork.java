@@ -0,0 +1,27 @@
+package team.creative.neolittletiles.common.network;
+
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * NeoNetwork - Custom payload registration
+ * 
+ * Registers all NeoLittleTiles payloads on the mod event bus:
+ * - NeoTilesDeltaPayload: incremental tile sync (server to client)
+ * - NeoTilesResyncPayload: snapshot request after a failed delta (client to server)
+ */
+public class NeoNetwork {
+    
+    // Bump when a payload layout changes
+    public static final String PROTOCOL_VERSION = "2";
+    
+    /**
+     * Register payload handlers
+     * @param event Payload registration event
+     */
+    public static void register(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(NeoTilesDeltaPayload.TYPE, NeoTilesDeltaPayload.STREAM_CODEC, NeoTilesDeltaPayload::handle);
+        registrar.playToServer(NeoTilesResyncPayload.TYPE, NeoTilesResyncPayload.STREAM_CODEC, NeoTilesResyncPayload::handle);
+    }
+}
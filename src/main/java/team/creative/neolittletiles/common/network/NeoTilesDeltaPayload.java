@@ -0,0 +1,68 @@
+package team.creative.neolittletiles.common.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import team.creative.neolittletiles.NeoLittleTiles;
+import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
+
+/**
+ * NeoTilesDeltaPayload - Incremental tile update for one block entity
+ * 
+ * Carries only the tiles added and removed between two revisions, encoded
+ * with NeoTileNbt. Clients that are not at a compatible revision (or fail to
+ * decode it) request a full snapshot with NeoTilesResyncPayload; the server
+ * also sends one on its own whenever the change log overflows.
+ * 
+ * @param pos Block entity position
+ * @param baseRevision Revision the changes are based on
+ * @param revision Revision after applying the changes
+ * @param added Tiles added since the base revision
+ * @param removed Tiles removed since the base revision
+ */
+public record NeoTilesDeltaPayload(BlockPos pos, long baseRevision, long revision, CompoundTag added, CompoundTag removed) implements CustomPacketPayload {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoTilesDeltaPayload.class);
+    
+    public static final Type<NeoTilesDeltaPayload> TYPE = new Type<>(ResourceLocation.fromNamespaceAndPath(NeoLittleTiles.MODID, "tiles_delta"));
+    
+    public static final StreamCodec<ByteBuf, NeoTilesDeltaPayload> STREAM_CODEC = StreamCodec.composite(
+        BlockPos.STREAM_CODEC, NeoTilesDeltaPayload::pos,
+        ByteBufCodecs.VAR_LONG, NeoTilesDeltaPayload::baseRevision,
+        ByteBufCodecs.VAR_LONG, NeoTilesDeltaPayload::revision,
+        ByteBufCodecs.COMPOUND_TAG, NeoTilesDeltaPayload::added,
+        ByteBufCodecs.COMPOUND_TAG, NeoTilesDeltaPayload::removed,
+        NeoTilesDeltaPayload::new
+    );
+    
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+    
+    /**
+     * Apply the payload on the client (runs on the main thread)
+     * @param payload Received payload
+     * @param context Payload context
+     */
+    public static void handle(NeoTilesDeltaPayload payload, IPayloadContext context) {
+        var level = context.player().level();
+        if (!level.isLoaded(payload.pos())) {
+            return;
+        }
+        
+        if (level.getBlockEntity(payload.pos()) instanceof NeoTilesBlockEntity blockEntity) {
+            if (!blockEntity.applyDelta(payload.baseRevision(), payload.revision(), payload.added(), payload.removed(), level.registryAccess())) {
+                LOGGER.debug("Could not apply tile delta for {} at base revision {}, requesting a snapshot", payload.pos(), payload.baseRevision());
+                blockEntity.requestResync();
+            }
+        }
+    }
+}
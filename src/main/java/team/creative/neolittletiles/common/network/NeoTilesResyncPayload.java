@@ -0,0 +1,61 @@
+package team.creative.neolittletiles.common.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import team.creative.neolittletiles.NeoLittleTiles;
+import team.creative.neolittletiles.common.block.NeoTilesBlockEntity;
+
+/**
+ * NeoTilesResyncPayload - Client request for a full tile snapshot
+ * 
+ * Sent when a NeoTilesDeltaPayload could not be applied, either because the
+ * client is behind the delta's base revision or because it failed to decode.
+ * The server answers with the block entity update packet to the requesting
+ * player only, and only for blocks in chunks that player is tracking.
+ * 
+ * @param pos Block entity position
+ */
+public record NeoTilesResyncPayload(BlockPos pos) implements CustomPacketPayload {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NeoTilesResyncPayload.class);
+    
+    public static final Type<NeoTilesResyncPayload> TYPE = new Type<>(ResourceLocation.fromNamespaceAndPath(NeoLittleTiles.MODID, "tiles_resync"));
+    
+    public static final StreamCodec<ByteBuf, NeoTilesResyncPayload> STREAM_CODEC = StreamCodec.composite(
+        BlockPos.STREAM_CODEC, NeoTilesResyncPayload::pos,
+        NeoTilesResyncPayload::new
+    );
+    
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+    
+    /**
+     * Answer the request on the server (runs on the main thread)
+     * @param payload Received payload
+     * @param context Payload context
+     */
+    public static void handle(NeoTilesResyncPayload payload, IPayloadContext context) {
+        if (!(context.player() instanceof ServerPlayer player) || !(player.level() instanceof ServerLevel level)) {
+            return;
+        }
+        if (!level.isLoaded(payload.pos()) || !level.getChunkSource().chunkMap.getPlayers(new ChunkPos(payload.pos()), false).contains(player)) {
+            return;
+        }
+        
+        if (level.getBlockEntity(payload.pos()) instanceof NeoTilesBlockEntity blockEntity) {
+            LOGGER.debug("Sending tile snapshot for {} to {}", payload.pos(), player.getName().getString());
+            player.connection.send(blockEntity.getUpdatePacket());
+        }
+    }
+}
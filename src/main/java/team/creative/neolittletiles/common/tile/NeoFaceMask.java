@@ -0,0 +1,160 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+
+/**
+ * NeoFaceMask - Per-side coverage bitmaps of a tile block
+ * 
+ * For each of the six block sides a bitmap records which parts of that side
+ * are covered by opaque tiles touching it:
+ * - Resolution is the grid size, capped at MAX_RESOLUTION cells per edge
+ * - A cell is only set when a single tile covers it completely, so the mask
+ *   is conservative and can never cull a visible face
+ * - Neighbors with a different grid are supported, queries are mapped to
+ *   this mask's resolution
+ * 
+ * Masks are immutable once built, owners rebuild them after tile changes.
+ */
+public class NeoFaceMask {
+    
+    /** Maximum number of cells per edge (64 x 64 bits = 64 longs per side) */
+    public static final int MAX_RESOLUTION = 64;
+    
+    private final int gridSize;
+    private final int resolution;
+    private final int cellSize;
+    private final long[][] sides = new long[6][];
+    private final boolean[] full = new boolean[6];
+    
+    private NeoFaceMask(int gridSize) {
+        this.gridSize = gridSize;
+        this.resolution = Math.min(gridSize, MAX_RESOLUTION);
+        this.cellSize = gridSize / resolution;
+        int words = (resolution * resolution + 63) >>> 6;
+        for (int i = 0; i < 6; i++) {
+            sides[i] = new long[words];
+        }
+    }
+    
+    /**
+     * Build the masks for all tiles of a collection
+     * @param tiles Tiles of the block
+     * @return New face mask
+     */
+    public static NeoFaceMask build(NeoTileCollection tiles) {
+        int gridSize = tiles.getGrid().getSize();
+        NeoFaceMask mask = new NeoFaceMask(gridSize);
+        NeoTileStore store = tiles.getStore();
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        
+        for (int slot = 0; slot < store.size(); slot++) {
+            if ((store.getColor(slot) >>> 24) != 0xFF) {
+                continue;
+            }
+            store.getBox(slot, box);
+            
+            for (int i = 0; i < 6; i++) {
+                NeoFace face = NeoFace.byOrdinal(i);
+                if (face.getPlane(box) == (face.positive ? gridSize : 0)) {
+                    mask.fill(face, box.getMin(face.uAxis), box.getMin(face.vAxis), box.getMax(face.uAxis), box.getMax(face.vAxis));
+                }
+            }
+        }
+        
+        for (int i = 0; i < 6; i++) {
+            mask.full[i] = mask.isCovered(NeoFace.byOrdinal(i), 0, 0, gridSize, gridSize, gridSize);
+        }
+        return mask;
+    }
+    
+    /**
+     * Mark all cells lying completely inside a rectangle
+     */
+    private void fill(NeoFace side, int u0, int v0, int u1, int v1) {
+        int cu0 = Math.max(0, ceilDiv(u0, cellSize));
+        int cv0 = Math.max(0, ceilDiv(v0, cellSize));
+        int cu1 = Math.min(resolution, Math.floorDiv(u1, cellSize));
+        int cv1 = Math.min(resolution, Math.floorDiv(v1, cellSize));
+        
+        long[] bits = sides[side.ordinal()];
+        for (int u = cu0; u < cu1; u++) {
+            for (int v = cv0; v < cv1; v++) {
+                int index = u * resolution + v;
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+    
+    /**
+     * Check if a rectangle on one side is covered
+     * @param side Block side
+     * @param u0 Min u coordinate in the caller's grid
+     * @param v0 Min v coordinate in the caller's grid
+     * @param u1 Max u coordinate in the caller's grid
+     * @param v1 Max v coordinate in the caller's grid
+     * @param otherGrid Grid size of the given coordinates
+     * @return true if every part of the rectangle is covered
+     */
+    public boolean isCovered(NeoFace side, int u0, int v0, int u1, int v1, int otherGrid) {
+        if (u0 < 0 || v0 < 0 || u1 > otherGrid || v1 > otherGrid) {
+            return false;
+        }
+        if (full[side.ordinal()]) {
+            return true;
+        }
+        
+        // Map to cells of this mask, rounding outwards
+        int cu0 = (int) (((long) u0 * resolution) / otherGrid);
+        int cv0 = (int) (((long) v0 * resolution) / otherGrid);
+        int cu1 = (int) ceilDiv((long) u1 * resolution, otherGrid);
+        int cv1 = (int) ceilDiv((long) v1 * resolution, otherGrid);
+        
+        long[] bits = sides[side.ordinal()];
+        for (int u = cu0; u < cu1; u++) {
+            for (int v = cv0; v < cv1; v++) {
+                int index = u * resolution + v;
+                if ((bits[index >>> 6] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+        }
+        return cu0 < cu1 && cv0 < cv1;
+    }
+    
+    /**
+     * Check if a whole side is covered
+     * @param side Block side
+     * @return true if the side is completely covered by opaque tiles
+     */
+    public boolean isFull(NeoFace side) {
+        return full[side.ordinal()];
+    }
+    
+    public int getGridSize() {
+        return gridSize;
+    }
+    
+    public int getResolution() {
+        return resolution;
+    }
+    
+    private static int ceilDiv(int value, int divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+    
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("NeoFaceMask[grid=").append(gridSize).append(", full=");
+        for (int i = 0; i < 6; i++) {
+            if (full[i]) {
+                builder.append(NeoFace.byOrdinal(i).name().charAt(0));
+            }
+        }
+        return builder.append("]").toString();
+    }
+}
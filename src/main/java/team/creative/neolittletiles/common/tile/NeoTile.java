@@ -10,7 +10,7 @@ import team.creative.neolittletiles.common.math.NeoBox;
  * Key improvements over LittleTile:
  * - Flattened hierarchy structure
  * - Direct box storage without indirection
- * - Simplified state management
+ * - Simplified state management (interned palette id instead of a state reference)
  * - Efficient serialization format
  * 
  * Based on analysis from LOCAL/analysis.txt lines 16-22
@@ -18,26 +18,44 @@ import team.creative.neolittletiles.common.math.NeoBox;
 public class NeoTile {
     
     private final NeoBox box;
-    private final Object state; // Placeholder for BlockState
+    private final int stateId; // Global palette id of the state (placeholder for BlockState)
     private int color = 0xFFFFFFFF; // ARGB format, default white
     
     public NeoTile(NeoBox box, Object state) {
-        this.box = new NeoBox(box);
-        this.state = state;
+        this(box, NeoTilePalette.GLOBAL.intern(state), 0xFFFFFFFF);
     }
     
     public NeoTile(NeoBox box, Object state, int color) {
+        this(box, NeoTilePalette.GLOBAL.intern(state), color);
+    }
+    
+    private NeoTile(NeoBox box, int stateId, int color) {
         this.box = new NeoBox(box);
-        this.state = state;
+        this.stateId = stateId;
         this.color = color;
     }
     
+    /**
+     * Create a tile from an already interned state
+     * @param box Tile box (copied)
+     * @param stateId Id in NeoTilePalette.GLOBAL
+     * @param color ARGB color
+     * @return New tile
+     */
+    public static NeoTile fromPalette(NeoBox box, int stateId, int color) {
+        return new NeoTile(box, stateId, color);
+    }
+    
     public NeoBox getBox() {
         return box;
     }
     
     public Object getState() {
-        return state;
+        return NeoTilePalette.GLOBAL.get(stateId);
+    }
+    
+    public int getStateId() {
+        return stateId;
     }
     
     public int getColor() {
@@ -76,16 +94,16 @@ public class NeoTile {
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof NeoTile other)) return false;
-        return box.equals(other.box) && state.equals(other.state) && color == other.color;
+        return stateId == other.stateId && color == other.color && box.equals(other.box);
     }
     
     @Override
     public int hashCode() {
-        return box.hashCode() ^ state.hashCode() ^ color;
+        return box.hashCode() ^ (stateId * 31) ^ color;
     }
     
     @Override
     public String toString() {
-        return String.format("NeoTile[%s, %s, color=0x%08X]", box, state, color);
+        return String.format("NeoTile[%s, %s, color=0x%08X]", box, getState(), color);
     }
 }
\ No newline at end of file
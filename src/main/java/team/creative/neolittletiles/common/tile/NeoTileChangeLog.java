@@ -0,0 +1,170 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * NeoTileChangeLog - Net tile changes since the last client sync
+ * 
+ * Records every tile added to or removed from a NeoTileCollection:
+ * - Changes are keyed by value (box, state, color), so an add followed by a
+ *   remove of the same tile cancels out and never reaches the network
+ * - A revision counter increases with every change, the base revision is the
+ *   revision the clients were last synced to
+ * - Once too many changes pile up (or the tiles were replaced wholesale) the
+ *   log overflows and the owner has to send a full snapshot instead
+ */
+public class NeoTileChangeLog {
+    
+    /** Default number of pending changes before falling back to a full snapshot */
+    public static final int DEFAULT_CAPACITY = 1024;
+    
+    private final int capacity;
+    private final Map<NeoTile, Integer> changes = new LinkedHashMap<>();
+    private boolean overflowed;
+    private long baseRevision;
+    private long revision;
+    
+    public NeoTileChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public NeoTileChangeLog(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Record an added tile
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     */
+    public void recordAdded(NeoBox box, int stateId, int color) {
+        record(box, stateId, color, 1);
+    }
+    
+    /**
+     * Record a removed tile
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     */
+    public void recordRemoved(NeoBox box, int stateId, int color) {
+        record(box, stateId, color, -1);
+    }
+    
+    private void record(NeoBox box, int stateId, int color, int delta) {
+        revision++;
+        if (overflowed) {
+            return;
+        }
+        
+        changes.merge(NeoTile.fromPalette(box, stateId, color), delta, (a, b) -> a + b == 0 ? null : a + b);
+        if (changes.size() > capacity) {
+            markOverflowed();
+        }
+    }
+    
+    /**
+     * Drop all recorded changes and require a full snapshot on the next sync
+     */
+    public void markOverflowed() {
+        revision++;
+        overflowed = true;
+        changes.clear();
+    }
+    
+    /**
+     * Check if the pending changes can no longer be sent as a delta
+     * @return true if a full snapshot is required
+     */
+    public boolean isOverflowed() {
+        return overflowed;
+    }
+    
+    /**
+     * Check if anything changed since the last sync
+     * @return true if there are no pending changes
+     */
+    public boolean isEmpty() {
+        return !overflowed && changes.isEmpty();
+    }
+    
+    /**
+     * Get the number of distinct pending changes
+     * @return Change count
+     */
+    public int size() {
+        return changes.size();
+    }
+    
+    /**
+     * Collect the tiles added since the last sync
+     * @return New store holding the added tiles
+     */
+    public NeoTileStore getAdded() {
+        return collect(true);
+    }
+    
+    /**
+     * Collect the tiles removed since the last sync
+     * @return New store holding the removed tiles
+     */
+    public NeoTileStore getRemoved() {
+        return collect(false);
+    }
+    
+    private NeoTileStore collect(boolean added) {
+        NeoTileStore store = new NeoTileStore();
+        for (Map.Entry<NeoTile, Integer> entry : changes.entrySet()) {
+            int count = added ? entry.getValue() : -entry.getValue();
+            for (int i = 0; i < count; i++) {
+                NeoTile tile = entry.getKey();
+                store.add(tile.getBox(), tile.getStateId(), tile.getColor());
+            }
+        }
+        return store;
+    }
+    
+    /**
+     * Get the revision clients were last synced to
+     * @return Base revision of the pending changes
+     */
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    /**
+     * Get the revision including all pending changes
+     * @return Current revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Set the current revision without pending changes, e.g. after loading a snapshot
+     * @param revision Revision to continue from
+     */
+    public void reset(long revision) {
+        this.revision = revision;
+        markSynced();
+    }
+    
+    /**
+     * Clear pending changes after they were sent
+     */
+    public void markSynced() {
+        baseRevision = revision;
+        overflowed = false;
+        changes.clear();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoTileChangeLog[changes=%d, base=%d, revision=%d, overflowed=%s]",
+                           changes.size(), baseRevision, revision, overflowed);
+    }
+}
@@ -0,0 +1,283 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+
+import java.util.Arrays;
+
+/**
+ * NeoTileCodec - Compact binary encoding of a tile store
+ * 
+ * Produces a handful of flat arrays instead of one record per tile:
+ * - Palette with only the states that are actually used
+ * - Run table with the number of tiles per palette entry (tiles are grouped by state)
+ * - Box array with delta-encoded positions and packed sizes
+ * - Run-length encoded color table of (color, count) pairs
+ * 
+ * Box formats, picked per save depending on grid size and bounds:
+ * - PACKED: one int per tile (position delta and the three sizes), grids up to 32
+ * - WIDE: two ints per tile (position delta, packed sizes), grids up to 1024
+ * - RAW: six absolute ints per tile, for larger grids or tiles outside the grid
+ * 
+ * Decoding rejects empty boxes and boxes outside the grid, so corrupt data
+ * never reaches the tile store.
+ * 
+ * Positions are linearized as (minY * size + minZ) * size + minX and sorted within
+ * each state run, so deltas stay small and compress well in region files.
+ * Kept free of Minecraft classes, NBT glue lives in NeoTileNbt.
+ */
+public final class NeoTileCodec {
+    
+    /** Current format version, bump when the layout changes */
+    public static final byte VERSION = 1;
+    
+    public static final byte FORMAT_PACKED = 0;
+    public static final byte FORMAT_WIDE = 1;
+    public static final byte FORMAT_RAW = 2;
+    
+    private static final int PACKED_MAX_BITS = 5;
+    private static final int WIDE_MAX_BITS = 10;
+    
+    private NeoTileCodec() {
+    }
+    
+    /**
+     * Encode all tiles of a store
+     * @param store Tiles to encode
+     * @param gridSize Grid size the tiles are stored in
+     * @return Encoded arrays
+     */
+    public static Encoded encode(NeoTileStore store, int gridSize) {
+        int size = store.size();
+        int paletteSize = store.getPaletteSize();
+        
+        // Count tiles per local palette entry and check if positions fit the grid
+        int[] counts = new int[paletteSize];
+        boolean inGrid = true;
+        for (int slot = 0; slot < size; slot++) {
+            counts[store.getStateIndex(slot)]++;
+            inGrid &= store.getMinX(slot) >= 0 && store.getMinY(slot) >= 0 && store.getMinZ(slot) >= 0 &&
+                      store.getMaxX(slot) <= gridSize && store.getMaxY(slot) <= gridSize && store.getMaxZ(slot) <= gridSize;
+        }
+        
+        int bits = bitsFor(gridSize);
+        byte format = !inGrid || bits > WIDE_MAX_BITS ? FORMAT_RAW : bits <= PACKED_MAX_BITS ? FORMAT_PACKED : FORMAT_WIDE;
+        
+        // Only used states end up in the palette
+        int used = 0;
+        int[] offsets = new int[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            if (counts[i] > 0) {
+                used++;
+            }
+        }
+        Object[] states = new Object[used];
+        int[] runs = new int[used];
+        int entry = 0;
+        int offset = 0;
+        for (int i = 0; i < paletteSize; i++) {
+            if (counts[i] > 0) {
+                states[entry] = NeoTilePalette.GLOBAL.get(store.getPaletteStateId(i));
+                runs[entry++] = counts[i];
+                offsets[i] = offset;
+                offset += counts[i];
+            }
+        }
+        
+        // Bucket slots by state, then sort each bucket by linear position
+        long[] order = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            int key = format == FORMAT_RAW ? 0 : linearKey(store, slot, gridSize);
+            order[offsets[store.getStateIndex(slot)]++] = ((long) key << 31) | slot;
+        }
+        if (format != FORMAT_RAW) {
+            int start = 0;
+            for (int run : runs) {
+                Arrays.sort(order, start, start + run);
+                start += run;
+            }
+        }
+        
+        int[] boxes = new int[size * intsPerTile(format)];
+        int[] colors = new int[8];
+        int colorLength = 0;
+        int index = 0;
+        int runEnd = 0;
+        int run = 0;
+        int previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == runEnd) {
+                runEnd += runs[run++];
+                previous = 0;
+            }
+            
+            int slot = (int) (order[i] & 0x7FFFFFFF);
+            int key = (int) (order[i] >>> 31);
+            int sizeX = store.getMaxX(slot) - store.getMinX(slot) - 1;
+            int sizeY = store.getMaxY(slot) - store.getMinY(slot) - 1;
+            int sizeZ = store.getMaxZ(slot) - store.getMinZ(slot) - 1;
+            
+            switch (format) {
+                case FORMAT_PACKED -> boxes[index++] = ((key - previous) << (3 * bits)) | (sizeX << (2 * bits)) | (sizeY << bits) | sizeZ;
+                case FORMAT_WIDE -> {
+                    boxes[index++] = key - previous;
+                    boxes[index++] = (sizeX << (2 * bits)) | (sizeY << bits) | sizeZ;
+                }
+                default -> {
+                    boxes[index++] = store.getMinX(slot);
+                    boxes[index++] = store.getMinY(slot);
+                    boxes[index++] = store.getMinZ(slot);
+                    boxes[index++] = store.getMaxX(slot);
+                    boxes[index++] = store.getMaxY(slot);
+                    boxes[index++] = store.getMaxZ(slot);
+                }
+            }
+            previous = key;
+            
+            int color = store.getColor(slot);
+            if (colorLength > 0 && colors[colorLength - 2] == color) {
+                colors[colorLength - 1]++;
+            } else {
+                if (colorLength == colors.length) {
+                    colors = Arrays.copyOf(colors, colorLength << 1);
+                }
+                colors[colorLength++] = color;
+                colors[colorLength++] = 1;
+            }
+        }
+        
+        return new Encoded(VERSION, format, states, runs, boxes, Arrays.copyOf(colors, colorLength));
+    }
+    
+    /**
+     * Decode tiles into a collection (tiles are added as stored, without merging)
+     * @param data Encoded arrays
+     * @param gridSize Grid size the tiles were encoded in
+     * @param target Collection receiving the tiles
+     * @return Number of decoded tiles
+     * @throws IllegalArgumentException if the version is unknown or the data is malformed
+     */
+    public static int decode(Encoded data, int gridSize, NeoTileCollection target) {
+        if (data.version != VERSION) {
+            throw new IllegalArgumentException("Unsupported tile format version " + data.version);
+        }
+        if (data.states.length != data.runs.length) {
+            throw new IllegalArgumentException("Palette and run table length differ");
+        }
+        
+        long tileCount = 0;
+        for (int run : data.runs) {
+            if (run < 0) {
+                throw new IllegalArgumentException("Negative run length " + run);
+            }
+            tileCount += run;
+        }
+        int perTile = intsPerTile(data.format);
+        if (data.boxes.length != tileCount * perTile) {
+            throw new IllegalArgumentException("Expected " + tileCount * perTile + " box ints but got " + data.boxes.length);
+        }
+        
+        int bits = bitsFor(gridSize);
+        int mask = (1 << bits) - 1;
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        int index = 0;
+        int colorIndex = 0;
+        int colorLeft = 0;
+        int color = 0;
+        
+        for (int run = 0; run < data.runs.length; run++) {
+            int stateId = NeoTilePalette.GLOBAL.intern(data.states[run]);
+            int key = 0;
+            
+            for (int i = 0; i < data.runs[run]; i++) {
+                if (data.format == FORMAT_RAW) {
+                    box.minX = data.boxes[index++];
+                    box.minY = data.boxes[index++];
+                    box.minZ = data.boxes[index++];
+                    box.maxX = data.boxes[index++];
+                    box.maxY = data.boxes[index++];
+                    box.maxZ = data.boxes[index++];
+                } else {
+                    int sizes;
+                    if (data.format == FORMAT_PACKED) {
+                        int value = data.boxes[index++];
+                        key += value >>> (3 * bits);
+                        sizes = value;
+                    } else {
+                        key += data.boxes[index++];
+                        sizes = data.boxes[index++];
+                    }
+                    
+                    box.minX = key % gridSize;
+                    box.minZ = (key / gridSize) % gridSize;
+                    box.minY = key / gridSize / gridSize;
+                    box.maxX = box.minX + ((sizes >>> (2 * bits)) & mask) + 1;
+                    box.maxY = box.minY + ((sizes >>> bits) & mask) + 1;
+                    box.maxZ = box.minZ + (sizes & mask) + 1;
+                }
+                
+                if (colorLeft == 0) {
+                    if (colorIndex + 1 >= data.colors.length) {
+                        throw new IllegalArgumentException("Color table is shorter than the tile list");
+                    }
+                    color = data.colors[colorIndex++];
+                    colorLeft = data.colors[colorIndex++];
+                    if (colorLeft <= 0) {
+                        throw new IllegalArgumentException("Invalid color run length " + colorLeft);
+                    }
+                }
+                colorLeft--;
+                
+                if (!box.isValid() || !box.isInGrid(gridSize)) {
+                    throw new IllegalArgumentException("Tile box " + box + " is empty or outside of grid " + gridSize);
+                }
+                target.add(box, stateId, color);
+            }
+        }
+        return (int) tileCount;
+    }
+    
+    private static int linearKey(NeoTileStore store, int slot, int gridSize) {
+        return (store.getMinY(slot) * gridSize + store.getMinZ(slot)) * gridSize + store.getMinX(slot);
+    }
+    
+    private static int bitsFor(int gridSize) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(1, gridSize - 1));
+    }
+    
+    private static int intsPerTile(byte format) {
+        return switch (format) {
+            case FORMAT_PACKED -> 1;
+            case FORMAT_WIDE -> 2;
+            case FORMAT_RAW -> 6;
+            default -> throw new IllegalArgumentException("Unknown box format " + format);
+        };
+    }
+    
+    /**
+     * Flat encoded form of a tile store, ready to be written as NBT arrays
+     */
+    public static final class Encoded {
+        
+        public final byte version;
+        public final byte format;
+        public final Object[] states;
+        public final int[] runs;
+        public final int[] boxes;
+        public final int[] colors;
+        
+        public Encoded(byte version, byte format, Object[] states, int[] runs, int[] boxes, int[] colors) {
+            this.version = version;
+            this.format = format;
+            this.states = states;
+            this.runs = runs;
+            this.boxes = boxes;
+            this.colors = colors;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("NeoTileCodec.Encoded[version=%d, format=%d, states=%d, ints=%d]",
+                               version, format, states.length, boxes.length + colors.length + runs.length);
+        }
+    }
+}
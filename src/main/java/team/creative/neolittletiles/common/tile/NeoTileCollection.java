@@ -0,0 +1,565 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoBoxOctree;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.math.NeoFaceCoverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NeoTileCollection - Packed tiles with a spatial index and compaction
+ * 
+ * Combines the storage pieces used by a tile block:
+ * - NeoTileStore for packed tile data
+ * - NeoBoxOctree over tile slots for logarithmic queries
+ * - Incremental merging of adjacent same-state, same-color boxes on insert
+ * - Full greedy per-axis compaction on demand
+ * - CSG cutting that keeps the parts of tiles outside a removed area
+ * - Optional change log of every added and removed tile for delta syncing
+ * - Exact per-face occlusion tests against neighboring opaque tiles
+ * 
+ * Kept free of Minecraft classes so it can be tested standalone.
+ */
+public class NeoTileCollection {
+    
+    private final NeoTileStore store;
+    private final NeoBox scratch = new NeoBox(0, 0, 0, 0, 0, 0);
+    private final NeoBox probe = new NeoBox(0, 0, 0, 0, 0, 0);
+    private final int[] subtractBuffer = new int[NeoBox.SUBTRACT_BUFFER_SIZE];
+    private final NeoBox faceBox = new NeoBox(0, 0, 0, 0, 0, 0);
+    private final NeoFaceCoverage coverage = new NeoFaceCoverage();
+    private NeoGrid grid;
+    private NeoBoxOctree index;
+    private NeoTileChangeLog changeLog;
+    
+    // Reusable query result buffer
+    private int[] slotBuffer = new int[16];
+    private int slotCount;
+    
+    public NeoTileCollection(NeoGrid grid) {
+        this(grid, new NeoTileStore());
+    }
+    
+    /**
+     * Create a collection around an existing store, e.g. a snapshot taken with
+     * NeoTileStore.copy() that is indexed on another thread
+     * @param grid Grid of the tiles
+     * @param store Store to take over (not copied)
+     */
+    public NeoTileCollection(NeoGrid grid, NeoTileStore store) {
+        this.grid = grid;
+        this.store = store;
+        rebuildIndex();
+    }
+    
+    public NeoGrid getGrid() {
+        return grid;
+    }
+    
+    /**
+     * Change the grid and rebuild the index (tile coordinates are kept as is)
+     * @param grid New grid
+     */
+    public void setGrid(NeoGrid grid) {
+        this.grid = grid;
+        rebuildIndex();
+    }
+    
+    /**
+     * Attach a change log that records all following tile changes
+     * @param changeLog Log to record into, or null to stop recording
+     */
+    public void setChangeLog(NeoTileChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+    
+    public NeoTileChangeLog getChangeLog() {
+        return changeLog;
+    }
+    
+    /**
+     * Get the packed storage for read access (mutate through this collection only)
+     * @return Tile store
+     */
+    public NeoTileStore getStore() {
+        return store;
+    }
+    
+    public int size() {
+        return store.size();
+    }
+    
+    public boolean isEmpty() {
+        return store.isEmpty();
+    }
+    
+    public int getTotalVolume() {
+        return store.getTotalVolume();
+    }
+    
+    /**
+     * Compute the union of all tile boxes
+     * @return New bounding box, null if there are no tiles
+     */
+    public NeoBox getBounds() {
+        if (store.isEmpty()) {
+            return null;
+        }
+        NeoBox bounds = store.getBox(0, new NeoBox(0, 0, 0, 0, 0, 0));
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        for (int slot = 1; slot < store.size(); slot++) {
+            bounds.union(store.getBox(slot, box));
+        }
+        return bounds;
+    }
+    
+    /**
+     * Materialize all tiles
+     * @return New list of tile views
+     */
+    public List<NeoTile> getTiles() {
+        return store.toList();
+    }
+    
+    /**
+     * Materialize all tiles intersecting an area
+     * @param area Query area
+     * @return New list of tile views
+     */
+    public List<NeoTile> getTiles(NeoBox area) {
+        int count = collect(area);
+        List<NeoTile> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(store.get(slotBuffer[i]));
+        }
+        return result;
+    }
+    
+    /**
+     * Check if any tile intersects the area
+     * @param area Query area
+     * @return true if at least one tile intersects
+     */
+    public boolean intersectsAny(NeoBox area) {
+        return collect(area) > 0;
+    }
+    
+    /**
+     * Get the slots of all tiles intersecting an area
+     * @param area Query area
+     * @return Ascending slot array
+     */
+    public int[] querySlots(NeoBox area) {
+        int[] slots = Arrays.copyOf(slotBuffer, collect(area));
+        Arrays.sort(slots);
+        return slots;
+    }
+    
+    /**
+     * Collect intersecting slots into the shared buffer
+     * @param area Query area
+     * @return Number of slots collected
+     */
+    private int collect(NeoBox area) {
+        slotCount = 0;
+        index.query(area, slot -> {
+            if (store.intersects(slot, area)) {
+                if (slotCount == slotBuffer.length) {
+                    slotBuffer = Arrays.copyOf(slotBuffer, slotCount << 1);
+                }
+                slotBuffer[slotCount++] = slot;
+            }
+        });
+        return slotCount;
+    }
+    
+    /**
+     * Get the faces of a tile that are not hidden by neighboring tiles
+     * @param slot Tile slot
+     * @return Mask of NeoFace flags
+     */
+    public int getVisibleFaces(int slot) {
+        int mask = 0;
+        for (int i = 0; i < 6; i++) {
+            NeoFace face = NeoFace.byOrdinal(i);
+            if (!isFaceHidden(slot, face)) {
+                mask |= face.flag;
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * Check if a face of a tile is completely covered by opaque tiles touching it
+     * @param slot Tile slot
+     * @param face Face to test
+     * @return true if no part of the face is visible
+     */
+    public boolean isFaceHidden(int slot, NeoFace face) {
+        NeoBox box = store.getBox(slot, faceBox);
+        int plane = face.getPlane(box);
+        coverage.reset(box.getMin(face.uAxis), box.getMin(face.vAxis), box.getMax(face.uAxis), box.getMax(face.vAxis));
+        
+        // One grid unit thick slab directly in front of the face
+        probe.minX = box.minX;
+        probe.minY = box.minY;
+        probe.minZ = box.minZ;
+        probe.maxX = box.maxX;
+        probe.maxY = box.maxY;
+        probe.maxZ = box.maxZ;
+        probe.setRange(face.axis, face.positive ? plane : plane - 1, face.positive ? plane + 1 : plane);
+        
+        int count = collect(probe);
+        for (int i = 0; i < count; i++) {
+            int other = slotBuffer[i];
+            if (other == slot || !isOpaque(store.getColor(other))) {
+                continue;
+            }
+            store.getBox(other, scratch);
+            coverage.add(scratch.getMin(face.uAxis), scratch.getMin(face.vAxis), scratch.getMax(face.uAxis), scratch.getMax(face.vAxis));
+        }
+        return coverage.isCovered();
+    }
+    
+    private static boolean isOpaque(int color) {
+        return (color >>> 24) == 0xFF;
+    }
+    
+    /**
+     * Insert a tile without merging
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @return Slot of the new tile
+     */
+    public int add(NeoBox box, int stateId, int color) {
+        int slot = store.add(box, stateId, color);
+        index.insert(slot, box);
+        if (changeLog != null) {
+            changeLog.recordAdded(box, stateId, color);
+        }
+        return slot;
+    }
+    
+    /**
+     * Insert a tile, merging it with adjacent tiles of the same state and color
+     * @param tile Tile to insert
+     * @return Slot holding the (possibly merged) tile
+     */
+    public int addMerged(NeoTile tile) {
+        return addMerged(tile.getBox(), tile.getStateId(), tile.getColor());
+    }
+    
+    /**
+     * Insert a tile, merging it with adjacent tiles of the same state and color
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @return Slot holding the (possibly merged) tile
+     */
+    public int addMerged(NeoBox box, int stateId, int color) {
+        // Already covered by an identical tile: nothing to add
+        int count = collect(box);
+        for (int i = 0; i < count; i++) {
+            int slot = slotBuffer[i];
+            if (matches(slot, stateId, color) && store.getBox(slot, scratch).contains(box)) {
+                return slot;
+            }
+        }
+        
+        NeoBox merged = new NeoBox(box);
+        int neighbor;
+        while ((neighbor = findMergeable(merged, stateId, color)) >= 0) {
+            merged.union(store.getBox(neighbor, scratch));
+            removeQuietly(neighbor);
+        }
+        return add(merged, stateId, color);
+    }
+    
+    /**
+     * Insert only the parts of a tile that are not covered by existing tiles
+     * 
+     * Existing tiles win: every intersecting tile is subtracted from the new
+     * box, the remaining non-overlapping parts are inserted with addMerged().
+     * Keeps the collection free of overlaps, which merging and compaction rely on.
+     * 
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @return Inserted volume, 0 if the box was completely covered
+     */
+    public int addUncovered(NeoBox box, int stateId, int color) {
+        int[] slots = querySlots(box);
+        if (slots.length == 0) {
+            addMerged(box, stateId, color);
+            return box.getVolume();
+        }
+        
+        List<NeoBox> parts = new ArrayList<>();
+        parts.add(new NeoBox(box));
+        for (int slot : slots) {
+            store.getBox(slot, scratch);
+            for (int i = parts.size() - 1; i >= 0; i--) {
+                NeoBox part = parts.get(i);
+                if (!part.intersects(scratch)) {
+                    continue;
+                }
+                parts.remove(i);
+                int count = part.subtract(scratch, subtractBuffer);
+                for (int p = 0; p < count; p++) {
+                    int offset = p * 6;
+                    parts.add(new NeoBox(subtractBuffer[offset], subtractBuffer[offset + 1], subtractBuffer[offset + 2],
+                        subtractBuffer[offset + 3], subtractBuffer[offset + 4], subtractBuffer[offset + 5]));
+                }
+            }
+        }
+        
+        int volume = 0;
+        for (NeoBox part : parts) {
+            addMerged(part, stateId, color);
+            volume += part.getVolume();
+        }
+        return volume;
+    }
+    
+    /**
+     * Find a tile that can be merged with the given box
+     * @return Slot of a mergeable tile or -1
+     */
+    private int findMergeable(NeoBox box, int stateId, int color) {
+        probe.minX = box.minX - 1;
+        probe.minY = box.minY - 1;
+        probe.minZ = box.minZ - 1;
+        probe.maxX = box.maxX + 1;
+        probe.maxY = box.maxY + 1;
+        probe.maxZ = box.maxZ + 1;
+        
+        int count = collect(probe);
+        for (int i = 0; i < count; i++) {
+            int slot = slotBuffer[i];
+            if (matches(slot, stateId, color) && store.getBox(slot, scratch).isMergeable(box)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean matches(int slot, int stateId, int color) {
+        return store.getStateId(slot) == stateId && store.getColor(slot) == color;
+    }
+    
+    /**
+     * Merge all adjacent same-state, same-color tiles, greedily along X, then Y, then Z
+     * @return Number of merges performed
+     */
+    public int compact() {
+        int merges = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int axis = 0; axis < 3; axis++) {
+                for (int slot = 0; slot < store.size(); slot++) {
+                    int current = slot;
+                    while ((current = mergeAlong(current, axis)) >= 0) {
+                        merges++;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return merges;
+    }
+    
+    /**
+     * Merge a tile with the matching tile directly above its max face on one axis
+     * @param slot Tile slot
+     * @param axis 0 = X, 1 = Y, 2 = Z
+     * @return New slot of the merged tile, or -1 if nothing was merged
+     */
+    private int mergeAlong(int slot, int axis) {
+        NeoBox box = store.getBox(slot, new NeoBox(0, 0, 0, 0, 0, 0));
+        probe.minX = axis == 0 ? box.maxX : box.minX;
+        probe.minY = axis == 1 ? box.maxY : box.minY;
+        probe.minZ = axis == 2 ? box.maxZ : box.minZ;
+        probe.maxX = axis == 0 ? box.maxX + 1 : box.maxX;
+        probe.maxY = axis == 1 ? box.maxY + 1 : box.maxY;
+        probe.maxZ = axis == 2 ? box.maxZ + 1 : box.maxZ;
+        
+        int stateId = store.getStateId(slot);
+        int color = store.getColor(slot);
+        int count = collect(probe);
+        for (int i = 0; i < count; i++) {
+            int other = slotBuffer[i];
+            if (other == slot || !matches(other, stateId, color)) {
+                continue;
+            }
+            
+            store.getBox(other, scratch);
+            if (!scratch.isMergeable(box)) {
+                continue;
+            }
+            
+            NeoBox merged = new NeoBox(box);
+            merged.union(scratch);
+            
+            int moved = removeQuietly(other);
+            if (moved == slot) {
+                slot = other;
+            }
+            
+            index.remove(slot, box);
+            store.setBox(slot, merged);
+            index.insert(slot, merged);
+            if (changeLog != null) {
+                changeLog.recordRemoved(box, stateId, color);
+                changeLog.recordAdded(merged, stateId, color);
+            }
+            return slot;
+        }
+        return -1;
+    }
+    
+    /**
+     * Remove a tile and return its data
+     * @param slot Tile slot
+     * @return The removed tile
+     */
+    public NeoTile removeSlot(int slot) {
+        NeoTile tile = store.get(slot);
+        removeQuietly(slot);
+        return tile;
+    }
+    
+    /**
+     * Remove a tile by moving the last tile into its slot
+     * @param slot Tile slot
+     * @return Former slot of the tile now occupying the removed slot, or -1 if none moved
+     */
+    private int removeQuietly(int slot) {
+        index.remove(slot, store.getBox(slot, scratch));
+        if (changeLog != null) {
+            changeLog.recordRemoved(scratch, store.getStateId(slot), store.getColor(slot));
+        }
+        
+        int moved = store.remove(slot);
+        if (moved >= 0) {
+            index.replace(moved, slot, store.getBox(slot, scratch));
+        }
+        return moved;
+    }
+    
+    /**
+     * Find a tile with exactly the given values
+     * @param box Tile box
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @return Slot of the tile, or -1 if there is none
+     */
+    public int findExact(NeoBox box, int stateId, int color) {
+        int count = collect(box);
+        for (int i = 0; i < count; i++) {
+            int slot = slotBuffer[i];
+            if (matches(slot, stateId, color) && store.getBox(slot, scratch).equals(box)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Remove one tile with exactly the given values, e.g. when applying a synced removal
+     * @param box Tile box
+     * @param stateId Global palette id
+     * @param color ARGB color
+     * @return true if a matching tile was found
+     */
+    public boolean removeExact(NeoBox box, int stateId, int color) {
+        int slot = findExact(box, stateId, color);
+        if (slot < 0) {
+            return false;
+        }
+        removeQuietly(slot);
+        return true;
+    }
+    
+    /**
+     * Remove every tile intersecting the area
+     * @param area Area to clear
+     * @return Removed tiles
+     */
+    public List<NeoTile> removeIntersecting(NeoBox area) {
+        int[] slots = querySlots(area);
+        List<NeoTile> removed = new ArrayList<>(slots.length);
+        
+        // Highest slot first, so swapping the last tile into a hole never moves a pending slot
+        for (int i = slots.length - 1; i >= 0; i--) {
+            removed.add(removeSlot(slots[i]));
+        }
+        return removed;
+    }
+    
+    /**
+     * Cut an area out of all tiles, keeping the parts outside of it
+     * @param area Area to remove
+     * @return The removed parts, one tile per cut tile (clipped to the area)
+     */
+    public List<NeoTile> cut(NeoBox area) {
+        int[] slots = querySlots(area);
+        List<NeoTile> removed = new ArrayList<>(slots.length);
+        NeoBox part = new NeoBox(0, 0, 0, 0, 0, 0);
+        
+        // Highest slot first: remainders are appended and removal only moves slots >= the current one
+        for (int i = slots.length - 1; i >= 0; i--) {
+            int slot = slots[i];
+            NeoBox box = store.getBox(slot, new NeoBox(0, 0, 0, 0, 0, 0));
+            int stateId = store.getStateId(slot);
+            int color = store.getColor(slot);
+            
+            removeQuietly(slot);
+            removed.add(NeoTile.fromPalette(box.intersection(area), stateId, color));
+            
+            int parts = box.subtract(area, subtractBuffer);
+            for (int p = 0; p < parts; p++) {
+                int offset = p * 6;
+                part.minX = subtractBuffer[offset];
+                part.minY = subtractBuffer[offset + 1];
+                part.minZ = subtractBuffer[offset + 2];
+                part.maxX = subtractBuffer[offset + 3];
+                part.maxY = subtractBuffer[offset + 4];
+                part.maxZ = subtractBuffer[offset + 5];
+                add(part, stateId, color);
+            }
+        }
+        return removed;
+    }
+    
+    /**
+     * Remove all tiles
+     */
+    public void clear() {
+        store.clear();
+        index.clear();
+        if (changeLog != null) {
+            changeLog.markOverflowed();
+        }
+    }
+    
+    /**
+     * Rebuild the spatial index, e.g. after the grid changed
+     */
+    private void rebuildIndex() {
+        index = new NeoBoxOctree(grid.getSize());
+        for (int i = 0; i < store.size(); i++) {
+            index.insert(i, store.getBox(i, scratch));
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoTileCollection[tiles=%d, grid=%s]", store.size(), grid);
+    }
+}
@@ -0,0 +1,88 @@
+package team.creative.neolittletiles.common.tile;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NeoTilePalette - Global interning palette for tile states
+ * 
+ * Every distinct tile state is stored once and identified by a small int id:
+ * - Tiles compare and hash by id instead of calling state.equals
+ * - Block entities keep a local palette of global ids (see NeoTileStore)
+ * - Lookups are lock-free, interning new states is synchronized
+ * 
+ * Ids are stable for the lifetime of the game instance only; persistent
+ * formats must write the states themselves, not the ids.
+ */
+public final class NeoTilePalette {
+    
+    /** Id used for a missing (null) state */
+    public static final int NO_STATE = -1;
+    
+    public static final NeoTilePalette GLOBAL = new NeoTilePalette();
+    
+    private final Map<Object, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Object[] states = new Object[16];
+    private int size;
+    
+    private NeoTilePalette() {
+    }
+    
+    /**
+     * Get the id of a state, interning it if it is new
+     * @param state Tile state
+     * @return Palette id, or NO_STATE for null
+     */
+    public int intern(Object state) {
+        if (state == null) {
+            return NO_STATE;
+        }
+        
+        Integer id = ids.get(state);
+        if (id != null) {
+            return id;
+        }
+        return internSlow(state);
+    }
+    
+    private synchronized int internSlow(Object state) {
+        Integer id = ids.get(state);
+        if (id != null) {
+            return id;
+        }
+        
+        Object[] current = states;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size << 1);
+        }
+        current[size] = state;
+        // Volatile write publishes the new entry before the id escapes
+        states = current;
+        ids.put(state, size);
+        return size++;
+    }
+    
+    /**
+     * Resolve a palette id
+     * @param id Palette id
+     * @return The interned state, or null for NO_STATE
+     */
+    public Object get(int id) {
+        Object[] current = states;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+    
+    /**
+     * Get the number of interned states
+     * @return Palette size
+     */
+    public synchronized int size() {
+        return size;
+    }
+    
+    @Override
+    public String toString() {
+        return "NeoTilePalette[size=" + size() + "]";
+    }
+}
@@ -0,0 +1,95 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+
+import java.util.function.Function;
+
+/**
+ * NeoTileSnapshot - Immutable copy of a static tile block for the section model
+ * 
+ * Taken on the main thread when the model data refreshes, which only costs a
+ * copy of the packed tile arrays. The render side bakes it on first access
+ * from whichever section compile thread asks for it, so chunk loads and tile
+ * edits no longer mesh on the main thread:
+ * - The tile store is owned by the snapshot and never modified
+ * - Neighbor face masks are immutable, the array is a private copy
+ * - The baked result is built once and shared by all render layers
+ */
+public final class NeoTileSnapshot {
+    
+    private final NeoGrid grid;
+    private final NeoTileStore store;
+    private final NeoFaceMask[] neighborMasks;
+    private volatile Object baked;
+    
+    /**
+     * @param grid Grid of the tiles
+     * @param store Copy of the tiles, owned by the snapshot
+     * @param neighborMasks Face masks of the six neighbors by NeoFace ordinal (entries may be null)
+     */
+    public NeoTileSnapshot(NeoGrid grid, NeoTileStore store, NeoFaceMask[] neighborMasks) {
+        this.grid = grid;
+        this.store = store;
+        this.neighborMasks = neighborMasks.clone();
+    }
+    
+    /**
+     * Get the baked result, building it on the calling thread the first time
+     * 
+     * A snapshot is only ever baked by one kind of baker, later calls return
+     * the cached result no matter which baker they pass.
+     * @param baker Turns the snapshot into its render data
+     * @return Cached baked result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getBaked(Function<NeoTileSnapshot, T> baker) {
+        Object result = baked;
+        if (result == null) {
+            synchronized (this) {
+                result = baked;
+                if (result == null) {
+                    result = baker.apply(this);
+                    baked = result;
+                }
+            }
+        }
+        return (T) result;
+    }
+    
+    /**
+     * Check if the snapshot was baked already
+     * @return true once getBaked() finished
+     */
+    public boolean isBaked() {
+        return baked != null;
+    }
+    
+    /**
+     * Get a read-only view of the tiles
+     * @return Tiles of the snapshot, must not be modified
+     */
+    public NeoTileCollection getTiles() {
+        return new NeoTileCollection(grid, store);
+    }
+    
+    /**
+     * Get the neighbor face masks
+     * @return Copy of the masks by NeoFace ordinal (entries may be null)
+     */
+    public NeoFaceMask[] getNeighborMasks() {
+        return neighborMasks.clone();
+    }
+    
+    /**
+     * Get the number of tiles in the snapshot
+     * @return Tile count
+     */
+    public int getTileCount() {
+        return store.size();
+    }
+    
+    @Override
+    public String toString() {
+        return "NeoTileSnapshot[tiles=" + store.size() + ", grid=" + grid + ", baked=" + isBaked() + "]";
+    }
+}
@@ -0,0 +1,343 @@
+package team.creative.neolittletiles.common.tile;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NeoTileStore - Packed structure-of-arrays tile container
+ * 
+ * Stores tiles without per-tile objects:
+ * - Parallel int arrays for the six box coordinates and color
+ * - Local palette index per tile, mapped to NeoTilePalette.GLOBAL ids
+ * - Amortized growth, swap-remove to keep slots dense
+ * - NeoTile views are only materialized on demand
+ * 
+ * Slots are stable until a removal moves the last tile into the freed slot.
+ */
+public class NeoTileStore {
+    
+    private static final int DEFAULT_CAPACITY = 8;
+    
+    private int[] minX, minY, minZ;
+    private int[] maxX, maxY, maxZ;
+    private int[] color;
+    private int[] state;
+    private int size;
+    
+    // Local palette: local index -> global palette id (blocks rarely use more than a few states)
+    private int[] palette = new int[4];
+    private int paletteSize;
+    
+    public NeoTileStore() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public NeoTileStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+    
+    /**
+     * Create an independent copy, trimmed to the current size
+     * @return New store with the same tiles and local palette
+     */
+    public NeoTileStore copy() {
+        NeoTileStore copy = new NeoTileStore(size);
+        System.arraycopy(minX, 0, copy.minX, 0, size);
+        System.arraycopy(minY, 0, copy.minY, 0, size);
+        System.arraycopy(minZ, 0, copy.minZ, 0, size);
+        System.arraycopy(maxX, 0, copy.maxX, 0, size);
+        System.arraycopy(maxY, 0, copy.maxY, 0, size);
+        System.arraycopy(maxZ, 0, copy.maxZ, 0, size);
+        System.arraycopy(color, 0, copy.color, 0, size);
+        System.arraycopy(state, 0, copy.state, 0, size);
+        copy.size = size;
+        copy.palette = Arrays.copyOf(palette, palette.length);
+        copy.paletteSize = paletteSize;
+        return copy;
+    }
+    
+    private void allocate(int capacity) {
+        minX = new int[capacity];
+        minY = new int[capacity];
+        minZ = new int[capacity];
+        maxX = new int[capacity];
+        maxY = new int[capacity];
+        maxZ = new int[capacity];
+        color = new int[capacity];
+        state = new int[capacity];
+    }
+    
+    private void ensureCapacity(int required) {
+        int capacity = minX.length;
+        if (required <= capacity) {
+            return;
+        }
+        
+        int grown = Math.max(required, capacity + (capacity >> 1) + 1);
+        minX = Arrays.copyOf(minX, grown);
+        minY = Arrays.copyOf(minY, grown);
+        minZ = Arrays.copyOf(minZ, grown);
+        maxX = Arrays.copyOf(maxX, grown);
+        maxY = Arrays.copyOf(maxY, grown);
+        maxZ = Arrays.copyOf(maxZ, grown);
+        color = Arrays.copyOf(color, grown);
+        state = Arrays.copyOf(state, grown);
+    }
+    
+    /**
+     * Get the local palette index for a global state id, adding it if necessary
+     * @param stateId Global palette id
+     * @return Local palette index
+     */
+    private int paletteIndex(int stateId) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i] == stateId) {
+                return i;
+            }
+        }
+        
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, paletteSize << 1);
+        }
+        palette[paletteSize] = stateId;
+        return paletteSize++;
+    }
+    
+    /**
+     * Get the number of local palette entries (may include unused states)
+     * @return Local palette size
+     */
+    public int getPaletteSize() {
+        return paletteSize;
+    }
+    
+    /**
+     * Resolve a local palette index
+     * @param index Local palette index
+     * @return Global palette id
+     */
+    public int getPaletteStateId(int index) {
+        return palette[index];
+    }
+    
+    /**
+     * Append a tile
+     * @param tile Tile to store (copied)
+     * @return Slot of the new tile
+     */
+    public int add(NeoTile tile) {
+        return add(tile.getBox(), tile.getStateId(), tile.getColor());
+    }
+    
+    /**
+     * Append a tile
+     * @param box Tile box (copied)
+     * @param tileState Tile state
+     * @param tileColor ARGB color
+     * @return Slot of the new tile
+     */
+    public int add(NeoBox box, Object tileState, int tileColor) {
+        return add(box, NeoTilePalette.GLOBAL.intern(tileState), tileColor);
+    }
+    
+    /**
+     * Append a tile with an already interned state
+     * @param box Tile box (copied)
+     * @param stateId Global palette id
+     * @param tileColor ARGB color
+     * @return Slot of the new tile
+     */
+    public int add(NeoBox box, int stateId, int tileColor) {
+        ensureCapacity(size + 1);
+        int slot = size++;
+        minX[slot] = box.minX;
+        minY[slot] = box.minY;
+        minZ[slot] = box.minZ;
+        maxX[slot] = box.maxX;
+        maxY[slot] = box.maxY;
+        maxZ[slot] = box.maxZ;
+        color[slot] = tileColor;
+        state[slot] = paletteIndex(stateId);
+        return slot;
+    }
+    
+    /**
+     * Remove a tile by moving the last tile into its slot
+     * @param slot Slot to remove
+     * @return Former slot of the tile now occupying the removed slot, or -1 if none moved
+     */
+    public int remove(int slot) {
+        checkSlot(slot);
+        int last = --size;
+        if (slot == last) {
+            return -1;
+        }
+        
+        minX[slot] = minX[last];
+        minY[slot] = minY[last];
+        minZ[slot] = minZ[last];
+        maxX[slot] = maxX[last];
+        maxY[slot] = maxY[last];
+        maxZ[slot] = maxZ[last];
+        color[slot] = color[last];
+        state[slot] = state[last];
+        return last;
+    }
+    
+    /**
+     * Remove all tiles, keeping the allocated capacity
+     */
+    public void clear() {
+        size = 0;
+        paletteSize = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Materialize a tile view
+     * @param slot Tile slot
+     * @return New NeoTile holding a copy of the slot data
+     */
+    public NeoTile get(int slot) {
+        checkSlot(slot);
+        NeoBox box = new NeoBox(minX[slot], minY[slot], minZ[slot], maxX[slot], maxY[slot], maxZ[slot]);
+        return NeoTile.fromPalette(box, palette[state[slot]], color[slot]);
+    }
+    
+    /**
+     * Copy the box of a slot into a reusable box
+     * @param slot Tile slot
+     * @param out Box to fill
+     * @return The filled box
+     */
+    public NeoBox getBox(int slot, NeoBox out) {
+        out.minX = minX[slot];
+        out.minY = minY[slot];
+        out.minZ = minZ[slot];
+        out.maxX = maxX[slot];
+        out.maxY = maxY[slot];
+        out.maxZ = maxZ[slot];
+        return out;
+    }
+    
+    /**
+     * Overwrite the box of a slot
+     * @param slot Tile slot
+     * @param box New box (copied)
+     */
+    public void setBox(int slot, NeoBox box) {
+        checkSlot(slot);
+        minX[slot] = box.minX;
+        minY[slot] = box.minY;
+        minZ[slot] = box.minZ;
+        maxX[slot] = box.maxX;
+        maxY[slot] = box.maxY;
+        maxZ[slot] = box.maxZ;
+    }
+    
+    public int getColor(int slot) {
+        return color[slot];
+    }
+    
+    public Object getState(int slot) {
+        return NeoTilePalette.GLOBAL.get(palette[state[slot]]);
+    }
+    
+    public int getStateId(int slot) {
+        return palette[state[slot]];
+    }
+    
+    public int getStateIndex(int slot) {
+        return state[slot];
+    }
+    
+    public int getMinX(int slot) {
+        return minX[slot];
+    }
+    
+    public int getMinY(int slot) {
+        return minY[slot];
+    }
+    
+    public int getMinZ(int slot) {
+        return minZ[slot];
+    }
+    
+    public int getMaxX(int slot) {
+        return maxX[slot];
+    }
+    
+    public int getMaxY(int slot) {
+        return maxY[slot];
+    }
+    
+    public int getMaxZ(int slot) {
+        return maxZ[slot];
+    }
+    
+    /**
+     * Fast intersection test against a slot without materializing it
+     * @param slot Tile slot
+     * @param box Box to test
+     * @return true if they intersect
+     */
+    public boolean intersects(int slot, NeoBox box) {
+        return maxX[slot] > box.minX && minX[slot] < box.maxX &&
+               maxY[slot] > box.minY && minY[slot] < box.maxY &&
+               maxZ[slot] > box.minZ && minZ[slot] < box.maxZ;
+    }
+    
+    /**
+     * Get the volume of a single slot
+     * @param slot Tile slot
+     * @return Volume in grid units
+     */
+    public int getVolume(int slot) {
+        return (maxX[slot] - minX[slot]) * (maxY[slot] - minY[slot]) * (maxZ[slot] - minZ[slot]);
+    }
+    
+    /**
+     * Sum the volume of all tiles in one linear pass
+     * @return Total volume in grid units
+     */
+    public int getTotalVolume() {
+        int volume = 0;
+        for (int i = 0; i < size; i++) {
+            volume += (maxX[i] - minX[i]) * (maxY[i] - minY[i]) * (maxZ[i] - minZ[i]);
+        }
+        return volume;
+    }
+    
+    /**
+     * Materialize all tiles
+     * @return New list of tile views
+     */
+    public List<NeoTile> toList() {
+        List<NeoTile> tiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tiles.add(get(i));
+        }
+        return tiles;
+    }
+    
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Tile slot " + slot + " out of bounds for size " + size);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoTileStore[size=%d, capacity=%d, palette=%d]", size, minX.length, paletteSize);
+    }
+}
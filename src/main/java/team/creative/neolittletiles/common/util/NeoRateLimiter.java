@@ -0,0 +1,93 @@
+package team.creative.neolittletiles.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * NeoRateLimiter - Caps how often a repeated message is let through
+ * 
+ * Meant for warnings that can fire once per block or packet, e.g. a broken
+ * chunk full of tile blocks:
+ * - At most burst permits are handed out per interval (fixed window)
+ * - Denied requests are counted, so the next message that passes can report
+ *   how many similar ones were dropped
+ * 
+ * Thread safe, permits can be requested from any thread.
+ */
+public class NeoRateLimiter {
+    
+    private final long intervalNanos;
+    private final int burst;
+    private final LongSupplier clock;
+    
+    private long windowStart;
+    private int used;
+    private long suppressed;
+    private boolean started;
+    
+    /**
+     * @param interval Window length
+     * @param unit Unit of the window length
+     * @param burst Permits per window
+     */
+    public NeoRateLimiter(long interval, TimeUnit unit, int burst) {
+        this(interval, unit, burst, System::nanoTime);
+    }
+    
+    /**
+     * @param interval Window length
+     * @param unit Unit of the window length
+     * @param burst Permits per window
+     * @param clock Nanosecond time source
+     */
+    public NeoRateLimiter(long interval, TimeUnit unit, int burst, LongSupplier clock) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1");
+        }
+        this.intervalNanos = unit.toNanos(interval);
+        this.burst = burst;
+        this.clock = clock;
+    }
+    
+    /**
+     * Request a permit
+     * @return true if the caller may log, false if the message should be dropped
+     */
+    public synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        if (!started || now - windowStart >= intervalNanos) {
+            started = true;
+            windowStart = now;
+            used = 0;
+        }
+        if (used < burst) {
+            used++;
+            return true;
+        }
+        suppressed++;
+        return false;
+    }
+    
+    /**
+     * Get and reset the number of dropped messages, call after tryAcquire() succeeded
+     * @return Messages dropped since the last call
+     */
+    public synchronized long takeSuppressed() {
+        long count = suppressed;
+        suppressed = 0;
+        return count;
+    }
+    
+    /**
+     * Get the number of dropped messages without resetting it
+     * @return Messages dropped since the last takeSuppressed()
+     */
+    public synchronized long getSuppressed() {
+        return suppressed;
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "NeoRateLimiter[burst=" + burst + ", interval=" + TimeUnit.NANOSECONDS.toMillis(intervalNanos) + "ms, suppressed=" + suppressed + "]";
+    }
+}
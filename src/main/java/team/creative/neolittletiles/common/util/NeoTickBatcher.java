@@ -0,0 +1,124 @@
+package team.creative.neolittletiles.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * NeoTickBatcher - Collapses repeated update requests into one flush
+ * 
+ * Targets are marked dirty any number of times during a tick and flushed
+ * once at the end of it:
+ * - Marking an already pending target is a no-op (counted as coalesced)
+ * - Flush order follows the first mark of each target
+ * - Targets marked while flushing are kept for the next flush
+ * 
+ * Not thread safe, meant to be used from the owning level's thread.
+ * 
+ * @param <T> Target type, compared by equals/hashCode
+ */
+public class NeoTickBatcher<T> {
+    
+    private Set<T> pending = new LinkedHashSet<>();
+    private Set<T> flushing = new LinkedHashSet<>();
+    
+    private long marked;
+    private long scheduled;
+    private long flushed;
+    
+    /**
+     * Mark a target for the next flush
+     * @param target Target to update
+     * @return true if the target was not pending yet
+     */
+    public boolean mark(T target) {
+        marked++;
+        if (pending.add(target)) {
+            scheduled++;
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Check if a target is waiting for the next flush
+     * @param target Target to check
+     * @return true if pending
+     */
+    public boolean isPending(T target) {
+        return pending.contains(target);
+    }
+    
+    /**
+     * Drop a pending target, e.g. when it was removed from the world
+     * @param target Target to drop
+     */
+    public void cancel(T target) {
+        pending.remove(target);
+    }
+    
+    /**
+     * Run the update for every pending target once
+     * @param updater Update to run per target
+     * @return Number of flushed targets
+     */
+    public int flush(Consumer<T> updater) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        
+        // Swap sets so marks made by the updater end up in the next batch
+        Set<T> batch = pending;
+        pending = flushing;
+        flushing = batch;
+        
+        int count = batch.size();
+        try {
+            for (T target : batch) {
+                updater.accept(target);
+            }
+        } finally {
+            batch.clear();
+        }
+        flushed += count;
+        return count;
+    }
+    
+    /**
+     * Get the number of pending targets
+     * @return Pending count
+     */
+    public int getPending() {
+        return pending.size();
+    }
+    
+    /**
+     * Get the total number of mark requests
+     * @return Mark count
+     */
+    public long getMarked() {
+        return marked;
+    }
+    
+    /**
+     * Get the total number of flushed updates
+     * @return Flush count
+     */
+    public long getFlushed() {
+        return flushed;
+    }
+    
+    /**
+     * Get the number of mark requests that were merged into another update
+     * @return Coalesced request count
+     */
+    public long getCoalesced() {
+        return marked - scheduled;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("NeoTickBatcher[pending=%d, marked=%d, flushed=%d, coalesced=%d]",
+                           pending.size(), marked, flushed, getCoalesced());
+    }
+}
@@ -1,10 +1,18 @@
 package team.creative.neolittletiles.test;
 
 import team.creative.neolittletiles.common.converter.NeoBlueprint;
+import team.creative.neolittletiles.common.converter.NeoBlueprintPayload;
+import team.creative.neolittletiles.common.converter.NeoBlueprintWriter;
 import team.creative.neolittletiles.common.converter.SNBTParser;
 import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -30,12 +38,24 @@ public class BlueprintTest {
             testSNBTParser();
             System.out.println();
             
+            testSNBTScanner();
+            System.out.println();
+            
             testBlueprintCreation();
             System.out.println();
             
             testBlueprintConversion();
             System.out.println();
             
+            testStreamingImport();
+            System.out.println();
+            
+            testBlueprintWriter();
+            System.out.println();
+            
+            testCompressedPayload();
+            System.out.println();
+            
             testLittleTilesCompatibility();
             System.out.println();
             
@@ -89,7 +109,13 @@ public class BlueprintTest {
         // Test typed array
         String intArray = "[I;1,2,3,4]";
         Object arrayParsed = SNBTParser.parse(intArray);
-        assert arrayParsed instanceof List : "Should parse int array as list";
+        assert arrayParsed instanceof int[] : "Should parse int array as int[]";
+        assert Arrays.equals((int[]) arrayParsed, new int[] { 1, 2, 3, 4 }) : "Int array should keep its values";
+        
+        // Test byte and long arrays
+        assert Arrays.equals((byte[]) SNBTParser.parse("[B;1b,-2b,3]"), new byte[] { 1, -2, 3 }) : "Should parse byte array as byte[]";
+        assert Arrays.equals((long[]) SNBTParser.parse("[L;1L,-9000000000L]"), new long[] { 1, -9000000000L }) : "Should parse long array as long[]";
+        assert ((int[]) SNBTParser.parse("[I;]")).length == 0 : "Should parse empty int array";
         
         // Test nested structure
         String nested = "{\"outer\":{\"inner\":\"deep\", \"list\":[1,2,3]}}";
@@ -99,6 +125,54 @@ public class BlueprintTest {
         System.out.println("SNBT parser tests passed!");
     }
     
+    private static void testSNBTScanner() {
+        System.out.println("=== SNBT Scanner Test ===");
+        
+        // Primitive suffixes and ranges
+        @SuppressWarnings("unchecked")
+        Map<String, Object> values = (Map<String, Object>) SNBTParser.parse(
+            "{a:-9223372036854775808L, b:-128b, c:7s, d:1.5f, e:2.5, f:3000000000, g:1e3}");
+        assert Long.valueOf(Long.MIN_VALUE).equals(values.get("a")) : "Should parse minimum long";
+        assert Byte.valueOf((byte) -128).equals(values.get("b")) : "Should parse byte suffix";
+        assert Short.valueOf((short) 7).equals(values.get("c")) : "Should parse short suffix";
+        assert Float.valueOf(1.5F).equals(values.get("d")) : "Should parse float suffix";
+        assert Double.valueOf(2.5).equals(values.get("e")) : "Should parse plain decimals as double";
+        assert Long.valueOf(3000000000L).equals(values.get("f")) : "Should widen large integers to long";
+        assert Double.valueOf(1000).equals(values.get("g")) : "Should parse exponents";
+        
+        // Escapes fall back to the slow path without losing the prefix
+        assert "say \"hi\"\n".equals(SNBTParser.parse("\"say \\\"hi\\\"\\n\"")) : "Should unescape quoted strings";
+        
+        // Errors report line and column
+        try {
+            SNBTParser.parseOrThrow("{\n  a: 1,\n  b: ?\n}");
+            assert false : "Should reject malformed input";
+        } catch (SNBTParser.ParseException e) {
+            assert e.getLine() == 3 : "Error should be on line 3 but was " + e.getLine();
+            assert e.getColumn() == 6 : "Error should be in column 6 but was " + e.getColumn();
+        }
+        try {
+            SNBTParser.parseOrThrow("[B;1,2,300]");
+            assert false : "Should reject out of range byte";
+        } catch (SNBTParser.ParseException e) {
+            assert e.getColumn() == 8 : "Range error should point at the number";
+        }
+        assert SNBTParser.parse("{a:1") == null : "Unterminated compound should fail";
+        
+        // Large input stays linear, every list used to copy the rest of the input
+        StringBuilder large = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            large.append("[I;").append(i).append(",-").append(i).append("],");
+        }
+        large.append("]");
+        @SuppressWarnings("unchecked")
+        List<Object> lists = (List<Object>) SNBTParser.parse(large);
+        assert lists.size() == 20000 : "Should parse all nested arrays";
+        assert Arrays.equals((int[]) lists.get(19999), new int[] { 19999, -19999 }) : "Scratch buffer should not leak between arrays";
+        
+        System.out.println("SNBT scanner tests passed!");
+    }
+    
     private static void testBlueprintCreation() {
         System.out.println("=== Blueprint Creation Test ===");
         
@@ -177,6 +251,173 @@ public class BlueprintTest {
         System.out.println("Blueprint conversion tests passed!");
     }
     
+    private static void testStreamingImport() {
+        System.out.println("=== Streaming Import Test ===");
+        
+        // Keys in sorted order like real exports, so the grid comes after the content
+        String export = "{boxes:3,c:{t:{\"minecraft:stone\":[[I;-1],[I;0,0,0,4,4,4],[I;-65536],[I;4,0,0,8,4,4]]," +
+            "\"minecraft:dirt\":[[I;0,4,0,8,8,8]]}},grid:8,min:[I;0,0,0],size:[I;8,8,8]}";
+        
+        NeoTileCollection collection = new NeoTileCollection(new NeoGrid(16));
+        int count = NeoBlueprint.importSNBT(export, new NeoGrid(16), (box, state, color) ->
+            collection.add(box, NeoTilePalette.GLOBAL.intern(state), color));
+        assert count == 3 : "Should stream all boxes but got " + count;
+        assert collection.size() == 3 : "Sink should receive every tile";
+        assert collection.getTotalVolume() == 2 * 8 * 8 * 8 + 16 * 8 * 16 : "Boxes should be scaled from grid 8 to 16";
+        
+        // Color markers apply to the boxes that follow them within the material
+        List<NeoTile> queue = new ArrayList<>();
+        NeoBlueprint.importSNBT(export, new NeoGrid(8), (box, state, color) -> queue.add(new NeoTile(new NeoBox(box), state, color)));
+        assert queue.get(0).getColor() == -1 && queue.get(1).getColor() == -65536 : "Color markers should be applied in order";
+        
+        // Same result as the tree based conversion
+        List<NeoTile> converted = NeoBlueprint.fromSNBT(export).convertToNeoTiles(new NeoGrid(8));
+        assert converted.size() == queue.size() : "Streaming and tree conversion should agree";
+        
+        // Hand written blueprints may use plain number lists for markers and boxes
+        String plain = "{c:{t:{\"minecraft:stone\":[[I;-1],[0,0,0,8,8,8],[-65536],[8,0,0,16,8,8]]}},grid:16}";
+        List<NeoTile> plainTiles = new ArrayList<>();
+        int plainCount = NeoBlueprint.importSNBT(plain, new NeoGrid(16), (box, state, color) -> plainTiles.add(new NeoTile(new NeoBox(box), state, color)));
+        assert plainCount == 2 : "Plain number lists should be streamed as boxes but got " + plainCount;
+        assert plainTiles.get(1).getColor() == -65536 : "Plain list color markers should apply";
+        assert plainTiles.get(1).getBox().equals(new NeoBox(8, 0, 0, 16, 8, 8)) : "Plain list box should be read in order";
+        assert NeoBlueprint.fromSNBT(plain).convertToNeoTiles(new NeoGrid(16)).size() == plainCount : "Streaming and tree conversion should agree on plain lists";
+        
+        System.out.println("Streaming import tests passed!");
+    }
+    
+    private static void testBlueprintWriter() {
+        System.out.println("=== Blueprint Writer Test ===");
+        
+        NeoTileCollection tiles = new NeoTileCollection(new NeoGrid(16));
+        int stone = NeoTilePalette.GLOBAL.intern("minecraft:stone");
+        int quoted = NeoTilePalette.GLOBAL.intern("mod:odd\"name");
+        tiles.add(new NeoBox(0, 0, 0, 4, 4, 4), stone, 0xFFFF0000);
+        tiles.add(new NeoBox(4, 0, 0, 8, 4, 4), stone, 0xFFFFFFFF);
+        tiles.add(new NeoBox(8, 0, 0, 12, 4, 4), stone, 0xFFFF0000);
+        tiles.add(new NeoBox(0, 8, 0, 16, 16, 2), quoted, 0x80123456);
+        
+        String snbt = NeoBlueprintWriter.toSNBT(tiles, NeoBlueprintWriter.TO_STRING);
+        assert snbt.split("\\[I;-65536]", -1).length == 2 : "Tiles of one color should share a single marker: " + snbt;
+        
+        List<String> expected = describe(tiles);
+        List<String> fromText = new ArrayList<>();
+        NeoBlueprint.importSNBT(snbt, new NeoGrid(16), (box, state, color) -> fromText.add(box + "/" + state + "/" + color));
+        fromText.sort(null);
+        assert expected.equals(fromText) : "SNBT should round-trip exactly: " + fromText;
+        
+        NeoBlueprint blueprint = NeoBlueprint.fromSNBT(snbt);
+        assert blueprint.getSizeCoords()[1] == 16 : "Size should cover the tile bounds";
+        assert blueprint.convertToNeoTiles(new NeoGrid(16)).size() == 4 : "Tree reader should see all tiles";
+        
+        byte[] binary = NeoBlueprintWriter.toBinary(tiles, NeoBlueprintWriter.TO_STRING);
+        List<String> fromBinary = new ArrayList<>();
+        NeoBlueprint.importBinary(binary, new NeoGrid(16), (box, state, color) -> fromBinary.add(box + "/" + state + "/" + color));
+        fromBinary.sort(null);
+        assert expected.equals(fromBinary) : "Binary should round-trip exactly: " + fromBinary;
+        assert binary.length < snbt.length() : "Binary form should be smaller than SNBT";
+        
+        try {
+            NeoBlueprint.importBinary(Arrays.copyOf(binary, binary.length - 3), new NeoGrid(16), (box, state, color) -> {});
+            assert false : "Truncated binary should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        // The state count follows magic, version, format and grid
+        for (int count : new int[] { -1, Integer.MAX_VALUE }) {
+            byte[] corrupt = binary.clone();
+            ByteBuffer.wrap(corrupt).putInt(10, count);
+            try {
+                NeoBlueprint.importBinary(corrupt, new NeoGrid(16), (box, state, color) -> {});
+                assert false : "State count " + count + " should be rejected";
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        
+        System.out.println("Blueprint writer tests passed!");
+    }
+    
+    private static void testCompressedPayload() {
+        System.out.println("=== Compressed Payload Test ===");
+        
+        NeoTileCollection tiles = new NeoTileCollection(new NeoGrid(16));
+        int stone = NeoTilePalette.GLOBAL.intern("minecraft:stone");
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                tiles.add(new NeoBox(x, 0, z, x + 1, 1 + (x ^ z) % 4, z + 1), stone, 0xFF000000 | (x * 16));
+            }
+        }
+        byte[] data = NeoBlueprintWriter.toBinary(tiles, NeoBlueprintWriter.TO_STRING);
+        byte[] compressed = NeoBlueprintPayload.deflate(data);
+        assert compressed.length < data.length : "Deflated payload should be smaller";
+        
+        byte[] inflated = NeoBlueprintPayload.inflate(compressed, data.length);
+        assert Arrays.equals(data, inflated) : "Inflate should restore the exact bytes";
+        assert NeoBlueprintPayload.hash(inflated) == NeoBlueprintPayload.hash(data) : "Hash should be stable";
+        
+        byte[] changed = data.clone();
+        changed[changed.length - 1] ^= 1;
+        assert NeoBlueprintPayload.hash(changed) != NeoBlueprintPayload.hash(data) : "Hash should change with the content";
+        
+        try {
+            NeoBlueprintPayload.inflate(compressed, data.length + 1);
+            assert false : "Wrong length should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            NeoBlueprintPayload.inflate(Arrays.copyOf(compressed, compressed.length / 2), data.length);
+            assert false : "Truncated payload should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            NeoBlueprintPayload.inflate(compressed, data.length - 1);
+            assert false : "Payload longer than its length should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        try {
+            byte[] padded = Arrays.copyOf(compressed, compressed.length + 4);
+            padded[compressed.length] = 0x42;
+            NeoBlueprintPayload.inflate(padded, data.length);
+            assert false : "Bytes after the compressed stream should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        
+        // The length comes from item data, it must not decide the allocation
+        for (int length : new int[] { -1, NeoBlueprintPayload.MAX_LENGTH + 1, Integer.MAX_VALUE }) {
+            try {
+                NeoBlueprintPayload.inflate(compressed, length);
+                assert false : "Length " + length + " should be rejected";
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            NeoBlueprintPayload.inflate(compressed, NeoBlueprintPayload.MAX_LENGTH);
+            assert false : "Overstated length should be rejected";
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assert NeoBlueprintPayload.inflate(NeoBlueprintPayload.deflate(new byte[0]), 0).length == 0 : "Empty payload should round-trip";
+        
+        System.out.println("Compressed payload tests passed!");
+    }
+    
+    private static List<String> describe(NeoTileCollection tiles) {
+        List<String> result = new ArrayList<>();
+        for (NeoTile tile : tiles.getTiles()) {
+            result.add(tile.getBox() + "/" + tile.getState() + "/" + tile.getColor());
+        }
+        result.sort(null);
+        return result;
+    }
+    
     private static void testLittleTilesCompatibility() {
         System.out.println("=== LittleTiles Compatibility Test ===");
         
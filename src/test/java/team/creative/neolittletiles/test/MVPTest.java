@@ -99,8 +99,9 @@ public class MVPTest {
         // Test removing tiles
         NeoBox removeBox = new NeoBox(0, 0, 0, 5, 5, 5);
         var removedTiles = blockEntity.removeTiles(removeBox);
-        assert removedTiles.size() == 1 : "Should remove one overlapping tile";
-        assert blockEntity.getTileCount() == 1 : "Should have 1 tile remaining";
+        assert removedTiles.size() == 2 : "Should cut both overlapping tiles";
+        assert blockEntity.getTileCount() == 3 : "Cut tile should leave 3 remainder boxes";
+        assert blockEntity.getTotalVolume() == 4 * 4 * 4 - 1 : "Only the overlapping voxel of the second tile should be removed";
         
         System.out.println("Block entity operations tests passed!");
     }
@@ -249,8 +250,9 @@ public class MVPTest {
         
         // 6. Test destruction
         var removedTiles = blockEntity.removeTiles(new NeoBox(0, 0, 0, 5, 5, 5));
-        assert removedTiles.size() == 1 : "Should remove overlapping tiles";
+        assert removedTiles.size() == 2 : "Should cut overlapping tiles";
         assert blockEntity.getTileCount() == 1 : "Should have 1 tile remaining";
+        assert blockEntity.getTiles().get(0).getBox().equals(new NeoBox(5, 0, 0, 8, 4, 4)) : "Remainder should lie outside the cut";
         
         // 7. Test final state
         assert blockEntity.hasTiles() : "Should still have tiles";
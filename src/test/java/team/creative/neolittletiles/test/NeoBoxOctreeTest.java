@@ -0,0 +1,177 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoBoxOctree;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Unit tests for NeoBoxOctree class
+ * Tests spatial indexing of boxes without requiring Minecraft client startup
+ */
+public class NeoBoxOctreeTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoBoxOctree Unit Tests ===");
+        
+        testInsertAndQuery();
+        testRemoveAndReplace();
+        testOutOfBoundsBoxes();
+        testQueryMatchesLinearScan();
+        testStraddlingBoxesSinkDown();
+        testPruneEmptyCells();
+        
+        System.out.println("All NeoBoxOctree tests completed successfully!");
+    }
+    
+    private static Set<Integer> query(NeoBoxOctree octree, NeoBox[] boxes, NeoBox area) {
+        Set<Integer> result = new HashSet<>();
+        octree.query(area, handle -> {
+            if (boxes[handle] != null && boxes[handle].intersects(area)) {
+                result.add(handle);
+            }
+        });
+        return result;
+    }
+    
+    private static void testInsertAndQuery() {
+        System.out.println("Testing insert and query...");
+        
+        NeoBoxOctree octree = new NeoBoxOctree(16);
+        NeoBox[] boxes = {
+            new NeoBox(0, 0, 0, 4, 4, 4),
+            new NeoBox(12, 12, 12, 16, 16, 16),
+            new NeoBox(0, 0, 0, 16, 16, 16)
+        };
+        for (int i = 0; i < boxes.length; i++) {
+            octree.insert(i, boxes[i]);
+        }
+        assert octree.size() == 3 : "Octree should hold 3 handles";
+        
+        Set<Integer> corner = query(octree, boxes, new NeoBox(0, 0, 0, 1, 1, 1));
+        assert corner.contains(0) && corner.contains(2) : "Corner query should find small and full box";
+        assert !corner.contains(1) : "Corner query should not find far box";
+        
+        Set<Integer> touching = query(octree, boxes, new NeoBox(4, 4, 4, 8, 8, 8));
+        assert !touching.contains(0) : "Touching box should not be reported as intersecting";
+        
+        System.out.println("Insert and query tests passed!");
+    }
+    
+    private static void testRemoveAndReplace() {
+        System.out.println("Testing remove and replace...");
+        
+        NeoBoxOctree octree = new NeoBoxOctree(16);
+        NeoBox box = new NeoBox(2, 2, 2, 3, 3, 3);
+        octree.insert(5, box);
+        
+        assert octree.replace(5, 7, box) : "Replace should find stored handle";
+        assert !octree.remove(5, box) : "Old handle should be gone after replace";
+        assert octree.remove(7, box) : "New handle should be removable";
+        assert octree.size() == 0 : "Octree should be empty";
+        
+        octree.insert(1, box);
+        octree.clear();
+        assert octree.size() == 0 : "Clear should remove all handles";
+        
+        System.out.println("Remove and replace tests passed!");
+    }
+    
+    private static void testOutOfBoundsBoxes() {
+        System.out.println("Testing out-of-bounds boxes...");
+        
+        NeoBoxOctree octree = new NeoBoxOctree(16);
+        NeoBox[] boxes = { new NeoBox(-2, 0, -2, 2, 4, 2) };
+        octree.insert(0, boxes[0]);
+        
+        assert query(octree, boxes, new NeoBox(-1, 0, -1, 0, 1, 0)).contains(0) : "Out-of-bounds box should be queryable";
+        assert octree.remove(0, boxes[0]) : "Out-of-bounds box should be removable";
+        
+        System.out.println("Out-of-bounds tests passed!");
+    }
+    
+    private static void testQueryMatchesLinearScan() {
+        System.out.println("Testing query against linear scan...");
+        
+        java.util.Random random = new java.util.Random(42);
+        int gridSize = 64;
+        NeoBox[] boxes = new NeoBox[2000];
+        NeoBoxOctree octree = new NeoBoxOctree(gridSize);
+        
+        for (int i = 0; i < boxes.length; i++) {
+            int x = random.nextInt(gridSize), y = random.nextInt(gridSize), z = random.nextInt(gridSize);
+            boxes[i] = new NeoBox(x, y, z,
+                Math.min(gridSize, x + 1 + random.nextInt(8)),
+                Math.min(gridSize, y + 1 + random.nextInt(8)),
+                Math.min(gridSize, z + 1 + random.nextInt(8)));
+            octree.insert(i, boxes[i]);
+        }
+        
+        for (int i = 0; i < boxes.length; i += 2) {
+            assert octree.remove(i, boxes[i]) : "Stored handle should be removable";
+            boxes[i] = null;
+        }
+        
+        for (int q = 0; q < 200; q++) {
+            int x = random.nextInt(gridSize), y = random.nextInt(gridSize), z = random.nextInt(gridSize);
+            NeoBox area = new NeoBox(x, y, z, x + 1 + random.nextInt(16), y + 1 + random.nextInt(16), z + 1 + random.nextInt(16));
+            
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < boxes.length; i++) {
+                if (boxes[i] != null && boxes[i].intersects(area)) {
+                    expected.add(i);
+                }
+            }
+            assert expected.equals(query(octree, boxes, area)) : "Octree query should match linear scan for " + area;
+        }
+        
+        System.out.println("Linear scan comparison tests passed!");
+    }
+    
+    private static void testStraddlingBoxesSinkDown() {
+        System.out.println("Testing straddling boxes...");
+        
+        // Small boxes along every midplane of the root, none fits a tight child cell
+        NeoBoxOctree octree = new NeoBoxOctree(64);
+        int count = 0;
+        for (int a = 0; a < 64; a += 4) {
+            for (int b = 0; b < 64; b += 4) {
+                octree.insert(count++, new NeoBox(31, a, b, 33, a + 2, b + 2));
+                octree.insert(count++, new NeoBox(a, 31, b, a + 2, 33, b + 2));
+            }
+        }
+        
+        int[] candidates = new int[1];
+        octree.query(new NeoBox(0, 0, 0, 2, 2, 2), handle -> candidates[0]++);
+        assert candidates[0] < count / 16 : "Straddling boxes should not pile up in the root, got " + candidates[0] + " candidates";
+        
+        System.out.println("Straddling box tests passed!");
+    }
+    
+    private static void testPruneEmptyCells() {
+        System.out.println("Testing pruning of empty cells...");
+        
+        java.util.Random random = new java.util.Random(7);
+        NeoBoxOctree octree = new NeoBoxOctree(32);
+        NeoBox[] boxes = new NeoBox[500];
+        for (int i = 0; i < boxes.length; i++) {
+            int x = random.nextInt(31), y = random.nextInt(31), z = random.nextInt(31);
+            boxes[i] = new NeoBox(x, y, z, x + 1 + random.nextInt(32 - x), y + 1, z + 1);
+            octree.insert(i, boxes[i]);
+        }
+        assert octree.getNodeCount() > 1 : "Inserting small boxes should allocate cells";
+        
+        for (int i = 0; i < boxes.length; i++) {
+            assert octree.remove(i, boxes[i]) : "Stored handle should be removable";
+        }
+        assert octree.size() == 0 : "Octree should be empty";
+        assert octree.getNodeCount() == 1 : "Only the root should remain, got " + octree.getNodeCount();
+        
+        System.out.println("Pruning tests passed!");
+    }
+}
@@ -21,6 +21,8 @@ public class NeoBoxTest {
         testContainmentChecking();
         testUnionOperation();
         testIntersectionCalculation();
+        testMergeability();
+        testSubtraction();
         testValidation();
         testEqualsAndHashCode();
         
@@ -129,6 +131,50 @@ public class NeoBoxTest {
         System.out.println("Intersection calculation tests passed!");
     }
     
+    private static void testMergeability() {
+        System.out.println("Testing mergeability...");
+        
+        NeoBox box = new NeoBox(0, 0, 0, 4, 4, 4);
+        assert box.isMergeable(new NeoBox(4, 0, 0, 8, 4, 4)) : "Boxes sharing a full X face should merge";
+        assert box.isMergeable(new NeoBox(0, -2, 0, 4, 0, 4)) : "Boxes sharing a full Y face should merge";
+        assert !box.isMergeable(new NeoBox(4, 0, 0, 8, 4, 3)) : "Boxes with different face extents should not merge";
+        assert !box.isMergeable(new NeoBox(5, 0, 0, 8, 4, 4)) : "Separated boxes should not merge";
+        assert !box.isMergeable(new NeoBox(4, 4, 0, 8, 8, 4)) : "Edge-touching boxes should not merge";
+        
+        System.out.println("Mergeability tests passed!");
+    }
+    
+    private static void testSubtraction() {
+        System.out.println("Testing subtraction...");
+        
+        int[] out = new int[NeoBox.SUBTRACT_BUFFER_SIZE];
+        NeoBox box = new NeoBox(0, 0, 0, 16, 16, 16);
+        
+        int parts = box.subtract(new NeoBox(4, 4, 4, 6, 6, 6), out);
+        assert parts == NeoBox.MAX_SUBTRACT_PARTS : "Inner cut should leave 6 parts";
+        
+        int volume = 0;
+        NeoBox[] boxes = new NeoBox[parts];
+        for (int i = 0; i < parts; i++) {
+            int o = i * 6;
+            boxes[i] = new NeoBox(out[o], out[o + 1], out[o + 2], out[o + 3], out[o + 4], out[o + 5]);
+            assert box.contains(boxes[i]) : "Parts should stay inside the original box";
+            assert !boxes[i].intersects(new NeoBox(4, 4, 4, 6, 6, 6)) : "Parts should not overlap the cut";
+            for (int j = 0; j < i; j++) {
+                assert !boxes[i].intersects(boxes[j]) : "Parts should not overlap each other";
+            }
+            volume += boxes[i].getVolume();
+        }
+        assert volume == 16 * 16 * 16 - 8 : "Parts should cover everything but the cut";
+        
+        assert box.subtract(new NeoBox(-1, -1, -1, 17, 17, 17), out) == 0 : "Covering cut should leave nothing";
+        assert box.subtract(new NeoBox(16, 0, 0, 20, 4, 4), out) == 1 : "Disjoint cut should leave the box";
+        assert box.subtract(new NeoBox(0, 0, 0, 16, 16, 8), out) == 1 : "Half cut should leave one slab";
+        assert out[2] == 8 && out[5] == 16 : "Remaining slab should be the upper Z half";
+        
+        System.out.println("Subtraction tests passed!");
+    }
+    
     private static void testValidation() {
         System.out.println("Testing validation...");
         
@@ -0,0 +1,141 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.math.NeoFaceCoverage;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+
+/**
+ * Unit tests for NeoFaceCoverage and face culling
+ * Tests exact face occlusion without requiring Minecraft client startup
+ */
+public class NeoFaceCoverageTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoFaceCoverage Unit Tests ===");
+        
+        testFaces();
+        testCoverage();
+        testTileCulling();
+        testFaceMask();
+        
+        System.out.println("All NeoFaceCoverage tests completed successfully!");
+    }
+    
+    private static void testFaces() {
+        System.out.println("Testing faces...");
+        
+        for (NeoFace face : NeoFace.values()) {
+            assert face.getOpposite().getOpposite() == face : "Opposite should be symmetric";
+            assert face.getOpposite().axis == face.axis && face.getOpposite().positive != face.positive : "Opposite should flip the side";
+            assert face.uAxis != face.axis && face.vAxis != face.axis && face.uAxis != face.vAxis : "Plane axes should differ from the face axis";
+            assert NeoFace.get(face.axis, face.positive) == face : "Lookup by axis should match";
+        }
+        assert NeoFace.EAST.getPlane(new NeoBox(1, 2, 3, 4, 5, 6)) == 4 : "East plane should be max X";
+        
+        System.out.println("Face tests passed!");
+    }
+    
+    private static void testCoverage() {
+        System.out.println("Testing coverage...");
+        
+        NeoFaceCoverage coverage = new NeoFaceCoverage();
+        coverage.reset(0, 0, 4, 4);
+        assert !coverage.isCovered() : "Face without occluders should be visible";
+        
+        coverage.add(0, 0, 2, 4);
+        coverage.add(2, 0, 4, 2);
+        assert !coverage.isCovered() : "Partially covered face should be visible";
+        coverage.add(1, 2, 5, 5);
+        assert coverage.isCovered() : "Overlapping occluders should cover the face";
+        
+        coverage.reset(0, 0, 4, 4);
+        coverage.add(-2, -2, 8, 8);
+        assert coverage.isCovered() : "Larger occluder should cover the face";
+        
+        coverage.reset(0, 0, 4, 4);
+        coverage.add(0, 0, 4, 1);
+        coverage.add(0, 2, 4, 4);
+        coverage.add(4, 0, 6, 4);
+        assert !coverage.isCovered() : "Gap between occluders should stay visible";
+        
+        System.out.println("Coverage tests passed!");
+    }
+    
+    private static void testTileCulling() {
+        System.out.println("Testing tile culling...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        int center = tiles.add(new NeoBox(4, 4, 4, 8, 8, 8), new NeoTile(new NeoBox(0, 0, 0, 1, 1, 1), "minecraft:stone").getStateId(), 0xFFFFFFFF);
+        int dirt = new NeoTile(new NeoBox(0, 0, 0, 1, 1, 1), "minecraft:dirt").getStateId();
+        
+        // East: two halves, West: one larger box, Up: translucent glass
+        tiles.add(new NeoBox(8, 4, 4, 10, 6, 8), dirt, 0xFFFFFFFF);
+        tiles.add(new NeoBox(8, 6, 4, 10, 8, 8), dirt, 0xFFFFFFFF);
+        tiles.add(new NeoBox(0, 0, 0, 4, 16, 16), dirt, 0xFFFFFFFF);
+        tiles.add(new NeoBox(4, 8, 4, 8, 9, 8), dirt, 0x80FFFFFF);
+        // South: only partially covered
+        tiles.add(new NeoBox(4, 4, 8, 8, 7, 9), dirt, 0xFFFFFFFF);
+        
+        int visible = tiles.getVisibleFaces(center);
+        assert (visible & NeoFace.EAST.flag) == 0 : "East face should be covered by two halves";
+        assert (visible & NeoFace.WEST.flag) == 0 : "West face should be covered by a larger box";
+        assert (visible & NeoFace.UP.flag) != 0 : "Translucent tiles should not occlude";
+        assert (visible & NeoFace.SOUTH.flag) != 0 : "Partially covered face should stay visible";
+        assert (visible & NeoFace.DOWN.flag) != 0 && (visible & NeoFace.NORTH.flag) != 0 : "Open faces should stay visible";
+        
+        // Dense block: only the outer shell has visible faces
+        NeoTileCollection dense = new NeoTileCollection(NeoGrid.GRID_16);
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                for (int z = 0; z < 4; z++) {
+                    dense.add(new NeoBox(x, y, z, x + 1, y + 1, z + 1), dirt, (x + y + z) % 2 == 0 ? 0xFFFFFFFF : 0xFFFF0000);
+                }
+            }
+        }
+        int faces = 0;
+        for (int slot = 0; slot < dense.size(); slot++) {
+            faces += Integer.bitCount(dense.getVisibleFaces(slot));
+        }
+        assert faces == 6 * 16 : "Only the 96 outer faces of a 4x4x4 cube should remain, got " + faces;
+        
+        System.out.println("Tile culling tests passed!");
+    }
+    
+    private static void testFaceMask() {
+        System.out.println("Testing face masks...");
+        
+        int stone = new NeoTile(new NeoBox(0, 0, 0, 1, 1, 1), "minecraft:stone").getStateId();
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.add(new NeoBox(8, 0, 0, 16, 16, 8), stone, 0xFFFFFFFF);
+        tiles.add(new NeoBox(8, 0, 8, 16, 16, 16), stone, 0xFFFFFFFF);
+        tiles.add(new NeoBox(0, 0, 0, 4, 4, 4), stone, 0x80FFFFFF);
+        
+        NeoFaceMask mask = NeoFaceMask.build(tiles);
+        assert mask.isFull(NeoFace.EAST) : "Two halves should cover the east side";
+        assert !mask.isFull(NeoFace.WEST) : "Translucent tile should not cover the west side";
+        assert mask.isCovered(NeoFace.UP, 8, 0, 16, 16, 16) : "Covered part of the top should be reported";
+        assert !mask.isCovered(NeoFace.UP, 7, 0, 9, 1, 16) : "Partly open rectangle should not be covered";
+        
+        // Query from a finer neighbor grid
+        assert mask.isCovered(NeoFace.UP, 16, 0, 32, 32, 32) : "Finer grid query should map to the same cells";
+        assert !mask.isCovered(NeoFace.UP, 15, 0, 16, 1, 32) : "Finer grid query should round outwards";
+        
+        // Coarse cells are only set when completely covered
+        NeoTileCollection fine = new NeoTileCollection(NeoGrid.GRID_256);
+        fine.add(new NeoBox(0, 0, 0, 256, 3, 256), stone, 0xFFFFFFFF);
+        NeoFaceMask fineMask = NeoFaceMask.build(fine);
+        assert fineMask.getResolution() == NeoFaceMask.MAX_RESOLUTION : "Resolution should be capped";
+        assert fineMask.isFull(NeoFace.DOWN) : "Full bottom should be covered";
+        assert !fineMask.isCovered(NeoFace.WEST, 0, 0, 3, 256, 256) : "Partial cells should stay uncovered";
+        
+        System.out.println("Face mask tests passed!");
+    }
+}
@@ -0,0 +1,61 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.util.NeoRateLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for NeoRateLimiter class
+ * Tests permit windows with a manual clock, no sleeping required
+ */
+public class NeoRateLimiterTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoRateLimiter Unit Tests ===");
+        
+        testBurst();
+        testWindowReset();
+        
+        System.out.println("All NeoRateLimiter tests completed successfully!");
+    }
+    
+    private static void testBurst() {
+        System.out.println("Testing burst limit...");
+        
+        long[] now = { 0 };
+        NeoRateLimiter limiter = new NeoRateLimiter(1, TimeUnit.SECONDS, 3, () -> now[0]);
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (limiter.tryAcquire()) {
+                passed++;
+            }
+        }
+        assert passed == 3 : "Only the burst should pass within one window";
+        assert limiter.getSuppressed() == 97 : "Denied requests should be counted";
+        
+        System.out.println("Burst limit tests passed!");
+    }
+    
+    private static void testWindowReset() {
+        System.out.println("Testing window reset...");
+        
+        long[] now = { 0 };
+        NeoRateLimiter limiter = new NeoRateLimiter(1, TimeUnit.SECONDS, 1, () -> now[0]);
+        assert limiter.tryAcquire() : "First request should pass";
+        assert !limiter.tryAcquire() : "Second request in the window should be denied";
+        
+        now[0] += TimeUnit.MILLISECONDS.toNanos(999);
+        assert !limiter.tryAcquire() : "Window should still be exhausted";
+        
+        now[0] += TimeUnit.MILLISECONDS.toNanos(1);
+        assert limiter.tryAcquire() : "Next window should hand out a new permit";
+        assert limiter.takeSuppressed() == 2 : "Dropped messages should be reported once";
+        assert limiter.getSuppressed() == 0 : "Suppressed count should reset after taking it";
+        
+        System.out.println("Window reset tests passed!");
+    }
+}
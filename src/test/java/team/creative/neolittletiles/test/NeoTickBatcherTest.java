@@ -0,0 +1,61 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.util.NeoTickBatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for NeoTickBatcher class
+ * Tests coalescing of update requests without requiring Minecraft client startup
+ */
+public class NeoTickBatcherTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTickBatcher Unit Tests ===");
+        
+        testCoalescing();
+        testMarkDuringFlush();
+        
+        System.out.println("All NeoTickBatcher tests completed successfully!");
+    }
+    
+    private static void testCoalescing() {
+        System.out.println("Testing coalescing...");
+        
+        NeoTickBatcher<String> batcher = new NeoTickBatcher<>();
+        for (int i = 0; i < 500; i++) {
+            batcher.mark("a");
+        }
+        batcher.mark("b");
+        assert batcher.getPending() == 2 : "Repeated marks should be pending once";
+        
+        List<String> flushed = new ArrayList<>();
+        assert batcher.flush(flushed::add) == 2 : "Both targets should be flushed";
+        assert flushed.equals(List.of("a", "b")) : "Flush should follow first mark order";
+        assert batcher.getMarked() == 501 : "All marks should be counted";
+        assert batcher.getFlushed() == 2 : "Only two updates should run";
+        assert batcher.getCoalesced() == 499 : "Repeated marks should be counted as coalesced";
+        assert batcher.flush(flushed::add) == 0 : "Nothing should be left after a flush";
+        
+        System.out.println("Coalescing tests passed!");
+    }
+    
+    private static void testMarkDuringFlush() {
+        System.out.println("Testing marks during flush...");
+        
+        NeoTickBatcher<String> batcher = new NeoTickBatcher<>();
+        batcher.mark("a");
+        batcher.flush(target -> batcher.mark(target));
+        assert batcher.isPending("a") : "Marks made while flushing should wait for the next flush";
+        
+        batcher.cancel("a");
+        assert batcher.getPending() == 0 : "Cancelled target should not be pending";
+        
+        System.out.println("Mark during flush tests passed!");
+    }
+}
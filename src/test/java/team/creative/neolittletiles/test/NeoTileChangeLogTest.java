@@ -0,0 +1,102 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileChangeLog;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.util.HashSet;
+
+/**
+ * Unit tests for NeoTileChangeLog class
+ * Tests delta recording for client sync without requiring Minecraft client startup
+ */
+public class NeoTileChangeLogTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTileChangeLog Unit Tests ===");
+        
+        testCancellation();
+        testOverflow();
+        testReplayMatchesSource();
+        
+        System.out.println("All NeoTileChangeLog tests completed successfully!");
+    }
+    
+    private static void testCancellation() {
+        System.out.println("Testing cancellation...");
+        
+        NeoTileChangeLog log = new NeoTileChangeLog();
+        NeoTile stone = new NeoTile(new NeoBox(0, 0, 0, 4, 4, 4), "minecraft:stone");
+        log.recordAdded(stone.getBox(), stone.getStateId(), stone.getColor());
+        log.recordRemoved(stone.getBox(), stone.getStateId(), stone.getColor());
+        
+        assert log.isEmpty() : "Add followed by remove should cancel";
+        assert log.getRevision() == 2 : "Every change should bump the revision";
+        
+        log.recordRemoved(stone.getBox(), stone.getStateId(), stone.getColor());
+        assert log.getRemoved().size() == 1 && log.getAdded().isEmpty() : "Net removal should be reported";
+        
+        log.markSynced();
+        assert log.isEmpty() && log.getBaseRevision() == 3 : "Sync should move the base revision";
+        
+        System.out.println("Cancellation tests passed!");
+    }
+    
+    private static void testOverflow() {
+        System.out.println("Testing overflow...");
+        
+        NeoTileChangeLog log = new NeoTileChangeLog(4);
+        for (int i = 0; i < 5; i++) {
+            log.recordAdded(new NeoBox(i, 0, 0, i + 1, 1, 1), 0, 0xFFFFFFFF);
+        }
+        assert log.isOverflowed() && !log.isEmpty() : "Too many changes should require a snapshot";
+        assert log.size() == 0 : "Overflowed log should drop its changes";
+        
+        log.markSynced();
+        assert !log.isOverflowed() : "Sync should clear the overflow";
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.setChangeLog(log);
+        tiles.clear();
+        assert log.isOverflowed() : "Clearing all tiles should require a snapshot";
+        
+        System.out.println("Overflow tests passed!");
+    }
+    
+    private static void testReplayMatchesSource() {
+        System.out.println("Testing replay of changes...");
+        
+        NeoTileCollection server = new NeoTileCollection(NeoGrid.GRID_16);
+        NeoTileCollection client = new NeoTileCollection(NeoGrid.GRID_16);
+        NeoTileChangeLog log = new NeoTileChangeLog();
+        server.setChangeLog(log);
+        
+        server.addMerged(new NeoTile(new NeoBox(0, 0, 0, 16, 8, 16), "minecraft:stone"));
+        server.addMerged(new NeoTile(new NeoBox(0, 8, 0, 16, 16, 16), "minecraft:stone"));
+        server.cut(new NeoBox(4, 4, 4, 6, 6, 6));
+        server.addMerged(new NeoTile(new NeoBox(4, 4, 4, 5, 5, 5), "minecraft:dirt"));
+        server.compact();
+        
+        NeoTileStore removed = log.getRemoved();
+        NeoTileStore added = log.getAdded();
+        NeoBox box = new NeoBox(0, 0, 0, 0, 0, 0);
+        for (int slot = 0; slot < removed.size(); slot++) {
+            assert client.removeExact(removed.getBox(slot, box), removed.getStateId(slot), removed.getColor(slot)) : "Removed tiles should exist on the client";
+        }
+        for (int slot = 0; slot < added.size(); slot++) {
+            client.add(added.getBox(slot, box), added.getStateId(slot), added.getColor(slot));
+        }
+        
+        assert new HashSet<>(server.getTiles()).equals(new HashSet<>(client.getTiles())) : "Replayed changes should reproduce the server tiles";
+        assert log.size() == server.size() : "Intermediate tiles should cancel out";
+        
+        System.out.println("Replay tests passed!");
+    }
+}
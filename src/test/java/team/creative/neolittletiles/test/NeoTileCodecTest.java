@@ -0,0 +1,140 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCodec;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Unit tests for NeoTileCodec class
+ * Tests binary tile encoding round trips without requiring Minecraft client startup
+ */
+public class NeoTileCodecTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTileCodec Unit Tests ===");
+        
+        testRoundTripFormats();
+        testPaletteAndColorRuns();
+        testRejectsBadData();
+        
+        System.out.println("All NeoTileCodec tests completed successfully!");
+    }
+    
+    private static NeoTileCollection randomTiles(NeoGrid grid, int count, long seed) {
+        Random random = new Random(seed);
+        NeoTileCollection tiles = new NeoTileCollection(grid);
+        int size = grid.getSize();
+        String[] states = { "minecraft:stone", "minecraft:dirt", "minecraft:oak_planks" };
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(size), y = random.nextInt(size), z = random.nextInt(size);
+            NeoBox box = new NeoBox(x, y, z,
+                Math.min(size, x + 1 + random.nextInt(4)),
+                Math.min(size, y + 1 + random.nextInt(4)),
+                Math.min(size, z + 1 + random.nextInt(4)));
+            tiles.add(box, new NeoTile(box, states[random.nextInt(states.length)]).getStateId(), random.nextBoolean() ? 0xFFFFFFFF : 0xFF00FF00);
+        }
+        return tiles;
+    }
+    
+    private static void assertRoundTrip(NeoTileCollection tiles, int gridSize, byte expectedFormat) {
+        NeoTileCodec.Encoded data = NeoTileCodec.encode(tiles.getStore(), gridSize);
+        assert data.version == NeoTileCodec.VERSION : "Encoded data should carry the current version";
+        assert data.format == expectedFormat : "Expected format " + expectedFormat + " but got " + data.format;
+        
+        NeoTileCollection decoded = new NeoTileCollection(tiles.getGrid());
+        assert NeoTileCodec.decode(data, gridSize, decoded) == tiles.size() : "All tiles should be decoded";
+        
+        Set<NeoTile> expected = new HashSet<>(tiles.getTiles());
+        Set<NeoTile> actual = new HashSet<>(decoded.getTiles());
+        assert expected.equals(actual) : "Decoded tiles should match the original tiles";
+    }
+    
+    private static void testRoundTripFormats() {
+        System.out.println("Testing round trip formats...");
+        
+        assertRoundTrip(randomTiles(NeoGrid.GRID_16, 500, 1), 16, NeoTileCodec.FORMAT_PACKED);
+        assertRoundTrip(randomTiles(NeoGrid.GRID_32, 500, 2), 32, NeoTileCodec.FORMAT_PACKED);
+        assertRoundTrip(randomTiles(NeoGrid.GRID_256, 500, 3), 256, NeoTileCodec.FORMAT_WIDE);
+        assertRoundTrip(randomTiles(NeoGrid.GRID_4096, 100, 4), 4096, NeoTileCodec.FORMAT_RAW);
+        
+        assertRoundTrip(new NeoTileCollection(NeoGrid.GRID_16), 16, NeoTileCodec.FORMAT_PACKED);
+        
+        System.out.println("Round trip format tests passed!");
+    }
+    
+    private static void testPaletteAndColorRuns() {
+        System.out.println("Testing palette and color runs...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.addMerged(new NeoTile(new NeoBox(0, 0, 0, 1, 1, 1), "minecraft:dirt"));
+        for (int i = 0; i < 8; i++) {
+            tiles.addMerged(new NeoTile(new NeoBox(i * 2, 4, 0, i * 2 + 1, 5, 1), "minecraft:stone"));
+        }
+        tiles.cut(new NeoBox(0, 0, 0, 1, 1, 1));
+        
+        NeoTileCodec.Encoded data = NeoTileCodec.encode(tiles.getStore(), 16);
+        assert data.states.length == 1 && "minecraft:stone".equals(data.states[0]) : "Unused states should not be written";
+        assert data.runs.length == 1 && data.runs[0] == 8 : "Run table should count tiles per state";
+        assert data.boxes.length == 8 : "Packed format should use one int per tile";
+        assert data.colors.length == 2 && data.colors[1] == 8 : "Equal colors should collapse into one run";
+        
+        System.out.println("Palette and color run tests passed!");
+    }
+    
+    private static void testRejectsBadData() {
+        System.out.println("Testing rejection of bad data...");
+        
+        NeoTileCodec.Encoded data = NeoTileCodec.encode(randomTiles(NeoGrid.GRID_16, 10, 5).getStore(), 16);
+        NeoTileCodec.Encoded future = new NeoTileCodec.Encoded((byte) (NeoTileCodec.VERSION + 1), data.format,
+            data.states, data.runs, data.boxes, data.colors);
+        NeoTileCodec.Encoded truncated = new NeoTileCodec.Encoded(data.version, data.format,
+            data.states, data.runs, new int[data.boxes.length - 1], data.colors);
+        
+        // Same total tile count, but one run is negative
+        assert data.runs.length >= 2 : "Test data should use several states";
+        int[] shifted = data.runs.clone();
+        shifted[0] += 1000;
+        shifted[1] -= 1000;
+        NeoTileCodec.Encoded negative = new NeoTileCodec.Encoded(data.version, data.format,
+            data.states, shifted, data.boxes, data.colors);
+        
+        // The first color run claims no tiles
+        int[] emptyRun = data.colors.clone();
+        emptyRun[1] = 0;
+        NeoTileCodec.Encoded emptyColor = new NeoTileCodec.Encoded(data.version, data.format,
+            data.states, data.runs, data.boxes, emptyRun);
+        
+        // Boxes outside the grid or empty ones are written in the raw format and rejected when read
+        NeoTileCollection outside = new NeoTileCollection(NeoGrid.GRID_16);
+        outside.addMerged(new NeoTile(new NeoBox(-2, 0, 0, 2, 4, 4), "minecraft:stone"));
+        NeoTileCodec.Encoded outsideData = NeoTileCodec.encode(outside.getStore(), 16);
+        assert outsideData.format == NeoTileCodec.FORMAT_RAW : "Tiles outside the grid should use the raw format";
+        int[] flipped = outsideData.boxes.clone();
+        flipped[0] = 0;
+        flipped[3] = 0;
+        NeoTileCodec.Encoded empty = new NeoTileCodec.Encoded(outsideData.version, outsideData.format,
+            outsideData.states, outsideData.runs, flipped, outsideData.colors);
+        
+        for (NeoTileCodec.Encoded bad : new NeoTileCodec.Encoded[] { future, truncated, negative, emptyColor, outsideData, empty }) {
+            boolean thrown = false;
+            try {
+                NeoTileCodec.decode(bad, 16, new NeoTileCollection(NeoGrid.GRID_16));
+            } catch (IllegalArgumentException e) {
+                thrown = true;
+            }
+            assert thrown : "Malformed data should be rejected";
+        }
+        
+        System.out.println("Bad data rejection tests passed!");
+    }
+}
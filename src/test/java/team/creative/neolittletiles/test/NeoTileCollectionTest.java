@@ -0,0 +1,154 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+
+import java.util.List;
+
+/**
+ * Unit tests for NeoTileCollection class
+ * Tests indexed tile storage and compaction without requiring Minecraft client startup
+ */
+public class NeoTileCollectionTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTileCollection Unit Tests ===");
+        
+        testQueryAndRemove();
+        testMergeOnInsert();
+        testFullCompaction();
+        testCut();
+        testAddUncovered();
+        testBounds();
+        
+        System.out.println("All NeoTileCollection tests completed successfully!");
+    }
+    
+    private static void testQueryAndRemove() {
+        System.out.println("Testing query and remove...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.addMerged(new NeoTile(new NeoBox(0, 0, 0, 4, 4, 4), "minecraft:stone"));
+        tiles.addMerged(new NeoTile(new NeoBox(4, 4, 4, 8, 8, 8), "minecraft:dirt", 0xFFFF0000));
+        tiles.addMerged(new NeoTile(new NeoBox(12, 12, 12, 16, 16, 16), "minecraft:dirt"));
+        
+        assert tiles.size() == 3 : "Non-adjacent tiles should not merge";
+        assert tiles.getTiles(new NeoBox(0, 0, 0, 8, 8, 8)).size() == 2 : "Query should find both near tiles";
+        assert !tiles.intersectsAny(new NeoBox(8, 8, 8, 12, 12, 12)) : "Gap should be empty";
+        
+        List<NeoTile> removed = tiles.removeIntersecting(new NeoBox(3, 3, 3, 13, 13, 13));
+        assert removed.size() == 3 : "All touched tiles should be removed";
+        assert tiles.isEmpty() : "Collection should be empty";
+        
+        System.out.println("Query and remove tests passed!");
+    }
+    
+    private static void testMergeOnInsert() {
+        System.out.println("Testing merge on insert...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        for (int x = 0; x < 16; x++) {
+            tiles.addMerged(new NeoTile(new NeoBox(x, 0, 0, x + 1, 1, 1), "minecraft:stone"));
+        }
+        assert tiles.size() == 1 : "A row of voxels should merge into one tile";
+        assert tiles.getTiles().get(0).getBox().equals(new NeoBox(0, 0, 0, 16, 1, 1)) : "Merged box should span the row";
+        
+        tiles.addMerged(new NeoTile(new NeoBox(0, 1, 0, 16, 2, 1), "minecraft:stone", 0xFF00FF00));
+        assert tiles.size() == 2 : "Different colors should not merge";
+        
+        tiles.addMerged(new NeoTile(new NeoBox(2, 0, 0, 3, 1, 1), "minecraft:stone"));
+        assert tiles.size() == 2 : "Tile already covered by an identical tile should not be added";
+        assert tiles.getTotalVolume() == 32 : "Volume should be unchanged";
+        
+        System.out.println("Merge on insert tests passed!");
+    }
+    
+    private static void testFullCompaction() {
+        System.out.println("Testing full compaction...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        NeoBox area = new NeoBox(0, 0, 0, 8, 8, 8);
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                for (int z = 0; z < 8; z++) {
+                    tiles.add(new NeoBox(x, y, z, x + 1, y + 1, z + 1), 
+                              new NeoTile(area, "minecraft:stone").getStateId(), 0xFFFFFFFF);
+                }
+            }
+        }
+        assert tiles.size() == 512 : "Raw inserts should not merge";
+        
+        int merges = tiles.compact();
+        assert merges == 511 : "Compaction should merge all voxels";
+        assert tiles.size() == 1 : "Cube of voxels should compact into one tile";
+        assert tiles.getTiles(area).get(0).getBox().equals(area) : "Compacted tile should cover the cube";
+        assert tiles.getTotalVolume() == 512 : "Compaction should preserve volume";
+        
+        System.out.println("Full compaction tests passed!");
+    }
+    
+    private static void testCut() {
+        System.out.println("Testing cut...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.addMerged(new NeoTile(new NeoBox(0, 0, 0, 16, 16, 16), "minecraft:stone"));
+        tiles.addMerged(new NeoTile(new NeoBox(0, 16, 0, 4, 20, 4), "minecraft:dirt"));
+        
+        List<NeoTile> removed = tiles.cut(new NeoBox(7, 7, 7, 8, 8, 8));
+        assert removed.size() == 1 : "Only the stone tile should be cut";
+        assert removed.get(0).getBox().equals(new NeoBox(7, 7, 7, 8, 8, 8)) : "Removed part should be clipped to the cut";
+        assert tiles.getTotalVolume() == 16 * 16 * 16 - 1 + 64 : "Only one voxel should be removed";
+        assert !tiles.intersectsAny(new NeoBox(7, 7, 7, 8, 8, 8)) : "Cut area should be empty";
+        assert tiles.intersectsAny(new NeoBox(6, 7, 7, 7, 8, 8)) : "Neighboring voxel should remain";
+        
+        removed = tiles.cut(new NeoBox(0, 0, 0, 16, 32, 16));
+        assert removed.size() == 7 : "All remainders should be cut";
+        assert tiles.isEmpty() : "Covering cut should clear everything";
+        
+        System.out.println("Cut tests passed!");
+    }
+    
+    private static void testAddUncovered() {
+        System.out.println("Testing overlap-free insert...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        tiles.addMerged(new NeoTile(new NeoBox(4, 4, 4, 8, 8, 8), "minecraft:stone"));
+        
+        NeoTile dirt = new NeoTile(new NeoBox(0, 0, 0, 16, 16, 16), "minecraft:dirt");
+        int added = tiles.addUncovered(dirt.getBox(), dirt.getStateId(), dirt.getColor());
+        assert added == 16 * 16 * 16 - 64 : "Only the uncovered volume should be added, got " + added;
+        assert tiles.getTotalVolume() == 16 * 16 * 16 : "Tiles should fill the block exactly once";
+        
+        List<NeoTile> all = tiles.getTiles();
+        for (int i = 0; i < all.size(); i++) {
+            for (int j = i + 1; j < all.size(); j++) {
+                assert !all.get(i).getBox().intersects(all.get(j).getBox()) : "Tiles should not overlap";
+            }
+        }
+        assert tiles.getTiles(new NeoBox(5, 5, 5, 6, 6, 6)).get(0).getState().equals("minecraft:stone") : "Existing tile should win";
+        
+        assert tiles.addUncovered(new NeoBox(1, 1, 1, 3, 3, 3), dirt.getStateId(), dirt.getColor()) == 0 : "Covered box should add nothing";
+        assert tiles.getTotalVolume() == 16 * 16 * 16 : "Covered insert should not change the tiles";
+        
+        System.out.println("Overlap-free insert tests passed!");
+    }
+    
+    private static void testBounds() {
+        System.out.println("Testing bounds...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        assert tiles.getBounds() == null : "Empty collection should have no bounds";
+        
+        tiles.addMerged(new NeoTile(new NeoBox(2, 0, 4, 6, 3, 5), "minecraft:stone"));
+        tiles.addMerged(new NeoTile(new NeoBox(8, 10, 1, 9, 12, 2), "minecraft:dirt"));
+        assert tiles.getBounds().equals(new NeoBox(2, 0, 1, 9, 12, 5)) : "Bounds should be the union of all tiles";
+        
+        System.out.println("Bounds tests passed!");
+    }
+}
@@ -0,0 +1,359 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.client.render.NeoFrustum;
+import team.creative.neolittletiles.client.render.NeoMeshBuffer;
+import team.creative.neolittletiles.client.render.NeoMeshWorkerPool;
+import team.creative.neolittletiles.client.render.NeoRenderBox;
+import team.creative.neolittletiles.client.render.NeoRenderBoxBuffer;
+import team.creative.neolittletiles.client.render.NeoTileLod;
+import team.creative.neolittletiles.client.render.NeoTileMesh;
+import team.creative.neolittletiles.client.render.NeoTileMesher;
+import team.creative.neolittletiles.client.render.NeoTranslucentSorter;
+import team.creative.neolittletiles.common.grid.NeoGrid;
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.math.NeoFace;
+import team.creative.neolittletiles.common.tile.NeoFaceMask;
+import team.creative.neolittletiles.common.tile.NeoTileCollection;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
+import team.creative.neolittletiles.common.tile.NeoTileSnapshot;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for NeoTileMesh class
+ * Tests mesh baking without requiring Minecraft client startup
+ */
+public class NeoTileMeshTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTileMesh Unit Tests ===");
+        
+        testQuadCount();
+        testWinding();
+        testRenderBoxBuffer();
+        testGreedy();
+        testWorkerPool();
+        testSnapshot();
+        testLevelOfDetail();
+        testFrustum();
+        testTranslucentSorting();
+        
+        System.out.println("All NeoTileMesh tests completed successfully!");
+    }
+    
+    private static void testQuadCount() {
+        System.out.println("Testing quad count...");
+        
+        NeoRenderBox full = new NeoRenderBox(new NeoBox(0, 0, 0, 8, 8, 8), NeoGrid.GRID_16, "minecraft:stone");
+        NeoRenderBox culled = new NeoRenderBox(new NeoBox(8, 0, 0, 16, 8, 8), NeoGrid.GRID_16, "minecraft:dirt", 0xFFFF0000);
+        culled.setVisibleFaces(NeoFace.UP.flag | NeoFace.EAST.flag);
+        
+        NeoTileMesh mesh = NeoTileMesh.build(List.of(full, culled));
+        assert mesh.getQuadCount() == 8 : "Mesh should contain one quad per visible face";
+        assert mesh.getVertices().length == 8 * NeoTileMesh.QUAD_STRIDE : "Vertex data should be tightly sized";
+        assert "minecraft:dirt".equals(mesh.getState(7)) : "Quads should keep their state";
+        assert mesh.getColor(7 * 4) == 0xFFFF0000 : "Vertices should keep their color";
+        
+        culled.setVisibleFaces(0);
+        assert NeoTileMesh.build(List.of(culled)).isEmpty() : "Fully culled boxes should produce no quads";
+        
+        System.out.println("Quad count tests passed!");
+    }
+    
+    private static void testWinding() {
+        System.out.println("Testing winding...");
+        
+        NeoRenderBox box = new NeoRenderBox(new NeoBox(4, 4, 4, 12, 12, 12), NeoGrid.GRID_16, "minecraft:stone");
+        NeoTileMesh mesh = NeoTileMesh.build(List.of(box));
+        
+        for (int quad = 0; quad < mesh.getQuadCount(); quad++) {
+            NeoFace face = mesh.getFace(quad);
+            int v = quad * 4;
+            float ax = mesh.getX(v + 1) - mesh.getX(v), ay = mesh.getY(v + 1) - mesh.getY(v), az = mesh.getZ(v + 1) - mesh.getZ(v);
+            float bx = mesh.getX(v + 2) - mesh.getX(v + 1), by = mesh.getY(v + 2) - mesh.getY(v + 1), bz = mesh.getZ(v + 2) - mesh.getZ(v + 1);
+            float[] normal = { ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx };
+            
+            for (int axis = 0; axis < 3; axis++) {
+                float expected = axis != face.axis ? 0 : face.positive ? 1 : -1;
+                assert Math.signum(normal[axis]) == expected : "Quad for " + face + " should face outwards";
+            }
+            
+            float plane = face.positive ? 0.75F : 0.25F;
+            float coordinate = face.axis == 0 ? mesh.getX(v) : face.axis == 1 ? mesh.getY(v) : mesh.getZ(v);
+            assert coordinate == plane : "Quad for " + face + " should lie on its plane";
+        }
+        
+        System.out.println("Winding tests passed!");
+    }
+    
+    private static void testRenderBoxBuffer() {
+        System.out.println("Testing render box buffer...");
+        
+        NeoRenderBoxBuffer buffer = new NeoRenderBoxBuffer(1);
+        buffer.clear(NeoGrid.GRID_16);
+        int stone = NeoTilePalette.GLOBAL.intern("minecraft:stone");
+        buffer.add(new NeoBox(0, 0, 0, 8, 8, 8), stone, 0xFFFFFFFF, NeoFace.ALL);
+        buffer.add(new NeoBox(8, 4, 0, 16, 16, 2), stone, 0xFF00FF00, NeoFace.UP.flag);
+        buffer.computeWorldCoords();
+        
+        assert buffer.size() == 2 : "Buffer should grow past its initial capacity";
+        assert buffer.getWorldCoord(1, 1, false) == 0.25F && buffer.getWorldCoord(1, 2, true) == 0.125F : "World coordinates should be scaled by the pixel size";
+        assert "minecraft:stone".equals(buffer.getState(0)) : "States should resolve through the palette";
+        
+        NeoTileMesh mesh = NeoTileMesh.build(buffer);
+        assert mesh.getQuadCount() == 7 : "Buffered mesh should have one quad per visible face";
+        assert mesh.getColor(6 * 4) == 0xFF00FF00 && mesh.getY(6 * 4) == 1F : "Last quad should be the green top face";
+        
+        // Reuse keeps the arrays
+        float[] world = buffer.getWorldCoords();
+        buffer.clear(NeoGrid.GRID_8);
+        buffer.add(new NeoBox(0, 0, 0, 4, 4, 4), stone, 0xFFFFFFFF, NeoFace.ALL);
+        buffer.computeWorldCoords();
+        assert buffer.getWorldCoords() == world : "Cleared buffer should reuse its arrays";
+        assert buffer.size() == 1 && buffer.getWorldCoord(0, 0, true) == 0.5F : "Cleared buffer should use the new grid";
+        
+        System.out.println("Render box buffer tests passed!");
+    }
+    
+    private static void testGreedy() {
+        System.out.println("Testing greedy meshing...");
+        
+        // 4 x 4 wall of single-cell tiles, only the front faces visible
+        List<NeoRenderBox> wall = new ArrayList<>();
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                NeoRenderBox box = new NeoRenderBox(new NeoBox(x, y, 0, x + 1, y + 1, 1), NeoGrid.GRID_16, "minecraft:stone");
+                box.setVisibleFaces(NeoFace.NORTH.flag);
+                wall.add(box);
+            }
+        }
+        NeoTileMesh mesh = NeoTileMesher.buildGreedyMesh(wall, 16);
+        assert mesh.getQuadCount() == 1 : "Flat wall should collapse into a single quad";
+        assert area(mesh) == 16 : "Merged quad should cover the whole wall";
+        
+        // Different colors never merge
+        NeoRenderBox red = new NeoRenderBox(new NeoBox(0, 0, 0, 1, 1, 1), NeoGrid.GRID_16, "minecraft:stone", 0xFFFF0000);
+        red.setVisibleFaces(NeoFace.NORTH.flag);
+        wall.set(0, red);
+        mesh = NeoTileMesher.buildGreedyMesh(wall, 16);
+        assert mesh.getQuadCount() == 3 : "Recolored corner should split the wall into three quads";
+        assert area(mesh) == 16 : "Split quads should still cover the whole wall";
+        
+        // L shape on one plane: two rectangles
+        NeoRenderBox a = new NeoRenderBox(new NeoBox(0, 0, 0, 4, 1, 1), NeoGrid.GRID_16, "minecraft:stone");
+        NeoRenderBox b = new NeoRenderBox(new NeoBox(0, 1, 0, 1, 4, 1), NeoGrid.GRID_16, "minecraft:stone");
+        a.setVisibleFaces(NeoFace.NORTH.flag);
+        b.setVisibleFaces(NeoFace.NORTH.flag);
+        mesh = NeoTileMesher.buildGreedyMesh(List.of(a, b), 16);
+        assert mesh.getQuadCount() == 2 && area(mesh) == 7 : "L shape should need two quads";
+        
+        // Per-box baking of the same full boxes for comparison
+        NeoRenderBox left = new NeoRenderBox(new NeoBox(0, 0, 0, 8, 8, 8), NeoGrid.GRID_16, "minecraft:stone");
+        NeoRenderBox right = new NeoRenderBox(new NeoBox(8, 0, 0, 16, 8, 8), NeoGrid.GRID_16, "minecraft:stone");
+        left.setVisibleFaces(NeoFace.ALL & ~NeoFace.EAST.flag);
+        right.setVisibleFaces(NeoFace.ALL & ~NeoFace.WEST.flag);
+        assert NeoTileMesh.build(List.of(left, right)).getQuadCount() == 10 : "Per-box mesh has one quad per face";
+        assert NeoTileMesher.buildGreedyMesh(List.of(left, right), 16).getQuadCount() == 6 : "Greedy mesh should merge coplanar faces";
+        
+        System.out.println("Greedy meshing tests passed!");
+    }
+    
+    // Summed quad area in grid cells of a 16 grid
+    private static int area(NeoTileMesh mesh) {
+        float area = 0;
+        for (int quad = 0; quad < mesh.getQuadCount(); quad++) {
+            int v = quad * 4;
+            float dx = Math.abs(mesh.getX(v + 2) - mesh.getX(v)), dy = Math.abs(mesh.getY(v + 2) - mesh.getY(v)), dz = Math.abs(mesh.getZ(v + 2) - mesh.getZ(v));
+            NeoFace face = mesh.getFace(quad);
+            area += face.axis == 0 ? dy * dz : face.axis == 1 ? dx * dz : dx * dy;
+        }
+        return Math.round(area * 256);
+    }
+    
+    private static void testWorkerPool() {
+        System.out.println("Testing worker pool...");
+        
+        NeoTileStore store = new NeoTileStore();
+        store.add(new NeoBox(0, 0, 0, 8, 8, 8), "minecraft:stone", 0xFFFFFFFF);
+        store.add(new NeoBox(8, 0, 0, 16, 8, 8), "minecraft:stone", 0xFFFFFFFF);
+        NeoFaceMask[] noNeighbors = new NeoFaceMask[6];
+        
+        // Zero threads: jobs only run through runNext()
+        NeoMeshWorkerPool pool = new NeoMeshWorkerPool(0);
+        NeoMeshBuffer far = new NeoMeshBuffer();
+        NeoMeshBuffer near = new NeoMeshBuffer();
+        pool.submit(far, NeoGrid.GRID_16, store.copy(), noNeighbors, 100);
+        pool.submit(near, NeoGrid.GRID_16, store.copy(), noNeighbors, 1);
+        
+        assert pool.runNext() : "Pending job should run";
+        assert near.swap() && !far.swap() : "Nearest block should be built first";
+        assert near.getFront().getQuadCount() == 6 : "Worker should cull and merge the faces";
+        assert !far.hasMesh() && far.getFront().isEmpty() : "Unbuilt buffer should expose an empty mesh";
+        
+        // A newer request makes the queued job stale
+        pool.submit(far, NeoGrid.GRID_16, store.copy(), noNeighbors, 100);
+        assert pool.getPendingCount() == 2 : "Both builds should be queued";
+        assert pool.runNext() && pool.runNext() && !pool.runNext() : "Queue should drain";
+        assert pool.getCancelledCount() == 1 : "Superseded build should be cancelled";
+        assert pool.uploadReady() == 1 && far.getFront().getQuadCount() == 6 : "Latest build should be uploaded";
+        
+        // Results of a build that was superseded while running are dropped
+        long generation = far.request();
+        far.request();
+        assert !far.offer(generation, NeoTileMesh.EMPTY) : "Stale result should be rejected";
+        assert !far.swap() && far.getFront().getQuadCount() == 6 : "Front mesh should stay until a current build finishes";
+        
+        // A build in flight is not superseded while nothing changed (one call per frame)
+        NeoMeshWorkerPool frames = new NeoMeshWorkerPool(0);
+        NeoMeshBuffer slow = new NeoMeshBuffer();
+        boolean tilesChanged = true;
+        for (int frame = 0; frame < 3; frame++) {
+            if (slow.needsBuild(tilesChanged, NeoTileLod.Level.FULL)) {
+                frames.submit(slow, NeoGrid.GRID_16, store.copy(), noNeighbors, 0);
+            }
+            tilesChanged = false;
+        }
+        assert frames.getSubmittedCount() == 1 && slow.isPending() : "Unchanged block should only be submitted once";
+        assert frames.runNext() && frames.getCancelledCount() == 0 : "First build should not be cancelled";
+        assert frames.uploadReady() == 1 && !slow.isPending() : "Upload should finish the build in flight";
+        assert !slow.needsBuild(false, NeoTileLod.Level.FULL) : "Built block should not be rebuilt without changes";
+        assert slow.needsBuild(true, NeoTileLod.Level.FULL) && slow.needsBuild(false, NeoTileLod.Level.REDUCED) : "Tile or detail changes should rebuild";
+        
+        // Real threads
+        NeoMeshWorkerPool threaded = new NeoMeshWorkerPool(2);
+        NeoMeshBuffer buffer = new NeoMeshBuffer();
+        threaded.submit(buffer, NeoGrid.GRID_16, store.copy(), noNeighbors, 0);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (threaded.uploadReady() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        threaded.shutdown();
+        assert buffer.getFront().getQuadCount() == 6 : "Worker thread should build the mesh";
+        
+        System.out.println("Worker pool tests passed!");
+    }
+    
+    private static void testSnapshot() {
+        System.out.println("Testing section model snapshot...");
+        
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        int stone = NeoTilePalette.GLOBAL.intern("minecraft:stone");
+        tiles.add(new NeoBox(0, 0, 0, 8, 8, 8), stone, 0xFFFFFFFF);
+        tiles.add(new NeoBox(8, 0, 0, 16, 8, 8), stone, 0xFFFFFFFF);
+        
+        NeoTileSnapshot snapshot = new NeoTileSnapshot(NeoGrid.GRID_16, tiles.getStore().copy(), new NeoFaceMask[6]);
+        assert !snapshot.isBaked() : "Taking a snapshot should not mesh";
+        
+        // Later edits of the live tiles do not leak into the snapshot
+        tiles.add(new NeoBox(0, 8, 0, 4, 12, 4), stone, 0xFFFFFFFF);
+        NeoTileMesh mesh = snapshot.getBaked(NeoTileMesher::buildMesh);
+        assert snapshot.isBaked() && snapshot.getTileCount() == 2 : "Snapshot should keep its own tiles";
+        assert mesh.getQuadCount() == 6 : "Snapshot should be culled and merged like the live tiles";
+        assert snapshot.<NeoTileMesh>getBaked(NeoTileMesher::buildMesh) == mesh : "Mesh should be built once and shared";
+        
+        System.out.println("Section model snapshot tests passed!");
+    }
+    
+    private static void testLevelOfDetail() {
+        System.out.println("Testing level of detail...");
+        
+        assert NeoTileLod.getLevel(0) == NeoTileLod.Level.FULL : "Near blocks should use full detail";
+        assert NeoTileLod.getLevel(40 * 40) == NeoTileLod.Level.REDUCED : "Blocks past the first band should be reduced";
+        assert NeoTileLod.getLevel(100 * 100) == NeoTileLod.Level.CUBE : "Blocks past the second band should be cubes";
+        assert NeoTileLod.getLevel(500 * 500) == NeoTileLod.Level.IMPOSTOR : "Blocks past the last band should be impostors";
+        assert NeoTileLod.getLevel(31 * 31, NeoTileLod.Level.REDUCED) == NeoTileLod.Level.REDUCED : "Hysteresis should keep the coarser level near the edge";
+        assert NeoTileLod.getLevel(20 * 20, NeoTileLod.Level.REDUCED) == NeoTileLod.Level.FULL : "Coming closer should refine";
+        
+        // Lower half filled with 1 x 1 pillars of alternating colors, mostly stone
+        NeoTileCollection tiles = new NeoTileCollection(NeoGrid.GRID_16);
+        NeoTileStore store = tiles.getStore();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                store.add(new NeoBox(x, 0, z, x + 1, 8, z + 1), (x + z) % 4 == 0 ? "minecraft:dirt" : "minecraft:stone", 0xFFFFFFFF);
+            }
+        }
+        tiles = new NeoTileCollection(NeoGrid.GRID_16, store);
+        NeoFaceMask[] noNeighbors = new NeoFaceMask[6];
+        
+        NeoTileMesh full = NeoTileLod.buildMesh(tiles, noNeighbors, NeoTileLod.Level.FULL);
+        NeoTileMesh reduced = NeoTileLod.buildMesh(tiles, noNeighbors, NeoTileLod.Level.REDUCED);
+        assert reduced.getQuadCount() == 6 : "Reduced slab should become one box, got " + reduced.getQuadCount();
+        assert reduced.getQuadCount() < full.getQuadCount() : "Reduced mesh should be cheaper than the full one";
+        assert "minecraft:stone".equals(reduced.getState(0)) : "Cells should take the dominant state";
+        
+        NeoTileMesh cube = NeoTileLod.buildMesh(tiles, noNeighbors, NeoTileLod.Level.CUBE);
+        assert cube.getQuadCount() == 6 && "minecraft:stone".equals(cube.getState(0)) : "Cube should be one dominant box";
+        
+        NeoTileMesh impostor = NeoTileLod.buildMesh(tiles, noNeighbors, NeoTileLod.Level.IMPOSTOR);
+        assert impostor.getQuadCount() == 1 && impostor.getFace(0) == NeoFace.UP : "Impostor should be a single top quad";
+        assert impostor.getY(0) == 0.5F : "Impostor should sit on top of the tiles";
+        
+        System.out.println("Level of detail tests passed!");
+    }
+    
+    private static void testFrustum() {
+        System.out.println("Testing frustum...");
+        
+        // Identity: the visible volume is the cube -1 to 1 around the camera
+        float[] identity = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1 };
+        NeoFrustum frustum = new NeoFrustum(identity, 100, 64, -20);
+        assert frustum.isVisible(100, 64, -20, 100.5, 64.5, -19.5) : "Box at the camera should be visible";
+        assert frustum.isVisible(100.5, 64.5, -20.5, 102, 66, -18) : "Box crossing the planes should be visible";
+        assert !frustum.isVisible(102, 64, -20, 103, 65, -19) : "Box right of the frustum should be culled";
+        assert !frustum.isVisible(100, 60, -20, 101, 62, -19) : "Box below the frustum should be culled";
+        
+        // Perspective looking down -z (near 0.1, far 100, 90 degree fov)
+        float near = 0.1F, far = 100;
+        float[] perspective = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, -(far + near) / (far - near), -1, 0, 0, -2 * far * near / (far - near), 0 };
+        frustum = new NeoFrustum(perspective, 0, 0, 0);
+        assert frustum.isVisible(-1, -1, -11, 1, 1, -10) : "Box in front of the camera should be visible";
+        assert !frustum.isVisible(-1, -1, 10, 1, 1, 11) : "Box behind the camera should be culled";
+        assert !frustum.isVisible(20, -1, -11, 21, 1, -10) : "Box outside the field of view should be culled";
+        assert !frustum.isVisible(-1, -1, -300, 1, 1, -200) : "Box beyond the far plane should be culled";
+        
+        System.out.println("Frustum tests passed!");
+    }
+    
+    private static void testTranslucentSorting() {
+        System.out.println("Testing translucent sorting...");
+        
+        // Glass panes along x, only their north faces, plus one opaque box
+        List<NeoRenderBox> boxes = new ArrayList<>();
+        for (int x = 0; x < 16; x += 2) {
+            NeoRenderBox pane = new NeoRenderBox(new NeoBox(x, 0, 0, x + 1, 1, 1), NeoGrid.GRID_16, "minecraft:glass", 0x80FFFFFF);
+            pane.setVisibleFaces(NeoFace.NORTH.flag);
+            boxes.add(pane);
+        }
+        boxes.add(1, new NeoRenderBox(new NeoBox(0, 8, 0, 1, 9, 1), NeoGrid.GRID_16, "minecraft:stone"));
+        NeoTileMesh mesh = NeoTileMesh.build(boxes);
+        
+        assert mesh.getOpaqueQuadCount() == 6 && mesh.getTranslucentQuadCount() == 8 : "Mesh should split opaque and translucent quads";
+        for (int quad = 0; quad < mesh.getQuadCount(); quad++) {
+            boolean translucent = (mesh.getColor(quad * 4) >>> 24) != 0xFF;
+            assert translucent == mesh.isTranslucent(quad) : "Opaque quads should come before translucent ones";
+        }
+        
+        // Camera far to the +x side: panes with low x are farthest
+        NeoTranslucentSorter sorter = new NeoTranslucentSorter(mesh);
+        int[] order = sorter.sort(20, 0, -1);
+        assert order.length == 8 : "Only translucent quads should be sorted";
+        for (int i = 1; i < order.length; i++) {
+            assert mesh.getX(order[i - 1] * 4) < mesh.getX(order[i] * 4) : "Panes should be ordered back to front";
+        }
+        
+        // Small camera moves reuse the order, bigger ones flip it
+        sorter.sort(20.01F, 0, -1);
+        assert sorter.getSortCount() == 1 && sorter.getReuseCount() == 1 : "Tiny movement should reuse the previous order";
+        order = sorter.sort(-20, 0, -1);
+        assert sorter.getSortCount() == 2 : "Large movement should re-sort";
+        assert mesh.getX(order[0] * 4) > mesh.getX(order[7] * 4) : "Order should flip with the camera";
+        
+        System.out.println("Translucent sorting tests passed!");
+    }
+}
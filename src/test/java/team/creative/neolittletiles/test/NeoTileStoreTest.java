@@ -0,0 +1,93 @@
+package team.creative.neolittletiles.test;
+
+import team.creative.neolittletiles.common.math.NeoBox;
+import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTileStore;
+
+/**
+ * Unit tests for NeoTileStore class
+ * Tests packed tile storage without requiring Minecraft client startup
+ */
+public class NeoTileStoreTest {
+    
+    public static void main(String[] args) {
+        runAllTests();
+    }
+    
+    public static void runAllTests() {
+        System.out.println("=== NeoTileStore Unit Tests ===");
+        
+        testAddAndGet();
+        testSwapRemove();
+        testGrowthAndVolume();
+        
+        System.out.println("All NeoTileStore tests completed successfully!");
+    }
+    
+    private static void testAddAndGet() {
+        System.out.println("Testing add and get...");
+        
+        NeoTileStore store = new NeoTileStore();
+        NeoTile stone = new NeoTile(new NeoBox(0, 0, 0, 4, 4, 4), "minecraft:stone");
+        NeoTile dirt = new NeoTile(new NeoBox(4, 0, 0, 8, 4, 4), "minecraft:dirt", 0xFFFF0000);
+        
+        assert store.add(stone) == 0 : "First tile should get slot 0";
+        assert store.add(dirt) == 1 : "Second tile should get slot 1";
+        assert store.size() == 2 : "Store should hold 2 tiles";
+        
+        assert store.get(0).equals(stone) : "Materialized tile should equal original";
+        assert store.get(1).equals(dirt) : "Materialized colored tile should equal original";
+        assert store.get(0) != store.get(0) : "Views should be materialized on demand";
+        assert store.getState(1).equals("minecraft:dirt") : "State should be resolved via palette";
+        
+        assert store.intersects(0, new NeoBox(3, 3, 3, 5, 5, 5)) : "Slot should intersect overlapping box";
+        assert !store.intersects(0, new NeoBox(4, 0, 0, 5, 1, 1)) : "Slot should not intersect touching box";
+        
+        System.out.println("Add and get tests passed!");
+    }
+    
+    private static void testSwapRemove() {
+        System.out.println("Testing swap remove...");
+        
+        NeoTileStore store = new NeoTileStore();
+        for (int i = 0; i < 4; i++) {
+            store.add(new NeoBox(i, 0, 0, i + 1, 1, 1), "minecraft:stone", 0xFFFFFFFF);
+        }
+        
+        assert store.remove(1) == 3 : "Removing a middle slot should move the last slot";
+        assert store.getMinX(1) == 3 : "Last tile should now occupy slot 1";
+        assert store.remove(2) == -1 : "Removing the last slot should move nothing";
+        assert store.size() == 2 : "Store should hold 2 tiles";
+        
+        boolean thrown = false;
+        try {
+            store.get(2);
+        } catch (IndexOutOfBoundsException e) {
+            thrown = true;
+        }
+        assert thrown : "Accessing a removed slot should fail";
+        
+        System.out.println("Swap remove tests passed!");
+    }
+    
+    private static void testGrowthAndVolume() {
+        System.out.println("Testing growth and volume...");
+        
+        NeoTileStore store = new NeoTileStore(1);
+        int expectedVolume = 0;
+        for (int i = 0; i < 1000; i++) {
+            NeoBox box = new NeoBox(0, 0, 0, 1 + i % 4, 1, 2);
+            expectedVolume += box.getVolume();
+            store.add(box, i % 2 == 0 ? "minecraft:stone" : "minecraft:dirt", 0xFFFFFFFF);
+        }
+        
+        assert store.size() == 1000 : "Store should grow to hold all tiles";
+        assert store.getTotalVolume() == expectedVolume : "Total volume should match sum of boxes";
+        assert store.toList().size() == 1000 : "List view should contain all tiles";
+        
+        store.clear();
+        assert store.isEmpty() : "Cleared store should be empty";
+        
+        System.out.println("Growth and volume tests passed!");
+    }
+}
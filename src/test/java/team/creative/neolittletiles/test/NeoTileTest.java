@@ -3,6 +3,7 @@ package team.creative.neolittletiles.test;
 import team.creative.neolittletiles.common.grid.NeoGrid;
 import team.creative.neolittletiles.common.math.NeoBox;
 import team.creative.neolittletiles.common.tile.NeoTile;
+import team.creative.neolittletiles.common.tile.NeoTilePalette;
 
 /**
  * Unit tests for NeoTile class
@@ -22,6 +23,7 @@ public class NeoTileTest {
         testVolumeCalculations();
         testIntersectionDetection();
         testEqualsAndHashCode();
+        testPaletteInterning();
         
         System.out.println("All NeoTile tests completed successfully!");
     }
@@ -161,4 +163,26 @@ public class NeoTileTest {
         
         System.out.println("Equals and hashCode tests passed!");
     }
-}
\ No newline at end of file
+    
+    private static void testPaletteInterning() {
+        System.out.println("Testing palette interning...");
+        
+        // Equal but distinct state objects should share one palette id
+        String state1 = new String("minecraft:oak_planks");
+        String state2 = new String("minecraft:oak_planks");
+        int id1 = NeoTilePalette.GLOBAL.intern(state1);
+        int id2 = NeoTilePalette.GLOBAL.intern(state2);
+        assert id1 == id2 : "Equal states should intern to the same id";
+        assert NeoTilePalette.GLOBAL.get(id1) == state1 : "Palette should keep the first interned instance";
+        assert NeoTilePalette.GLOBAL.intern(null) == NeoTilePalette.NO_STATE : "Null state should map to NO_STATE";
+        
+        NeoBox box = new NeoBox(0, 0, 0, 2, 2, 2);
+        NeoTile tile1 = new NeoTile(box, state1);
+        NeoTile tile2 = NeoTile.fromPalette(box, id2, 0xFFFFFFFF);
+        assert tile1.getStateId() == id1 : "Tile should store interned id";
+        assert tile1.equals(tile2) : "Tiles from state and from palette id should be equal";
+        assert tile2.getState().equals("minecraft:oak_planks") : "Tile should resolve state through palette";
+        
+        System.out.println("Palette interning tests passed!");
+    }
+}
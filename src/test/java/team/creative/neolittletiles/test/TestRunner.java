@@ -29,6 +29,33 @@ public class TestRunner {
             NeoTileTest.runAllTests();
             System.out.println();
             
+            NeoBoxOctreeTest.runAllTests();
+            System.out.println();
+            
+            NeoTileStoreTest.runAllTests();
+            System.out.println();
+            
+            NeoTileCollectionTest.runAllTests();
+            System.out.println();
+            
+            NeoTileCodecTest.runAllTests();
+            System.out.println();
+            
+            NeoTileChangeLogTest.runAllTests();
+            System.out.println();
+            
+            NeoTickBatcherTest.runAllTests();
+            System.out.println();
+            
+            NeoRateLimiterTest.runAllTests();
+            System.out.println();
+            
+            NeoFaceCoverageTest.runAllTests();
+            System.out.println();
+            
+            NeoTileMeshTest.runAllTests();
+            System.out.println();
+            
             // Run integration tests
             runIntegrationTests();
             